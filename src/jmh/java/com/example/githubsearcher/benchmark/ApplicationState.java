@@ -0,0 +1,77 @@
+package com.example.githubsearcher.benchmark;
+
+import com.example.githubsearcher.GithubsearcherApplication;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+
+/**
+ * Application context backed by an embedded PostgreSQL, shared by the
+ * benchmarks of one fork.
+ *
+ * <p>
+ * The database is a real PostgreSQL binary (pinned in the
+ * {@code benchmarks} profile) started from a fresh data directory, so
+ * the Flyway migrations and the PostgreSQL specific upsert run unchanged
+ * and every fork starts from an empty schema. No Docker is needed.
+ * </p>
+ *
+ * <p>
+ * The context starts without a web server and with SQL logging off,
+ * which would otherwise dominate the measured time of the JPA path.
+ * </p>
+ */
+@State(Scope.Benchmark)
+public class ApplicationState {
+
+    private EmbeddedPostgres postgres;
+
+    private ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void start() throws IOException {
+
+        postgres = EmbeddedPostgres.builder().start();
+
+        context = new SpringApplicationBuilder(GithubsearcherApplication.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                .run(
+                        "--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                        "--spring.datasource.username=postgres",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.org.hibernate.SQL=WARN",
+                        "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+                );
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() throws IOException {
+        try {
+            context.close();
+        } finally {
+            postgres.close();
+        }
+    }
+
+    /**
+     * @param type Bean type
+     * @param <T>  Bean type
+     * @return the bean of the given type
+     */
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.githubsearcher.benchmark;
+
+import com.example.githubsearcher.dto.github.GitHubSearchResponseDto;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Fixed inputs shared by the benchmarks.
+ *
+ * <p>
+ * The payloads in {@code src/jmh/resources/github} are search responses
+ * with 30 (GitHub's default page size) and 100 (the maximum) items. Items
+ * carry the full field set GitHub returns (around 80 fields, owner and
+ * license objects, topics), of which the application keeps eight.
+ * The files are never regenerated, so results stay comparable across commits.
+ * </p>
+ */
+public final class BenchmarkData {
+
+    /**
+     * Mapper with default settings, like the one the client is built with.
+     */
+    public static final ObjectMapper MAPPER = JsonMapper.builder().build();
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * @param items Page size of the payload (30 or 100)
+     * @return raw JSON of a search response
+     */
+    public static byte[] searchPayload(int items) {
+
+        String resource = "/github/search-" + items + ".json";
+
+        try (InputStream in = BenchmarkData.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalArgumentException("No payload " + resource);
+            }
+            return in.readAllBytes();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * @param items Page size of the payload (30 or 100)
+     * @return deserialized search response
+     */
+    public static GitHubSearchResponseDto searchPage(int items) {
+        return MAPPER.readValue(searchPayload(items), GitHubSearchResponseDto.class);
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.githubsearcher.client;
+
+import com.example.githubsearcher.benchmark.BenchmarkData;
+import com.example.githubsearcher.dto.github.GitHubRepositoryDto;
+import com.example.githubsearcher.dto.github.GitHubSearchResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deserialization of a search page into the {@code dto.github} DTOs.
+ *
+ * <p>
+ * Compares binding the whole body at once, as the Jackson codec does for
+ * the pages of all-pages searches, to {@link GitHubSearchPageDecoder}
+ * (single page searches), which skips the fields the DTOs do not keep. The
+ * decoder is fed network sized chunks, like a response body arrives.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class SearchResponseDeserializationBenchmark {
+
+    private static final int CHUNK_SIZE = 8192;
+
+    @Param({"30", "100"})
+    private int items;
+
+    private byte[] payload;
+
+    @Setup
+    public void setUp() {
+        payload = BenchmarkData.searchPayload(items);
+    }
+
+    @Benchmark
+    public GitHubSearchResponseDto objectMapper() {
+        return BenchmarkData.MAPPER.readValue(payload, GitHubSearchResponseDto.class);
+    }
+
+    @Benchmark
+    public List<GitHubRepositoryDto> pageDecoder() {
+
+        GitHubSearchPageDecoder decoder = new GitHubSearchPageDecoder(BenchmarkData.MAPPER);
+        List<GitHubRepositoryDto> result = new ArrayList<>(items);
+
+        for (int from = 0; from < payload.length; from += CHUNK_SIZE) {
+            int length = Math.min(CHUNK_SIZE, payload.length - from);
+            result.addAll(decoder.feed(DefaultDataBufferFactory.sharedInstance.wrap(
+                    ByteBuffer.wrap(payload, from, length))));
+        }
+        result.addAll(decoder.finish());
+
+        return result;
+    }
+}
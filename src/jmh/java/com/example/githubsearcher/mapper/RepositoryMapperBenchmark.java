@@ -0,0 +1,60 @@
+package com.example.githubsearcher.mapper;
+
+import com.example.githubsearcher.benchmark.BenchmarkData;
+import com.example.githubsearcher.dto.RepositoryResponseDto;
+import com.example.githubsearcher.dto.github.GitHubRepositoryDto;
+import com.example.githubsearcher.entity.RepositoryEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping of one search page: GitHub items to entities before the
+ * upsert, and entities to response DTOs after it.
+ *
+ * <p>
+ * Input are the items of the recorded search payloads.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class RepositoryMapperBenchmark {
+
+    @Param({"30", "100"})
+    private int items;
+
+    private List<GitHubRepositoryDto> gitHubRepositories;
+
+    private List<RepositoryEntity> entities;
+
+    @Setup
+    public void setUp() {
+        gitHubRepositories = BenchmarkData.searchPage(items).getItems();
+        entities = RepositoryMapper.toEntityList(gitHubRepositories);
+    }
+
+    @Benchmark
+    public List<RepositoryEntity> toEntityList() {
+        return RepositoryMapper.toEntityList(gitHubRepositories);
+    }
+
+    @Benchmark
+    public List<RepositoryResponseDto> toResponseDtoList() {
+        return RepositoryMapper.toResponseDtoList(entities);
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.githubsearcher.repository;
+
+import com.example.githubsearcher.benchmark.ApplicationState;
+import com.example.githubsearcher.entity.RepositoryEntity;
+import com.example.githubsearcher.repository.RepositoryEntityRepositoryCustom.UpsertResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writing a batch of repositories: JPA {@code saveAll} versus the bulk
+ * {@code upsertAll} used by the search endpoints.
+ *
+ * <p>
+ * The rows are created once per trial, so both variants measure the
+ * common case of a refreshed search: every row exists and carries a
+ * newer {@code lastUpdated}, so every row is updated.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class RepositoryPersistenceBenchmark {
+
+    private static final Instant BASE = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Param({"100", "1000"})
+    private int batchSize;
+
+    private RepositoryEntityRepository repository;
+
+    private List<RepositoryEntity> batch;
+
+    private long version;
+
+    @Setup(Level.Trial)
+    public void setUp(ApplicationState application) {
+        repository = application.bean(RepositoryEntityRepository.class);
+        repository.upsertAll(nextVersion());
+    }
+
+    /**
+     * Entities are built outside the measurement; a batch takes
+     * milliseconds, so the per-invocation setup does not distort it.
+     */
+    @Setup(Level.Invocation)
+    public void nextBatch() {
+        batch = nextVersion();
+    }
+
+    @Benchmark
+    public List<RepositoryEntity> saveAll() {
+        return repository.saveAll(batch);
+    }
+
+    @Benchmark
+    public UpsertResult upsertAll() {
+        return repository.upsertAll(batch);
+    }
+
+    private List<RepositoryEntity> nextVersion() {
+
+        version++;
+        List<RepositoryEntity> rows = new ArrayList<>(batchSize);
+
+        for (long id = 1; id <= batchSize; id++) {
+            rows.add(RepositoryEntity.builder()
+                    .id(id)
+                    .name("repo" + id)
+                    .description("Benchmark repository " + id)
+                    .owner("owner" + id % 97)
+                    .language(id % 3 == 0 ? "Kotlin" : "Java")
+                    .stars((int) (id * 7 + version))
+                    .forks((int) (id + version))
+                    .lastUpdated(BASE.plusSeconds(version))
+                    .build());
+        }
+
+        return rows;
+    }
+}
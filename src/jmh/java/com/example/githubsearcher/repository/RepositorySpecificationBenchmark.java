@@ -0,0 +1,87 @@
+package com.example.githubsearcher.repository;
+
+import com.example.githubsearcher.benchmark.ApplicationState;
+import com.example.githubsearcher.entity.RepositoryEntity;
+import com.example.githubsearcher.repository.specification.RepositoryCursor;
+import com.example.githubsearcher.repository.specification.RepositorySpecification;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building the query of {@code GET /api/github/repositories} from
+ * {@link RepositorySpecification}s, without executing it.
+ *
+ * <p>
+ * {@link #compose()} only chains the specifications like the service
+ * does for a page after a cursor; {@link #createQuery()} also turns them
+ * into a criteria query and lets Hibernate prepare it.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class RepositorySpecificationBenchmark {
+
+    private static final RepositoryCursor CURSOR = new RepositoryCursor("stars", "1500", 4711L);
+
+    private EntityManager entityManager;
+
+    @Setup(Level.Trial)
+    public void setUp(ApplicationState application) {
+        entityManager = application.bean(EntityManagerFactory.class).createEntityManager();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManager.close();
+    }
+
+    @Benchmark
+    public Specification<RepositoryEntity> compose() {
+        return specification();
+    }
+
+    @Benchmark
+    public TypedQuery<RepositoryEntity> createQuery() {
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<RepositoryEntity> query = cb.createQuery(RepositoryEntity.class);
+        Root<RepositoryEntity> root = query.from(RepositoryEntity.class);
+
+        Predicate predicate = specification().toPredicate(root, query, cb);
+        query.where(predicate)
+                .orderBy(cb.desc(root.get("stars")), cb.desc(root.get("id")));
+
+        return entityManager.createQuery(query).setMaxResults(100);
+    }
+
+    private static Specification<RepositoryEntity> specification() {
+        return Specification
+                .where(RepositorySpecification.hasLanguage("Java"))
+                .and(RepositorySpecification.hasMinStars(100))
+                .and(CURSOR.seek("stars"));
+    }
+}
@@ -0,0 +1,387 @@
+package com.example.githubsearcher.cache;
+
+import com.example.githubsearcher.dto.RepositoryResponseDto;
+import com.example.githubsearcher.entity.RepositoryEntity;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Immutable, column oriented copy of a set of stored repositories.
+ *
+ * <p>
+ * Every row occupies one slot across parallel arrays:
+ * <ul>
+ *     <li>stars, forks and last updated (epoch seconds) as primitives</li>
+ *     <li>language and owner as codes into a per-snapshot dictionary</li>
+ *     <li>name and description as plain strings, only read for the final page</li>
+ * </ul>
+ * For each sort key a permutation of the slots is kept presorted in
+ * {@code (key DESC, id DESC)} order, the same order the database uses
+ * for {@code GET /api/github/repositories}. A further permutation sorted
+ * by id allows lookups by id.
+ * </p>
+ *
+ * <p>
+ * Used by {@link RepositoryReadModel}; instances are created with {@link Builder}.
+ * </p>
+ */
+final class ColumnarSnapshot {
+
+    /**
+     * Language code of rows without a language.
+     */
+    static final int NO_LANGUAGE = -1;
+
+    /**
+     * Language code for a language that does not occur in the snapshot.
+     */
+    static final int UNKNOWN_LANGUAGE = -2;
+
+    static final ColumnarSnapshot EMPTY = new Builder(0).build();
+
+    final int size;
+
+    final long[] ids;
+    final int[] stars;
+    final int[] forks;
+    final long[] updated;
+    final int[] languages;
+    final int[] owners;
+    final String[] names;
+    final String[] descriptions;
+
+    private final String[] languageDictionary;
+    private final Map<String, Integer> languageCodes;
+    private final String[] ownerDictionary;
+
+    private final int[] byId;
+    private final int[] byStars;
+    private final int[] byForks;
+    private final int[] byUpdated;
+
+    private ColumnarSnapshot(Builder builder) {
+
+        this.size = builder.size;
+        this.ids = Arrays.copyOf(builder.ids, size);
+        this.stars = Arrays.copyOf(builder.stars, size);
+        this.forks = Arrays.copyOf(builder.forks, size);
+        this.updated = Arrays.copyOf(builder.updated, size);
+        this.languages = Arrays.copyOf(builder.languages, size);
+        this.owners = Arrays.copyOf(builder.owners, size);
+        this.names = Arrays.copyOf(builder.names, size);
+        this.descriptions = Arrays.copyOf(builder.descriptions, size);
+
+        this.languageDictionary = builder.languageDictionary.toArray(String[]::new);
+        this.languageCodes = Map.copyOf(builder.languageCodes);
+        this.ownerDictionary = builder.ownerDictionary.toArray(String[]::new);
+
+        long[] sortedIds = Arrays.copyOf(ids, size);
+        Arrays.sort(sortedIds);
+
+        // rank of each slot in id order; ids are unique within a snapshot
+        this.byId = new int[size];
+        int[] idRanks = new int[size];
+        for (int slot = 0; slot < size; slot++) {
+            int rank = Arrays.binarySearch(sortedIds, ids[slot]);
+            idRanks[slot] = rank;
+            byId[rank] = slot;
+        }
+
+        this.byStars = descending(stars, idRanks);
+        this.byForks = descending(forks, idRanks);
+        this.byUpdated = descending(denseRanks(updated), idRanks);
+    }
+
+    /**
+     * Returns the slot of a repository.
+     *
+     * @param id Repository id
+     * @return slot, or -1 if the id is not part of this snapshot
+     */
+    int slotOf(long id) {
+
+        int low = 0;
+        int high = size - 1;
+
+        while (low <= high) {
+
+            int mid = (low + high) >>> 1;
+            long midId = ids[byId[mid]];
+
+            if (midId < id) {
+                low = mid + 1;
+            } else if (midId > id) {
+                high = mid - 1;
+            } else {
+                return byId[mid];
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * @param sortKey Sort key (stars, forks, updated)
+     * @return slots in {@code (key DESC, id DESC)} order
+     */
+    int[] order(String sortKey) {
+        return switch (sortKey) {
+            case "forks" -> byForks;
+            case "updated" -> byUpdated;
+            default -> byStars;
+        };
+    }
+
+    /**
+     * @param sortKey Sort key (stars, forks, updated)
+     * @param slot    Row slot
+     * @return sort value of the row
+     */
+    long key(String sortKey, int slot) {
+        return switch (sortKey) {
+            case "forks" -> forks[slot];
+            case "updated" -> updated[slot];
+            default -> stars[slot];
+        };
+    }
+
+    /**
+     * Finds the first position in {@link #order(String)} that comes
+     * after the given keyset position.
+     *
+     * @param sortKey Sort key
+     * @param key     Sort value of the position
+     * @param id      Id of the position
+     * @return index into the permutation
+     */
+    int startAfter(String sortKey, long key, long id) {
+
+        int[] order = order(sortKey);
+        int low = 0;
+        int high = size;
+
+        while (low < high) {
+
+            int mid = (low + high) >>> 1;
+            int slot = order[mid];
+
+            if (compare(key(sortKey, slot), ids[slot], key, id) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * @param language Language name
+     * @return dictionary code, or {@link #UNKNOWN_LANGUAGE} if no row has this language
+     */
+    int languageCode(String language) {
+        return languageCodes.getOrDefault(language, UNKNOWN_LANGUAGE);
+    }
+
+    /**
+     * Compares the content columns of a row, ignoring the last updated time.
+     *
+     * @param slot   Row slot
+     * @param entity Repository to compare with
+     * @return true if name, description, owner, language, stars and forks are equal
+     */
+    boolean hasContent(int slot, RepositoryEntity entity) {
+        return stars[slot] == entity.getStars()
+                && forks[slot] == entity.getForks()
+                && Objects.equals(names[slot], entity.getName())
+                && Objects.equals(descriptions[slot], entity.getDescription())
+                && ownerDictionary[owners[slot]].equals(entity.getOwner())
+                && Objects.equals(languages[slot] >= 0 ? languageDictionary[languages[slot]] : null,
+                entity.getLanguage());
+    }
+
+    /**
+     * Materializes a row.
+     *
+     * @param slot Row slot
+     * @return response DTO of the row
+     */
+    RepositoryResponseDto toDto(int slot) {
+        return RepositoryResponseDto.builder()
+                .id(ids[slot])
+                .name(names[slot])
+                .description(descriptions[slot])
+                .owner(ownerDictionary[owners[slot]])
+                .language(languages[slot] >= 0 ? languageDictionary[languages[slot]] : null)
+                .stars(stars[slot])
+                .forks(forks[slot])
+                .lastUpdated(Instant.ofEpochSecond(updated[slot]))
+                .build();
+    }
+
+    /**
+     * Compares two rows in {@code (key DESC, id DESC)} order.
+     *
+     * @return negative if the first row comes first
+     */
+    static int compare(long keyA, long idA, long keyB, long idB) {
+        int result = Long.compare(keyB, keyA);
+        return result != 0 ? result : Long.compare(idB, idA);
+    }
+
+    /**
+     * Builds the {@code (key DESC, id DESC)} permutation without boxing:
+     * key and id rank are packed into one {@code long} per slot (key in
+     * the high, id rank in the low 32 bits) and sorted as primitives.
+     */
+    private int[] descending(int[] keys, int[] idRanks) {
+
+        long[] packed = new long[size];
+        for (int slot = 0; slot < size; slot++) {
+            packed[slot] = (long) keys[slot] << 32 | idRanks[slot];
+        }
+        Arrays.sort(packed);
+
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[size - 1 - i] = byId[(int) packed[i]];
+        }
+        return order;
+    }
+
+    /**
+     * Replaces long keys by their position among the sorted keys, so they
+     * fit the 32 bits {@link #descending(int[], int[])} has for them.
+     * Equal keys get equal ranks.
+     */
+    private int[] denseRanks(long[] keys) {
+
+        long[] sorted = Arrays.copyOf(keys, size);
+        Arrays.sort(sorted);
+
+        int[] ranks = new int[size];
+        for (int slot = 0; slot < size; slot++) {
+            ranks[slot] = Arrays.binarySearch(sorted, keys[slot]);
+        }
+        return ranks;
+    }
+
+    /**
+     * Collects rows and builds a {@link ColumnarSnapshot}.
+     */
+    static final class Builder {
+
+        private int size;
+
+        private long[] ids;
+        private int[] stars;
+        private int[] forks;
+        private long[] updated;
+        private int[] languages;
+        private int[] owners;
+        private String[] names;
+        private String[] descriptions;
+
+        private final List<String> languageDictionary = new ArrayList<>();
+        private final Map<String, Integer> languageCodes = new HashMap<>();
+        private final List<String> ownerDictionary = new ArrayList<>();
+        private final Map<String, Integer> ownerCodes = new HashMap<>();
+
+        /**
+         * @param expectedSize Initial capacity in rows
+         */
+        Builder(int expectedSize) {
+            int capacity = Math.max(16, expectedSize);
+            ids = new long[capacity];
+            stars = new int[capacity];
+            forks = new int[capacity];
+            updated = new long[capacity];
+            languages = new int[capacity];
+            owners = new int[capacity];
+            names = new String[capacity];
+            descriptions = new String[capacity];
+        }
+
+        /**
+         * Adds a stored repository.
+         *
+         * @param entity Repository; must have all required columns
+         * @return this builder
+         */
+        Builder add(RepositoryEntity entity) {
+            return add(entity.getId(), entity.getName(), entity.getDescription(), entity.getOwner(),
+                    entity.getLanguage(), entity.getStars(), entity.getForks(),
+                    entity.getLastUpdated().getEpochSecond());
+        }
+
+        /**
+         * Copies a row of another snapshot.
+         *
+         * @param snapshot Source snapshot
+         * @param slot     Row slot in the source snapshot
+         * @return this builder
+         */
+        Builder addFrom(ColumnarSnapshot snapshot, int slot) {
+            return add(snapshot.ids[slot], snapshot.names[slot], snapshot.descriptions[slot],
+                    snapshot.ownerDictionary[snapshot.owners[slot]],
+                    snapshot.languages[slot] >= 0 ? snapshot.languageDictionary[snapshot.languages[slot]] : null,
+                    snapshot.stars[slot], snapshot.forks[slot], snapshot.updated[slot]);
+        }
+
+        private Builder add(long id, String name, String description, String owner, String language,
+                            int starCount, int forkCount, long updatedEpochSeconds) {
+
+            if (size == ids.length) {
+                grow();
+            }
+
+            ids[size] = id;
+            names[size] = name;
+            descriptions[size] = description;
+            owners[size] = encode(owner, ownerDictionary, ownerCodes);
+            languages[size] = language != null ? encode(language, languageDictionary, languageCodes) : NO_LANGUAGE;
+            stars[size] = starCount;
+            forks[size] = forkCount;
+            updated[size] = updatedEpochSeconds;
+            size++;
+
+            return this;
+        }
+
+        /**
+         * @return number of rows added so far
+         */
+        int size() {
+            return size;
+        }
+
+        ColumnarSnapshot build() {
+            return new ColumnarSnapshot(this);
+        }
+
+        private static int encode(String value, List<String> dictionary, Map<String, Integer> codes) {
+            return codes.computeIfAbsent(value, key -> {
+                dictionary.add(key);
+                return dictionary.size() - 1;
+            });
+        }
+
+        private void grow() {
+            int capacity = ids.length + (ids.length >> 1);
+            ids = Arrays.copyOf(ids, capacity);
+            stars = Arrays.copyOf(stars, capacity);
+            forks = Arrays.copyOf(forks, capacity);
+            updated = Arrays.copyOf(updated, capacity);
+            languages = Arrays.copyOf(languages, capacity);
+            owners = Arrays.copyOf(owners, capacity);
+            names = Arrays.copyOf(names, capacity);
+            descriptions = Arrays.copyOf(descriptions, capacity);
+        }
+    }
+}
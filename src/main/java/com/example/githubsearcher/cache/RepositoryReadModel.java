@@ -0,0 +1,456 @@
+package com.example.githubsearcher.cache;
+
+import com.example.githubsearcher.dto.RepositoryResponseDto;
+import com.example.githubsearcher.entity.RepositoryEntity;
+import com.example.githubsearcher.repository.RepositoryEntityRepository;
+import com.example.githubsearcher.repository.specification.RepositoryCursor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Optional in-memory read model answering {@code GET /api/github/repositories}
+ * without a database round trip.
+ *
+ * <p>
+ * The stored repositories are held in a {@link ColumnarSnapshot}: primitive
+ * columns, dictionary encoded language and owner, and presorted
+ * permutations per sort key. A query walks the permutation of its sort key
+ * from the cursor position and checks language and stars on the primitive
+ * columns; response DTOs are only created for the rows of the page.
+ * </p>
+ *
+ * <p>
+ * Updates from {@code searchAndSaveRepositories} are applied with
+ * {@link #apply(Collection)} using the same rule as the database upsert
+ * (a row is replaced only by a newer {@code lastUpdated} with changed content). To keep updates
+ * cheap, changed rows go into a small delta snapshot and their old base
+ * rows are masked; queries merge base and delta in sort order. Once the
+ * delta exceeds {@code github.read-model.compact-threshold} rows, base
+ * and delta are merged into a new base. The merge runs outside the write
+ * lock; batches applied meanwhile are replayed on the new base.
+ * </p>
+ *
+ * <p>
+ * Configuration:
+ * <ul>
+ *     <li>{@code github.read-model.enabled} - build the model at startup (default: false)</li>
+ *     <li>{@code github.read-model.fetch-size} - rows per round trip while loading</li>
+ *     <li>{@code github.read-model.compact-threshold} - delta size that triggers a merge</li>
+ * </ul>
+ * Until the model is loaded, {@link #isReady()} is false and reads go to the database.
+ * Last updated values are kept with second precision, like GitHub reports them.
+ * </p>
+ */
+@Slf4j
+@Component
+public class RepositoryReadModel {
+
+    private final RepositoryEntityRepository repository;
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final boolean enabled;
+
+    private final int fetchSize;
+
+    private final int compactThreshold;
+
+    /**
+     * Guards writes; readers only read {@link #state}. A lock rather than
+     * {@code synchronized}, so waiting virtual threads do not pin their carrier.
+     */
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    /**
+     * Current data, replaced as a whole on every change. Null until loaded.
+     */
+    private volatile State state;
+
+    /**
+     * Batches applied while a reload is running; replayed on the reloaded data.
+     */
+    private List<Collection<RepositoryEntity>> pendingDuringReload;
+
+    /**
+     * Batches applied while a compaction is running; replayed on the
+     * compacted base. Null while no compaction runs.
+     */
+    private List<Collection<RepositoryEntity>> pendingDuringCompaction;
+
+    /**
+     * Creates the read model.
+     *
+     * @param repository         Repository to load the data from
+     * @param transactionManager Transaction manager for the read-only load
+     * @param enabled            Whether the model is built at all
+     * @param fetchSize          Rows per round trip while loading
+     * @param compactThreshold   Delta size that triggers a merge into the base
+     */
+    public RepositoryReadModel(
+            RepositoryEntityRepository repository,
+            PlatformTransactionManager transactionManager,
+            @Value("${github.read-model.enabled:false}") boolean enabled,
+            @Value("${github.read-model.fetch-size:5000}") int fetchSize,
+            @Value("${github.read-model.compact-threshold:4096}") int compactThreshold
+    ) {
+        this.repository = repository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+        this.fetchSize = fetchSize;
+        this.compactThreshold = Math.max(1, compactThreshold);
+    }
+
+    /**
+     * Loads the model once the application has started.
+     * Failures leave the model unavailable and reads on the database.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            reload();
+        } catch (RuntimeException ex) {
+            log.warn("Repository read model could not be loaded, serving reads from the database", ex);
+        }
+    }
+
+    /**
+     * @return true if queries can be answered by {@link #find}
+     */
+    public boolean isReady() {
+        return enabled && state != null;
+    }
+
+    /**
+     * @return number of repositories held by the model
+     */
+    public int size() {
+        State current = state;
+        return current != null ? current.base.size - current.masked.cardinality() + current.delta.size : 0;
+    }
+
+    /**
+     * Returns up to {@code limit} repositories in {@code (sortKey DESC, id DESC)} order.
+     *
+     * @param language Optional language filter (exact match)
+     * @param minStars Optional minimum star filter
+     * @param sortKey  Normalized sort key (stars, forks, updated)
+     * @param cursor   Position to continue after, or null for the first page
+     * @param limit    Maximum number of rows
+     * @return matching repositories in sort order
+     */
+    public List<RepositoryResponseDto> find(
+            String language,
+            Integer minStars,
+            String sortKey,
+            RepositoryCursor cursor,
+            int limit
+    ) {
+        State current = state;
+        ColumnarSnapshot base = current.base;
+        ColumnarSnapshot delta = current.delta;
+
+        int[] baseOrder = base.order(sortKey);
+        int[] deltaOrder = delta.order(sortKey);
+        int b = 0;
+        int d = 0;
+
+        if (cursor != null) {
+            long key = cursorKey(sortKey, cursor);
+            b = base.startAfter(sortKey, key, cursor.id());
+            d = delta.startAfter(sortKey, key, cursor.id());
+        }
+
+        boolean filterLanguage = language != null && !language.isBlank();
+        int baseLanguage = filterLanguage ? base.languageCode(language) : 0;
+        int deltaLanguage = filterLanguage ? delta.languageCode(language) : 0;
+        int starBound = minStars != null ? minStars : Integer.MIN_VALUE;
+
+        if (filterLanguage
+                && baseLanguage == ColumnarSnapshot.UNKNOWN_LANGUAGE
+                && deltaLanguage == ColumnarSnapshot.UNKNOWN_LANGUAGE) {
+            return List.of();
+        }
+
+        List<RepositoryResponseDto> result = new ArrayList<>(Math.min(limit, 1024));
+
+        while (result.size() < limit && (b < baseOrder.length || d < deltaOrder.length)) {
+
+            boolean fromBase = d >= deltaOrder.length
+                    || b < baseOrder.length && ColumnarSnapshot.compare(
+                    base.key(sortKey, baseOrder[b]), base.ids[baseOrder[b]],
+                    delta.key(sortKey, deltaOrder[d]), delta.ids[deltaOrder[d]]) < 0;
+
+            if (fromBase) {
+                int slot = baseOrder[b++];
+                if (!current.masked.get(slot) && matches(base, slot, filterLanguage, baseLanguage, starBound)) {
+                    result.add(base.toDto(slot));
+                }
+            } else {
+                int slot = deltaOrder[d++];
+                if (matches(delta, slot, filterLanguage, deltaLanguage, starBound)) {
+                    result.add(delta.toDto(slot));
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Applies repositories that were just written to the database.
+     *
+     * <p>
+     * A repository replaces the held copy only if its {@code lastUpdated}
+     * is newer and its content differs, mirroring the conditional upsert.
+     * </p>
+     *
+     * @param rows Repositories written by the upsert
+     */
+    public void apply(Collection<RepositoryEntity> rows) {
+
+        if (!enabled || rows == null || rows.isEmpty()) {
+            return;
+        }
+
+        State toCompact = null;
+
+        writeLock.lock();
+        try {
+            if (pendingDuringReload != null) {
+                pendingDuringReload.add(List.copyOf(rows));
+            }
+            if (pendingDuringCompaction != null) {
+                pendingDuringCompaction.add(List.copyOf(rows));
+            }
+
+            if (state != null) {
+                state = merge(state, rows);
+
+                if (state.delta.size > compactThreshold && pendingDuringCompaction == null) {
+                    toCompact = state;
+                    pendingDuringCompaction = new ArrayList<>();
+                }
+            }
+        } finally {
+            writeLock.unlock();
+        }
+
+        if (toCompact != null) {
+            compact(toCompact);
+        }
+    }
+
+    /**
+     * Folds base and delta of a state into a new base without holding the
+     * write lock, then swaps it in and replays the batches applied meanwhile.
+     * The result is dropped if a reload replaced the base in the meantime.
+     */
+    private void compact(State toCompact) {
+
+        ColumnarSnapshot compacted = null;
+
+        try {
+            compacted = fold(toCompact);
+        } finally {
+            writeLock.lock();
+            try {
+                if (compacted != null && state != null && state.base == toCompact.base) {
+                    State swapped = new State(compacted, ColumnarSnapshot.EMPTY, new BitSet());
+                    for (Collection<RepositoryEntity> batch : pendingDuringCompaction) {
+                        swapped = merge(swapped, batch);
+                    }
+                    state = swapped;
+                }
+                pendingDuringCompaction = null;
+            } finally {
+                writeLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Rebuilds the model from the database.
+     *
+     * <p>
+     * Reads keep using the previous data while the load runs. Batches
+     * applied in the meantime are replayed on the loaded data.
+     * </p>
+     */
+    public void reload() {
+
+        if (!enabled) {
+            return;
+        }
+
+        writeLock.lock();
+        try {
+            pendingDuringReload = new ArrayList<>();
+        } finally {
+            writeLock.unlock();
+        }
+
+        try {
+            ColumnarSnapshot loaded = readOnlyTransaction.execute(status -> {
+                ColumnarSnapshot.Builder builder = new ColumnarSnapshot.Builder((int) repository.count());
+                try (Stream<RepositoryEntity> rows = repository.streamAll(null, fetchSize)) {
+                    rows.forEach(builder::add);
+                }
+                return builder.build();
+            });
+
+            writeLock.lock();
+            try {
+                State reloaded = new State(loaded, ColumnarSnapshot.EMPTY, new BitSet());
+                for (Collection<RepositoryEntity> batch : pendingDuringReload) {
+                    reloaded = merge(reloaded, batch);
+                }
+                state = reloaded;
+            } finally {
+                writeLock.unlock();
+            }
+        } finally {
+            writeLock.lock();
+            try {
+                pendingDuringReload = null;
+            } finally {
+                writeLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Builds the state after applying a batch: rebuilds the small delta
+     * and masks replaced base rows.
+     */
+    private State merge(State current, Collection<RepositoryEntity> rows) {
+
+        Map<Long, RepositoryEntity> incoming = new LinkedHashMap<>();
+        for (RepositoryEntity row : rows) {
+            if (isComplete(row)) {
+                incoming.put(row.getId(), row);
+            }
+        }
+
+        ColumnarSnapshot base = current.base;
+        ColumnarSnapshot delta = current.delta;
+        BitSet masked = (BitSet) current.masked.clone();
+        ColumnarSnapshot.Builder builder = new ColumnarSnapshot.Builder(delta.size + incoming.size());
+
+        for (int slot = 0; slot < delta.size; slot++) {
+
+            RepositoryEntity replacement = incoming.get(delta.ids[slot]);
+
+            if (replacement != null && replaces(delta, slot, replacement)) {
+                continue;
+            }
+
+            if (replacement != null) {
+                incoming.remove(delta.ids[slot]);
+            }
+
+            builder.addFrom(delta, slot);
+        }
+
+        for (RepositoryEntity row : incoming.values()) {
+
+            int baseSlot = base.slotOf(row.getId());
+
+            if (baseSlot >= 0 && !masked.get(baseSlot)) {
+                if (!replaces(base, baseSlot, row)) {
+                    continue;
+                }
+                masked.set(baseSlot);
+            }
+
+            builder.add(row);
+        }
+
+        return new State(base, builder.build(), masked);
+    }
+
+    /**
+     * Merges the unmasked base rows and the delta of a state into one snapshot.
+     */
+    private static ColumnarSnapshot fold(State current) {
+
+        ColumnarSnapshot base = current.base;
+        ColumnarSnapshot delta = current.delta;
+        ColumnarSnapshot.Builder compacted = new ColumnarSnapshot.Builder(base.size + delta.size);
+
+        for (int slot = 0; slot < base.size; slot++) {
+            if (!current.masked.get(slot)) {
+                compacted.addFrom(base, slot);
+            }
+        }
+        for (int slot = 0; slot < delta.size; slot++) {
+            compacted.addFrom(delta, slot);
+        }
+
+        return compacted.build();
+    }
+
+    /**
+     * Upsert rule: a newer {@code lastUpdated} and a content change.
+     */
+    private static boolean replaces(ColumnarSnapshot snapshot, int slot, RepositoryEntity row) {
+        return row.getLastUpdated().getEpochSecond() > snapshot.updated[slot]
+                && !snapshot.hasContent(slot, row);
+    }
+
+    private static boolean matches(
+            ColumnarSnapshot snapshot,
+            int slot,
+            boolean filterLanguage,
+            int languageCode,
+            int minStars
+    ) {
+        return (!filterLanguage || snapshot.languages[slot] == languageCode)
+                && snapshot.stars[slot] >= minStars;
+    }
+
+    private static long cursorKey(String sortKey, RepositoryCursor cursor) {
+        return "updated".equals(sortKey)
+                ? Instant.parse(cursor.value()).getEpochSecond()
+                : Long.parseLong(cursor.value());
+    }
+
+    private static boolean isComplete(RepositoryEntity row) {
+        return row != null
+                && row.getId() != null
+                && row.getOwner() != null
+                && row.getStars() != null
+                && row.getForks() != null
+                && row.getLastUpdated() != null;
+    }
+
+    /**
+     * Data visible to readers.
+     *
+     * @param base   Large snapshot, rebuilt on load and compaction
+     * @param delta  Small snapshot of rows changed since the base was built
+     * @param masked Base slots replaced by a delta row
+     */
+    private record State(ColumnarSnapshot base, ColumnarSnapshot delta, BitSet masked) {
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.githubsearcher.cache;
+
+import com.example.githubsearcher.dto.SearchRequestDto;
+
+import java.util.Locale;
+
+/**
+ * Normalized form of a {@link SearchRequestDto}, used to recognize
+ * identical searches.
+ *
+ * <p>
+ * Normalization rules:
+ * <ul>
+ *     <li>query is trimmed, inner whitespace is collapsed and it is lower-cased</li>
+ *     <li>language is trimmed and lower-cased, blank becomes empty</li>
+ *     <li>sort is trimmed, blank becomes empty (GitHub's best match)</li>
+ *     <li>fetchAllPages defaults to {@code false}</li>
+ * </ul>
+ * GitHub search is case-insensitive, so these requests return the same results.
+ * </p>
+ *
+ * @param query         Normalized search query
+ * @param language      Normalized language filter
+ * @param sort          Normalized sort option
+ * @param fetchAllPages Whether all result pages are requested
+ */
+public record SearchCacheKey(String query, String language, String sort, boolean fetchAllPages) {
+
+    /**
+     * Builds the normalized key of a search request.
+     *
+     * @param request Search request
+     * @return normalized key
+     */
+    public static SearchCacheKey of(SearchRequestDto request) {
+        return new SearchCacheKey(
+                normalize(request.getQuery()).replaceAll("\\s+", " "),
+                normalize(request.getLanguage()),
+                request.getSort() != null ? request.getSort().trim() : "",
+                Boolean.TRUE.equals(request.getFetchAllPages())
+        );
+    }
+
+    /**
+     * Returns the key as a single string, e.g. to store it in a unique column.
+     * Components are joined with the ASCII unit separator.
+     *
+     * @return string form of the key
+     */
+    public String id() {
+        return String.join("\u001f", query, language, sort, Boolean.toString(fetchAllPages));
+    }
+
+    private static String normalize(String value) {
+        return value != null ? value.trim().toLowerCase(Locale.ROOT) : "";
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.githubsearcher.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory counter of how often each search is requested.
+ *
+ * <p>
+ * {@code GitHubServiceImpl} records every interactive search, which only
+ * costs a map lookup. The tracked search refresher periodically drains
+ * the counts and adds them to the popularity of tracked searches, so
+ * interactive requests never wait for a database write.
+ * </p>
+ *
+ * <p>
+ * Configuration:
+ * <ul>
+ *     <li>{@code github.tracking.enabled} - without the refresher nothing
+ *         drains the counts, so nothing is recorded</li>
+ *     <li>{@code github.tracking.demand-max-keys} - upper bound for the number
+ *         of distinct searches counted between two drains; rarely requested
+ *         searches are evicted first</li>
+ * </ul>
+ * </p>
+ */
+@Component
+public class SearchDemand {
+
+    private final boolean enabled;
+    private final Cache<SearchCacheKey, LongAdder> counts;
+
+    /**
+     * Creates the counter.
+     *
+     * @param enabled Whether tracked searches are refreshed, and the counts drained
+     * @param maxKeys Upper bound for the number of distinct searches counted
+     */
+    public SearchDemand(
+            @Value("${github.tracking.enabled:false}") boolean enabled,
+            @Value("${github.tracking.demand-max-keys:10000}") long maxKeys
+    ) {
+        this.enabled = enabled;
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .build();
+    }
+
+    /**
+     * Counts one request of a search. Does nothing if tracking is disabled.
+     *
+     * @param key Normalized search
+     */
+    public void record(SearchCacheKey key) {
+        if (enabled) {
+            counts.get(key, ignored -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * Returns the number of distinct searches counted since the last drain.
+     *
+     * @return number of counted searches
+     */
+    public long size() {
+        counts.cleanUp();
+        return counts.estimatedSize();
+    }
+
+    /**
+     * Returns and resets the counts recorded since the last drain.
+     *
+     * @return requests per search
+     */
+    public Map<SearchCacheKey, Long> drain() {
+
+        Map<SearchCacheKey, Long> drained = new HashMap<>();
+        ConcurrentMap<SearchCacheKey, LongAdder> map = counts.asMap();
+
+        for (SearchCacheKey key : map.keySet()) {
+            LongAdder adder = map.remove(key);
+            if (adder != null) {
+                drained.put(key, adder.sum());
+            }
+        }
+
+        return drained;
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.githubsearcher.cache;
+
+import com.example.githubsearcher.dto.SearchResponseDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * In-process cache of search results, keyed by {@link SearchCacheKey}.
+ *
+ * <p>
+ * Used by {@code GitHubServiceImpl} to answer identical searches
+ * without calling the GitHub API or writing to the database again.
+ * </p>
+ *
+ * <p>
+ * Configuration:
+ * <ul>
+ *     <li>{@code github.search.cache.ttl} - time an entry stays valid after it was written</li>
+ *     <li>{@code github.search.cache.max-weight} - upper bound for the total number
+ *         of cached repositories (each entry weighs its repository count plus one)</li>
+ * </ul>
+ * Hit, miss and eviction counts are recorded and available via {@link #stats()}.
+ * </p>
+ */
+@Component
+public class SearchResultCache {
+
+    private final Cache<SearchCacheKey, SearchResponseDto> cache;
+
+    /**
+     * Creates the cache.
+     *
+     * @param ttl       Time an entry stays valid after it was written
+     * @param maxWeight Upper bound for the total weight of all entries
+     */
+    public SearchResultCache(
+            @Value("${github.search.cache.ttl:60s}") Duration ttl,
+            @Value("${github.search.cache.max-weight:20000}") long maxWeight
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumWeight(maxWeight)
+                .weigher((SearchCacheKey key, SearchResponseDto value) -> weigh(value))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Returns the cached result of a search.
+     *
+     * @param key Normalized search
+     * @return cached result, or null on a miss
+     */
+    public SearchResponseDto get(SearchCacheKey key) {
+        return cache.getIfPresent(key);
+    }
+
+    /**
+     * Returns the cached result of a search without recording a hit or miss.
+     *
+     * @param key Normalized search
+     * @return cached result, or null if absent
+     */
+    public SearchResponseDto peek(SearchCacheKey key) {
+        return cache.asMap().get(key);
+    }
+
+    /**
+     * Stores the result of a search.
+     *
+     * @param key    Normalized search
+     * @param result Result to cache
+     */
+    public void put(SearchCacheKey key, SearchResponseDto result) {
+        cache.put(key, result);
+    }
+
+    /**
+     * Drops the cached result of a search.
+     *
+     * @param key Normalized search
+     */
+    public void invalidate(SearchCacheKey key) {
+        cache.invalidate(key);
+    }
+
+    /**
+     * @return hit, miss and eviction statistics
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * @return approximate number of cached searches
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private static int weigh(SearchResponseDto value) {
+        return 1 + (value.getRepositories() != null ? value.getRepositories().size() : 0);
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.githubsearcher.cache;
+
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent executions of the same work.
+ *
+ * <p>
+ * The first caller for a key runs the supplier. Callers arriving with
+ * the same key while it is still running do not run it again; they
+ * wait for the first caller and receive the same result (or exception).
+ * Once the work completes, the key is released and the next caller
+ * starts a new execution.
+ * </p>
+ *
+ * <p>
+ * Used by {@code GitHubServiceImpl} so that a burst of identical searches
+ * results in a single GitHub call and a single database write.
+ * Blocking ({@link #execute}) and reactive ({@link #executeReactive})
+ * callers share the same in-flight executions.
+ * </p>
+ *
+ * <p>
+ * Work that is not a single supplier, e.g. one search of a batch that is
+ * stored by a shared bulk write, takes part via {@link #claim}: the key
+ * is registered up front and the result is handed over later with
+ * {@link #complete} or {@link #fail}.
+ * </p>
+ *
+ * @param <K> key identifying identical work
+ * @param <V> result type
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Runs the supplier, or joins an in-flight execution for the same key.
+     *
+     * @param key      Key identifying identical work
+     * @param supplier Work to run if no execution is in flight
+     * @return result of the (shared) execution
+     */
+    public V execute(K key, Supplier<V> supplier) {
+
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+
+        if (existing != null) {
+            return join(existing);
+        }
+
+        try {
+            V value = supplier.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error ex) {
+            flight.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * Reactive variant of {@link #execute}: subscribes to the supplied
+     * {@link Mono}, or joins an in-flight execution for the same key,
+     * without blocking the calling thread.
+     *
+     * <p>
+     * Cancelling a joining subscriber does not cancel the shared execution.
+     * If the leading subscriber cancels, joined callers fail with a
+     * {@link java.util.concurrent.CancellationException}.
+     * </p>
+     *
+     * @param key      Key identifying identical work
+     * @param supplier Work to subscribe to if no execution is in flight
+     * @return Mono emitting the result of the (shared) execution
+     */
+    public Mono<V> executeReactive(K key, Supplier<Mono<V>> supplier) {
+        return Mono.defer(() -> {
+
+            CompletableFuture<V> flight = new CompletableFuture<>();
+            CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+
+            if (existing != null) {
+                return Mono.fromFuture(existing, true);
+            }
+
+            return supplier.get()
+                    .doOnSuccess(flight::complete)
+                    .doOnError(flight::completeExceptionally)
+                    .doFinally(signal -> {
+                        flight.cancel(false);
+                        inFlight.remove(key, flight);
+                    });
+        });
+    }
+
+    /**
+     * Registers an execution for the key whose result is handed over later,
+     * unless one is already in flight.
+     *
+     * <p>
+     * If this returns null, the caller leads the execution and must end it
+     * with {@link #complete} or {@link #fail}; until then, other callers for
+     * the key join it.
+     * </p>
+     *
+     * @param key Key identifying identical work
+     * @return the in-flight execution to join, or null if the caller now leads
+     */
+    public CompletableFuture<V> claim(K key) {
+        return inFlight.putIfAbsent(key, new CompletableFuture<>());
+    }
+
+    /**
+     * Ends an execution led through {@link #claim} and hands the result to
+     * the callers that joined it. Does nothing if the key is not in flight.
+     *
+     * @param key   Key passed to {@link #claim}
+     * @param value Result of the execution
+     */
+    public void complete(K key, V value) {
+        CompletableFuture<V> flight = inFlight.remove(key);
+        if (flight != null) {
+            flight.complete(value);
+        }
+    }
+
+    /**
+     * Ends an execution led through {@link #claim} with a failure, which the
+     * callers that joined it receive. Does nothing if the key is not in flight.
+     *
+     * @param key   Key passed to {@link #claim}
+     * @param error Failure of the execution
+     */
+    public void fail(K key, Throwable error) {
+        CompletableFuture<V> flight = inFlight.remove(key);
+        if (flight != null) {
+            flight.completeExceptionally(error);
+        }
+    }
+
+    /**
+     * @return number of keys currently in flight
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * Waits for an in-flight execution and rethrows its failure unwrapped.
+     */
+    private V join(CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+}
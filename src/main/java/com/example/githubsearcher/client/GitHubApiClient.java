@@ -1,14 +1,35 @@
 package com.example.githubsearcher.client;
 
+import com.example.githubsearcher.dto.github.GitHubRepositoryDto;
 import com.example.githubsearcher.dto.github.GitHubSearchResponseDto;
 import com.example.githubsearcher.exception.GitHubApiException;
+import com.example.githubsearcher.exception.GitHubRateLimitException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.util.UriBuilder;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import tools.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * Client component responsible for communicating with the
@@ -27,25 +48,69 @@ import reactor.core.publisher.Mono;
  *     <li>Invoke external API</li>
  *     <li>Handle HTTP errors and rate limiting</li>
  *     <li>Deserialize response into {@link GitHubSearchResponseDto}</li>
+ *     <li>Fetch and merge all result pages of a search concurrently</li>
+ *     <li>Revalidate repeated searches with {@code If-None-Match}</li>
+ *     <li>Stream the items of a result page while it downloads</li>
+ *     <li>Restrict searches to repositories pushed after a high-water mark</li>
  * </ul>
  * </p>
  *
  * <p>
- * Note: Although {@link WebClient} is reactive, this application
- * operates in a synchronous (blocking) manner. Therefore,
- * {@code .block()} is used to retrieve the response.
+ * Rate limit pacing is applied transparently by {@code GitHubRequestScheduler},
+ * which is registered as a filter on the {@link WebClient}.
+ * </p>
+ *
+ * <p>
+ * Each search is available in two forms: a reactive one returning a
+ * {@link Mono} (used by the non-blocking search endpoint), and a
+ * blocking one that calls {@code .block()} on it for the servlet flow.
  * </p>
  */
 @Component
 @RequiredArgsConstructor
 public class GitHubApiClient {
 
+    /**
+     * Maximum page size supported by the GitHub Search API.
+     */
+    static final int MAX_PER_PAGE = 100;
+
+    /**
+     * GitHub Search API never serves more than this many results
+     * for a single query, regardless of {@code total_count}.
+     */
+    static final int SEARCH_RESULT_CAP = 1000;
+
+    /**
+     * Extracts the URL tagged with {@code rel="last"} from a {@code Link} header.
+     */
+    private static final Pattern LAST_LINK_PATTERN =
+            Pattern.compile("<([^>]+)>\\s*;\\s*rel=\"last\"");
+
     /**
      * Pre-configured WebClient bean for GitHub API communication.
      * Configured in {@code WebClientConfig}.
      */
     private final WebClient gitHubWebClient;
 
+    /**
+     * ETag cache used to send conditional requests
+     * and serve {@code 304 Not Modified} responses.
+     */
+    private final GitHubResponseCache responseCache;
+
+    /**
+     * Mapper binding streamed items, see {@link GitHubSearchPageDecoder}.
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Maximum number of result pages fetched concurrently
+     * by {@link #searchAllRepositories(String, String, String)}.
+     */
+    @Value("${github.api.search.page-concurrency:4}")
+    private int pageConcurrency;
+
     /**
      * Calls the GitHub Search API to fetch repositories
      * based on the provided search criteria.
@@ -61,45 +126,520 @@ public class GitHubApiClient {
             String language,
             String sort
     ) {
+        return searchRepositories(query, language, sort, null);
+    }
+
+    /**
+     * Incremental variant of {@link #searchRepositories(String, String, String)}:
+     * only repositories pushed after {@code pushedAfter} are returned.
+     *
+     * @param query       Search keyword or phrase (required)
+     * @param language    Optional programming language filter
+     * @param sort        Optional sorting parameter (stars, forks, updated)
+     * @param pushedAfter Optional high-water mark; null searches everything
+     * @return GitHubSearchResponseDto containing repository search results
+     * @throws GitHubApiException if API call fails or rate limit is exceeded
+     */
+    public GitHubSearchResponseDto searchRepositories(
+            String query,
+            String language,
+            String sort,
+            Instant pushedAfter
+    ) {
+        return searchRepositoriesReactive(query, language, sort, pushedAfter).block();
+    }
+
+    /**
+     * Non-blocking variant of {@link #searchRepositories(String, String, String)}.
+     *
+     * @param query     Search keyword or phrase (required)
+     * @param language  Optional programming language filter
+     * @param sort      Optional sorting parameter (stars, forks, updated)
+     * @return Mono emitting the search results, or empty if GitHub sent no body
+     */
+    public Mono<GitHubSearchResponseDto> searchRepositoriesReactive(
+            String query,
+            String language,
+            String sort
+    ) {
+        return searchRepositoriesReactive(query, language, sort, null);
+    }
+
+    /**
+     * Non-blocking variant of {@link #searchRepositories(String, String, String, Instant)}.
+     *
+     * @param query       Search keyword or phrase (required)
+     * @param language    Optional programming language filter
+     * @param sort        Optional sorting parameter (stars, forks, updated)
+     * @param pushedAfter Optional high-water mark; null searches everything
+     * @return Mono emitting the search results, or empty if GitHub sent no body
+     */
+    public Mono<GitHubSearchResponseDto> searchRepositoriesReactive(
+            String query,
+            String language,
+            String sort,
+            Instant pushedAfter
+    ) {
+
+        String finalQuery = buildQuery(query, language, pushedAfter);
+
+        return Mono.defer(() -> fetch(finalQuery, sort, null, null))
+                .mapNotNull(ResponseEntity::getBody)
+                .onErrorMap(WebClientResponseException.class, GitHubApiClient::toApiException);
+    }
+
+    /**
+     * Returns the number of matches GitHub reports for a search.
+     *
+     * <p>
+     * Requests a single item per page, so the call is cheap to transfer;
+     * it still counts against the search rate limit.
+     * </p>
+     *
+     * @param query    Search keyword or phrase, qualifiers included (required)
+     * @param language Optional programming language filter
+     * @return {@code total_count} of the search, or 0 if GitHub sent none
+     * @throws GitHubApiException if API call fails or rate limit is exceeded
+     */
+    public int countRepositories(String query, String language) {
+
+        String finalQuery = buildQuery(query, language, null);
+
+        GitHubSearchResponseDto page = Mono.defer(() -> fetch(finalQuery, null, 1, 1))
+                .mapNotNull(ResponseEntity::getBody)
+                .onErrorMap(WebClientResponseException.class, GitHubApiClient::toApiException)
+                .block();
+
+        return page != null && page.getTotalCount() != null ? page.getTotalCount() : 0;
+    }
+
+    /**
+     * Streams the repositories of the first result page as they are parsed.
+     *
+     * <p>
+     * Unlike {@link #searchRepositoriesReactive(String, String, String)},
+     * the body is not buffered and bound as a whole: it is token-parsed
+     * chunk by chunk by {@link GitHubSearchPageDecoder}, unused fields are
+     * skipped, and each repository is emitted once its object is complete.
+     * </p>
+     *
+     * <p>
+     * Conditional requests work as for the other searches: a
+     * {@code 304 Not Modified} answer replays the cached items, and a
+     * fully streamed answer with an ETag is cached.
+     * </p>
+     *
+     * @param query     Search keyword or phrase (required)
+     * @param language  Optional programming language filter
+     * @param sort      Optional sorting parameter (stars, forks, updated)
+     * @return Flux emitting the repositories in GitHub's order
+     */
+    public Flux<GitHubRepositoryDto> streamRepositories(
+            String query,
+            String language,
+            String sort
+    ) {
+
+        String finalQuery = buildQuery(query, language, null);
+
+        return Flux.defer(() -> {
+
+            String cacheKey = cacheKey(finalQuery, sort, null, null);
+            GitHubResponseCache.Entry cached = responseCache.get(cacheKey);
+
+            return retrieveSearch(finalQuery, sort, null, null, cached != null ? cached.etag() : null)
+                    .toEntityFlux(DataBuffer.class)
+                    .flatMapMany(entity -> {
+
+                        if (entity.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED) && cached != null) {
+                            List<GitHubRepositoryDto> items = cached.body().getItems();
+                            return Flux.fromIterable(items != null ? items : List.of());
+                        }
+
+                        GitHubSearchPageDecoder decoder = new GitHubSearchPageDecoder(objectMapper);
+                        List<GitHubRepositoryDto> received = new ArrayList<>();
+                        String etag = entity.getHeaders().getETag();
+
+                        return decoder.decode(entity.getBody() != null ? entity.getBody() : Flux.empty())
+                                .doOnNext(received::add)
+                                .doOnComplete(() -> {
+                                    if (etag != null) {
+                                        responseCache.put(cacheKey, etag,
+                                                new GitHubSearchResponseDto(received, decoder.totalCount()));
+                                    }
+                                });
+                    });
+        }).onErrorMap(WebClientResponseException.class, GitHubApiClient::toApiException);
+    }
+
+    /**
+     * Fetches every available result page for the given search criteria.
+     *
+     * <p>
+     * Flow:
+     * <ol>
+     *     <li>Fetch the first page with {@code per_page=100}</li>
+     *     <li>Work out the last page from the {@code Link} header,
+     *         falling back to {@code total_count}</li>
+     *     <li>Fetch the remaining pages concurrently, bounded by
+     *         {@code github.api.search.page-concurrency}</li>
+     *     <li>Merge all items, de-duplicated by repository id</li>
+     * </ol>
+     * </p>
+     *
+     * <p>
+     * GitHub caps search results at 1000 items, so at most
+     * 10 pages are requested.
+     * </p>
+     *
+     * @param query     Search keyword or phrase (required)
+     * @param language  Optional programming language filter
+     * @param sort      Optional sorting parameter (stars, forks, updated)
+     * @return GitHubSearchResponseDto containing the merged results of all pages
+     * @throws GitHubApiException if any page fails or rate limit is exceeded
+     */
+    public GitHubSearchResponseDto searchAllRepositories(
+            String query,
+            String language,
+            String sort
+    ) {
+        return searchAllRepositories(query, language, sort, null);
+    }
+
+    /**
+     * Incremental variant of {@link #searchAllRepositories(String, String, String)}:
+     * only repositories pushed after {@code pushedAfter} are returned.
+     *
+     * @param query       Search keyword or phrase (required)
+     * @param language    Optional programming language filter
+     * @param sort        Optional sorting parameter (stars, forks, updated)
+     * @param pushedAfter Optional high-water mark; null searches everything
+     * @return GitHubSearchResponseDto containing the merged results of all pages
+     * @throws GitHubApiException if any page fails or rate limit is exceeded
+     */
+    public GitHubSearchResponseDto searchAllRepositories(
+            String query,
+            String language,
+            String sort,
+            Instant pushedAfter
+    ) {
+        return searchAllRepositoriesReactive(query, language, sort, pushedAfter).block();
+    }
+
+    /**
+     * Fetches a single result page of 100 repositories.
+     *
+     * <p>
+     * Lets callers work through a search page by page, e.g. to report
+     * progress or store each page before the next one arrives.
+     * {@link #pageCount(Integer)} turns the reported {@code total_count}
+     * into the number of reachable pages.
+     * </p>
+     *
+     * @param query    Search keyword or phrase (required)
+     * @param language Optional programming language filter
+     * @param sort     Optional sorting parameter (stars, forks, updated)
+     * @param page     1-based page number
+     * @return GitHubSearchResponseDto containing the page and {@code total_count}
+     * @throws GitHubApiException if API call fails or rate limit is exceeded
+     */
+    public GitHubSearchResponseDto searchRepositoriesPage(
+            String query,
+            String language,
+            String sort,
+            int page
+    ) {
+
+        String finalQuery = buildQuery(query, language, null);
+
+        return Mono.defer(() -> fetchPage(finalQuery, sort, page))
+                .mapNotNull(ResponseEntity::getBody)
+                .defaultIfEmpty(new GitHubSearchResponseDto(List.of()))
+                .onErrorMap(WebClientResponseException.class, GitHubApiClient::toApiException)
+                .block();
+    }
+
+    /**
+     * Number of pages of 100 that can be requested for a search,
+     * capped at the 1000-result search limit.
+     *
+     * @param totalCount Total number of matches reported by GitHub
+     * @return page count (at least 1)
+     */
+    public static int pageCount(Integer totalCount) {
+        return resolveLastPage(null, totalCount);
+    }
+
+    /**
+     * Non-blocking variant of {@link #searchAllRepositories(String, String, String)}.
+     *
+     * @param query     Search keyword or phrase (required)
+     * @param language  Optional programming language filter
+     * @param sort      Optional sorting parameter (stars, forks, updated)
+     * @return Mono emitting the merged results of all pages
+     */
+    public Mono<GitHubSearchResponseDto> searchAllRepositoriesReactive(
+            String query,
+            String language,
+            String sort
+    ) {
+        return searchAllRepositoriesReactive(query, language, sort, null);
+    }
+
+    /**
+     * Non-blocking variant of {@link #searchAllRepositories(String, String, String, Instant)}.
+     *
+     * @param query       Search keyword or phrase (required)
+     * @param language    Optional programming language filter
+     * @param sort        Optional sorting parameter (stars, forks, updated)
+     * @param pushedAfter Optional high-water mark; null searches everything
+     * @return Mono emitting the merged results of all pages
+     */
+    public Mono<GitHubSearchResponseDto> searchAllRepositoriesReactive(
+            String query,
+            String language,
+            String sort,
+            Instant pushedAfter
+    ) {
+
+        String finalQuery = buildQuery(query, language, pushedAfter);
+
+        return Mono.defer(() -> fetchPage(finalQuery, sort, 1))
+                .flatMap(firstPage -> {
+
+                    GitHubSearchResponseDto first = firstPage.getBody();
+                    if (first == null) {
+                        return Mono.just(new GitHubSearchResponseDto(List.of()));
+                    }
+
+                    Map<Long, GitHubRepositoryDto> merged = new LinkedHashMap<>();
+                    mergeItems(merged, first);
+
+                    int lastPage = resolveLastPage(firstPage.getHeaders(), first.getTotalCount());
 
-        String finalQuery = buildQuery(query, language);
-
-        try {
-            return gitHubWebClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/search/repositories")
-                            .queryParam("q", finalQuery)
-                            .queryParamIfPresent("sort",
-                                    sort != null
-                                            ? java.util.Optional.of(sort)
-                                            : java.util.Optional.empty())
-                            .build()
-                    )
-                    .retrieve()
-
-                    // Handle GitHub rate limiting (HTTP 429)
-                    .onStatus(HttpStatus.TOO_MANY_REQUESTS::equals,
-                            response -> Mono.error(
-                                    new GitHubApiException("GitHub API rate limit exceeded")))
-
-                    // Handle other 4xx client errors
-                    .onStatus(HttpStatusCode::is4xxClientError,
-                            response -> Mono.error(
-                                    new GitHubApiException("GitHub API client error")))
-
-                    // Handle 5xx server errors
-                    .onStatus(HttpStatusCode::is5xxServerError,
-                            response -> Mono.error(
-                                    new GitHubApiException("GitHub API server error")))
-
-                    .bodyToMono(GitHubSearchResponseDto.class)
-                    .block(); // Blocking call since application is not reactive
-
-        } catch (WebClientResponseException ex) {
-            throw new GitHubApiException(
-                    "Error calling GitHub API: " + ex.getStatusCode(),
-                    ex
-            );
+                    // flatMapSequential keeps GitHub's ordering across pages
+                    return Flux.range(2, Math.max(0, lastPage - 1))
+                            .flatMapSequential(
+                                    page -> fetchPage(finalQuery, sort, page),
+                                    Math.max(1, pageConcurrency)
+                            )
+                            .doOnNext(page -> mergeItems(merged, page.getBody()))
+                            .then(Mono.fromSupplier(() -> new GitHubSearchResponseDto(
+                                    new ArrayList<>(merged.values()),
+                                    first.getTotalCount()
+                            )));
+                })
+                .defaultIfEmpty(new GitHubSearchResponseDto(List.of()))
+                .onErrorMap(WebClientResponseException.class, GitHubApiClient::toApiException);
+    }
+
+    /**
+     * Wraps a response error that was not mapped by the status handlers.
+     */
+    private static GitHubApiException toApiException(WebClientResponseException ex) {
+        return new GitHubApiException("Error calling GitHub API: " + ex.getStatusCode(), ex);
+    }
+
+    /**
+     * Fetches a single result page of the given query, keeping
+     * the response headers so the pagination links can be read.
+     *
+     * @param finalQuery Fully built GitHub query string
+     * @param sort       Optional sorting parameter
+     * @param page       1-based page number
+     * @return response entity containing headers and page body
+     */
+    private Mono<ResponseEntity<GitHubSearchResponseDto>> fetchPage(
+            String finalQuery,
+            String sort,
+            int page
+    ) {
+        return fetch(finalQuery, sort, MAX_PER_PAGE, page);
+    }
+
+    /**
+     * Calls the GitHub search endpoint as a conditional request.
+     *
+     * <p>
+     * If a response for the same URI is cached, its ETag is sent in
+     * {@code If-None-Match}. A {@code 304 Not Modified} answer is then
+     * served from the cache, and a fresh answer replaces the cached one.
+     * </p>
+     *
+     * @param finalQuery Fully built GitHub query string
+     * @param sort       Optional sorting parameter
+     * @param perPage    Optional page size
+     * @param page       Optional 1-based page number
+     * @return response entity containing headers and body
+     */
+    private Mono<ResponseEntity<GitHubSearchResponseDto>> fetch(
+            String finalQuery,
+            String sort,
+            Integer perPage,
+            Integer page
+    ) {
+
+        String cacheKey = cacheKey(finalQuery, sort, perPage, page);
+        GitHubResponseCache.Entry cached = responseCache.get(cacheKey);
+
+        return retrieveSearch(finalQuery, sort, perPage, page, cached != null ? cached.etag() : null)
+                .toEntity(GitHubSearchResponseDto.class)
+                .map(entity -> {
+
+                    if (entity.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED) && cached != null) {
+                        return ResponseEntity.ok()
+                                .headers(entity.getHeaders())
+                                .body(cached.body());
+                    }
+
+                    String etag = entity.getHeaders().getETag();
+                    if (etag != null && entity.getBody() != null) {
+                        responseCache.put(cacheKey, etag, entity.getBody());
+                    }
+
+                    return entity;
+                });
+    }
+
+    /**
+     * Prepares a call to the GitHub search endpoint with the
+     * common error handling applied.
+     *
+     * @param finalQuery Fully built GitHub query string
+     * @param sort       Optional sorting parameter
+     * @param perPage    Optional page size
+     * @param page       Optional 1-based page number
+     * @param etag       Optional ETag of a cached response
+     * @return response spec ready to be converted into a body
+     */
+    private WebClient.ResponseSpec retrieveSearch(
+            String finalQuery,
+            String sort,
+            Integer perPage,
+            Integer page,
+            String etag
+    ) {
+
+        WebClient.RequestHeadersSpec<?> spec = gitHubWebClient.get()
+                .uri(uriBuilder -> searchUri(uriBuilder, finalQuery, sort, perPage, page));
+
+        if (etag != null) {
+            spec = spec.header(HttpHeaders.IF_NONE_MATCH, etag);
+        }
+
+        return spec.retrieve()
+
+                // Handle GitHub rate limiting (HTTP 429) left after scheduler retries
+                .onStatus(HttpStatus.TOO_MANY_REQUESTS::equals,
+                        response -> Mono.error(
+                                new GitHubRateLimitException("GitHub API rate limit exceeded", null)))
+
+                // Handle other 4xx client errors
+                .onStatus(HttpStatusCode::is4xxClientError,
+                        response -> Mono.error(
+                                new GitHubApiException("GitHub API client error: " + response.statusCode().value())))
+
+                // Handle 5xx server errors
+                .onStatus(HttpStatusCode::is5xxServerError,
+                        response -> Mono.error(
+                                new GitHubApiException("GitHub API server error: " + response.statusCode().value())));
+    }
+
+    /**
+     * @return key of a search in {@link GitHubResponseCache}: its request URI
+     */
+    private String cacheKey(String finalQuery, String sort, Integer perPage, Integer page) {
+        return searchUri(UriComponentsBuilder.newInstance(), finalQuery, sort, perPage, page).toString();
+    }
+
+    /**
+     * Builds the search URI. Also used to derive the cache key,
+     * so both always match the request that is sent.
+     *
+     * @param uriBuilder Builder to apply path and query parameters to
+     * @param finalQuery Fully built GitHub query string
+     * @param sort       Optional sorting parameter
+     * @param perPage    Optional page size
+     * @param page       Optional 1-based page number
+     * @return search URI
+     */
+    private URI searchUri(
+            UriBuilder uriBuilder,
+            String finalQuery,
+            String sort,
+            Integer perPage,
+            Integer page
+    ) {
+        return uriBuilder
+                .path("/search/repositories")
+                .queryParam("q", finalQuery)
+                .queryParamIfPresent("sort", Optional.ofNullable(sort))
+                .queryParamIfPresent("per_page", Optional.ofNullable(perPage))
+                .queryParamIfPresent("page", Optional.ofNullable(page))
+                .build();
+    }
+
+    /**
+     * Works out the last page that can be requested for a search.
+     *
+     * <p>
+     * The {@code rel="last"} link is preferred. If it is missing,
+     * the page count is derived from {@code total_count}. Both are
+     * capped at the 1000-result search limit.
+     * </p>
+     *
+     * @param headers    Response headers of the first page
+     * @param totalCount Total number of matches reported by GitHub
+     * @return last page number (at least 1)
+     */
+    static int resolveLastPage(HttpHeaders headers, Integer totalCount) {
+
+        int maxPages = SEARCH_RESULT_CAP / MAX_PER_PAGE;
+
+        String link = headers != null ? headers.getFirst(HttpHeaders.LINK) : null;
+
+        if (link != null) {
+            Matcher matcher = LAST_LINK_PATTERN.matcher(link);
+            if (matcher.find()) {
+                String lastPage = UriComponentsBuilder.fromUriString(matcher.group(1))
+                        .build()
+                        .getQueryParams()
+                        .getFirst("page");
+                if (lastPage != null) {
+                    try {
+                        return Math.max(1, Math.min(Integer.parseInt(lastPage), maxPages));
+                    } catch (NumberFormatException ignored) {
+                        // Fall back to total_count below
+                    }
+                }
+            }
+        }
+
+        if (totalCount == null || totalCount <= 0) {
+            return 1;
+        }
+
+        int reachable = Math.min(totalCount, SEARCH_RESULT_CAP);
+        return Math.max(1, (reachable + MAX_PER_PAGE - 1) / MAX_PER_PAGE);
+    }
+
+    /**
+     * Adds the items of a page to the merged result,
+     * skipping repositories that were already seen.
+     *
+     * @param merged Accumulated items keyed by repository id
+     * @param page   Page to merge (may be null)
+     */
+    private void mergeItems(Map<Long, GitHubRepositoryDto> merged, GitHubSearchResponseDto page) {
+
+        if (page == null || page.getItems() == null) {
+            return;
+        }
+
+        for (GitHubRepositoryDto item : page.getItems()) {
+            if (item != null && item.getId() != null) {
+                merged.putIfAbsent(item.getId(), item);
+            }
         }
     }
 
@@ -108,23 +648,27 @@ public class GitHubApiClient {
      *
      * <p>
      * If language is provided, it appends the filter
-     * in GitHub's expected format:
+     * in GitHub's expected format. If a high-water mark is provided,
+     * a {@code pushed:>} qualifier restricts the search to repositories
+     * pushed after it (with second precision, in UTC):
      * </p>
      *
      * <pre>
      * Example:
      * query = "spring boot"
      * language = "Java"
+     * pushedAfter = 2026-02-11T10:15:30.123Z
      *
      * Result:
-     * "spring boot language:Java"
+     * "spring boot language:Java pushed:>2026-02-11T10:15:30Z"
      * </pre>
      *
-     * @param query     Search keyword
-     * @param language  Optional programming language
+     * @param query       Search keyword
+     * @param language    Optional programming language
+     * @param pushedAfter Optional high-water mark
      * @return Formatted GitHub query string
      */
-    private String buildQuery(String query, String language) {
+    static String buildQuery(String query, String language, Instant pushedAfter) {
 
         StringBuilder builder = new StringBuilder(query);
 
@@ -132,6 +676,10 @@ public class GitHubApiClient {
             builder.append(" language:").append(language);
         }
 
+        if (pushedAfter != null) {
+            builder.append(" pushed:>").append(pushedAfter.truncatedTo(ChronoUnit.SECONDS));
+        }
+
         return builder.toString();
     }
 }
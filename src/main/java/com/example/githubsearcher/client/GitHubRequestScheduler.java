@@ -0,0 +1,285 @@
+package com.example.githubsearcher.client;
+
+import com.example.githubsearcher.exception.GitHubRateLimitException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * WebClient filter that paces outgoing GitHub API calls according
+ * to the rate limit GitHub reports.
+ *
+ * <p>
+ * Every response is inspected for:
+ * <ul>
+ *     <li>{@code X-RateLimit-Limit}, {@code X-RateLimit-Remaining}
+ *         and {@code X-RateLimit-Reset}</li>
+ *     <li>{@code Retry-After} and secondary (abuse) rate limit responses</li>
+ * </ul>
+ * and the values are fed into the {@link RateLimitBucket} of the token
+ * the request was sent with.
+ * </p>
+ *
+ * <p>
+ * Tokens are held in a {@link GitHubTokenPool}. Each request is routed to
+ * the token with the most headroom and gets its Authorization header set
+ * accordingly, so the aggregate quota grows with the number of tokens.
+ * </p>
+ *
+ * <p>
+ * Before a request is sent, a slot is reserved in the bucket and the
+ * request is delayed until that slot is due. Callers therefore queue
+ * instead of burning the quota. If the wait would exceed
+ * {@code github.api.rate-limit.max-wait}, the request fails fast with a
+ * {@link GitHubRateLimitException}.
+ * </p>
+ *
+ * <p>
+ * When GitHub still answers with a rate limit response, the request is
+ * retried (up to {@code github.api.rate-limit.max-retries} times) as long
+ * as the advertised wait fits into the allowed wait.
+ * </p>
+ *
+ * <p>
+ * {@code 304 Not Modified} responses do not count against the GitHub
+ * rate limit, so their slot is given back to the bucket.
+ * </p>
+ */
+@Component
+public class GitHubRequestScheduler implements ExchangeFilterFunction {
+
+    static final String LIMIT_HEADER = "X-RateLimit-Limit";
+    static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+    static final String RESET_HEADER = "X-RateLimit-Reset";
+
+    /**
+     * GitHub asks clients to wait at least one minute after a secondary
+     * rate limit response that carries no other hint.
+     */
+    private static final Duration SECONDARY_LIMIT_BACKOFF = Duration.ofMinutes(1);
+
+    private final int burst;
+
+    private final int defaultRequestsPerMinute;
+
+    private final Duration maxWait;
+
+    private final int maxRetries;
+
+    private final Clock clock;
+
+    /**
+     * Credentials requests are routed over. Anonymous until tokens are configured.
+     */
+    private volatile GitHubTokenPool tokenPool;
+
+    /**
+     * Creates the scheduler from application properties.
+     *
+     * @param burst                    Maximum number of requests sent back to back
+     * @param defaultRequestsPerMinute Pacing used until GitHub reports a quota
+     * @param maxWait                  Longest time a caller may be queued
+     * @param maxRetries               Retries after a rate limit response
+     */
+    @Autowired
+    public GitHubRequestScheduler(
+            @Value("${github.api.rate-limit.burst:10}") int burst,
+            @Value("${github.api.rate-limit.default-requests-per-minute:30}") int defaultRequestsPerMinute,
+            @Value("${github.api.rate-limit.max-wait:30s}") Duration maxWait,
+            @Value("${github.api.rate-limit.max-retries:1}") int maxRetries
+    ) {
+        this(burst, defaultRequestsPerMinute, maxWait, maxRetries, Clock.systemUTC());
+    }
+
+    GitHubRequestScheduler(
+            int burst,
+            int defaultRequestsPerMinute,
+            Duration maxWait,
+            int maxRetries,
+            Clock clock
+    ) {
+        this.burst = burst;
+        this.defaultRequestsPerMinute = defaultRequestsPerMinute;
+        this.maxWait = maxWait;
+        this.maxRetries = maxRetries;
+        this.clock = clock;
+        this.tokenPool = new GitHubTokenPool(List.of(), burst, defaultRequestsPerMinute, clock.millis());
+    }
+
+    /**
+     * Replaces the credentials requests are routed over.
+     *
+     * <p>
+     * Every token gets a fresh budget. With an empty list,
+     * requests are sent anonymously.
+     * </p>
+     *
+     * @param tokens GitHub personal access tokens
+     */
+    public void configureTokens(List<String> tokens) {
+        this.tokenPool = new GitHubTokenPool(tokens, burst, defaultRequestsPerMinute, clock.millis());
+    }
+
+    /**
+     * @return number of credentials requests are routed over
+     */
+    public int credentialCount() {
+        return tokenPool.size();
+    }
+
+    /**
+     * @return quota currently reported by GitHub, summed over all credentials
+     */
+    public QuotaSnapshot quota() {
+        return tokenPool.quota(clock.millis());
+    }
+
+    /**
+     * Delays the request until the rate limit allows it and records
+     * the rate limit headers of the response.
+     *
+     * @param request Outgoing request
+     * @param next    Next exchange function in the chain
+     * @return response of the (possibly retried) request
+     */
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return exchange(request, next, 0);
+    }
+
+    private Mono<ClientResponse> exchange(ClientRequest request, ExchangeFunction next, int attempt) {
+
+        GitHubTokenPool pool = tokenPool;
+
+        return Mono.defer(() -> {
+
+            long now = clock.millis();
+            GitHubTokenPool.Reservation reservation = pool.reserve(now, maxWait.toMillis());
+
+            if (reservation == null) {
+                return Mono.error(new GitHubRateLimitException(
+                        "GitHub API rate limit exceeded",
+                        Duration.ofMillis(pool.shortestWait(now))));
+            }
+
+            GitHubTokenPool.Credential credential = reservation.credential();
+
+            Mono<ClientResponse> call = Mono.defer(() ->
+                            next.exchange(authorize(request, credential)))
+                    .flatMap(response -> {
+
+                        boolean limited = record(response, credential.bucket());
+
+                        if (limited
+                                && attempt < maxRetries
+                                && pool.shortestWait(clock.millis()) <= maxWait.toMillis()) {
+                            return response.releaseBody()
+                                    .then(exchange(request, next, attempt + 1));
+                        }
+
+                        return Mono.just(response);
+                    });
+
+            return reservation.waitMs() > 0
+                    ? Mono.delay(Duration.ofMillis(reservation.waitMs())).then(call)
+                    : call;
+        });
+    }
+
+    /**
+     * Sets the Authorization header for the selected credential.
+     *
+     * @param request    Outgoing request
+     * @param credential Credential selected for the request
+     * @return request carrying the credential's token
+     */
+    private ClientRequest authorize(ClientRequest request, GitHubTokenPool.Credential credential) {
+
+        if (credential.token() == null) {
+            return request;
+        }
+
+        return ClientRequest.from(request)
+                .headers(headers -> headers.setBearerAuth(credential.token()))
+                .build();
+    }
+
+    /**
+     * Feeds the rate limit headers of a response into the bucket
+     * of the credential the request was sent with.
+     *
+     * @param response Response received from GitHub
+     * @param bucket   Budget of the credential used for the request
+     * @return true if the response is a (primary or secondary) rate limit response
+     */
+    boolean record(ClientResponse response, RateLimitBucket bucket) {
+
+        HttpHeaders headers = response.headers().asHttpHeaders();
+        long now = clock.millis();
+
+        Integer remaining = parseInt(headers.getFirst(REMAINING_HEADER));
+        Long reset = parseLong(headers.getFirst(RESET_HEADER));
+
+        bucket.record(
+                parseInt(headers.getFirst(LIMIT_HEADER)),
+                remaining,
+                reset != null ? reset * 1000 : 0
+        );
+
+        Long retryAfter = parseLong(headers.getFirst(HttpHeaders.RETRY_AFTER));
+        int status = response.statusCode().value();
+
+        // Conditional requests answered with 304 are free
+        if (status == HttpStatus.NOT_MODIFIED.value()) {
+            bucket.refund();
+            return false;
+        }
+
+        boolean limited = status == HttpStatus.TOO_MANY_REQUESTS.value()
+                || (status == HttpStatus.FORBIDDEN.value()
+                        && (retryAfter != null || Integer.valueOf(0).equals(remaining)));
+
+        if (!limited) {
+            return false;
+        }
+
+        if (retryAfter != null) {
+            bucket.blockUntil(now + retryAfter * 1000);
+        } else if (Integer.valueOf(0).equals(remaining) && reset != null) {
+            bucket.blockUntil(reset * 1000);
+        } else {
+            bucket.blockUntil(now + SECONDARY_LIMIT_BACKOFF.toMillis());
+        }
+
+        return true;
+    }
+
+    private static Integer parseInt(String value) {
+        Long parsed = parseLong(value);
+        return parsed != null ? parsed.intValue() : null;
+    }
+
+    private static Long parseLong(String value) {
+
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+}
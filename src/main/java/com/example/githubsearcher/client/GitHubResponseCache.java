@@ -0,0 +1,188 @@
+package com.example.githubsearcher.client;
+
+import com.example.githubsearcher.dto.github.GitHubRepositoryDto;
+import com.example.githubsearcher.dto.github.GitHubSearchResponseDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Conditional request cache for GitHub search responses.
+ *
+ * <p>
+ * Stores the {@code ETag} and the parsed {@link GitHubSearchResponseDto}
+ * of every search response, keyed by the request URI. On a repeated
+ * request, {@code GitHubApiClient} sends the stored ETag in an
+ * {@code If-None-Match} header and serves the cached body when GitHub
+ * answers {@code 304 Not Modified}. GitHub does not count 304 responses
+ * against the rate limit.
+ * </p>
+ *
+ * <p>
+ * The cache is bounded by the estimated size of the cached bodies
+ * ({@code github.api.cache.max-size}) and evicts the least recently
+ * used entries first.
+ * </p>
+ *
+ * <p>
+ * Access is guarded by a {@link ReentrantLock} (not {@code synchronized}),
+ * so virtual threads do not pin their carrier while waiting for it.
+ * </p>
+ */
+@Component
+public class GitHubResponseCache {
+
+    /**
+     * Rough fixed cost of a cached response and of a single item,
+     * on top of the characters of its strings.
+     */
+    private static final long RESPONSE_OVERHEAD_BYTES = 128;
+    private static final long ITEM_OVERHEAD_BYTES = 160;
+
+    private final long maxBytes;
+
+    /**
+     * Entries in access order, so the eldest entry is the least recently used.
+     */
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+
+    private long currentBytes;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Creates a cache bounded by the given size.
+     *
+     * @param maxSize Upper bound for the estimated size of all cached bodies
+     */
+    public GitHubResponseCache(@Value("${github.api.cache.max-size:32MB}") DataSize maxSize) {
+        this.maxBytes = maxSize.toBytes();
+    }
+
+    /**
+     * Returns the cached entry for a request URI and marks it as recently used.
+     *
+     * @param key Request URI
+     * @return cached entry, or null if absent
+     */
+    public Entry get(String key) {
+        lock.lock();
+        try {
+            return entries.get(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stores a response, evicting least recently used entries
+     * until the cache fits into its size bound.
+     *
+     * <p>
+     * Responses larger than the whole cache are not stored.
+     * </p>
+     *
+     * @param key  Request URI
+     * @param etag ETag returned by GitHub
+     * @param body Parsed response body
+     */
+    public void put(String key, String etag, GitHubSearchResponseDto body) {
+
+        long bytes = estimateBytes(body);
+
+        lock.lock();
+        try {
+            Entry previous = entries.remove(key);
+            if (previous != null) {
+                currentBytes -= previous.bytes();
+            }
+
+            if (bytes > maxBytes) {
+                return;
+            }
+
+            entries.put(key, new Entry(etag, body, bytes));
+            currentBytes += bytes;
+
+            Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+
+            while (currentBytes > maxBytes && eldest.hasNext()) {
+                currentBytes -= eldest.next().getValue().bytes();
+                eldest.remove();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return number of cached responses
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return estimated size of all cached bodies in bytes
+     */
+    public long sizeInBytes() {
+        lock.lock();
+        try {
+            return currentBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Estimates the heap used by a parsed response from its strings.
+     *
+     * @param body Parsed response body
+     * @return estimated size in bytes
+     */
+    static long estimateBytes(GitHubSearchResponseDto body) {
+
+        long bytes = RESPONSE_OVERHEAD_BYTES;
+
+        if (body == null || body.getItems() == null) {
+            return bytes;
+        }
+
+        for (GitHubRepositoryDto item : body.getItems()) {
+            if (item == null) {
+                continue;
+            }
+            bytes += ITEM_OVERHEAD_BYTES
+                    + length(item.getName())
+                    + length(item.getDescription())
+                    + length(item.getLanguage())
+                    + (item.getOwner() != null ? length(item.getOwner().getLogin()) : 0);
+        }
+
+        return bytes;
+    }
+
+    private static long length(String value) {
+        return value != null ? 2L * value.length() : 0;
+    }
+
+    /**
+     * A cached response.
+     *
+     * @param etag  ETag returned by GitHub
+     * @param body  Parsed response body
+     * @param bytes Estimated size of the body
+     */
+    public record Entry(String etag, GitHubSearchResponseDto body, long bytes) {
+    }
+}
@@ -0,0 +1,348 @@
+package com.example.githubsearcher.client;
+
+import com.example.githubsearcher.dto.github.GitHubRepositoryDto;
+import com.example.githubsearcher.exception.GitHubApiException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Flux;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.ObjectReadContext;
+import tools.jackson.core.async.ByteArrayFeeder;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.util.TokenBuffer;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Incremental decoder of a GitHub search response body.
+ *
+ * <p>
+ * The body is fed to a non-blocking Jackson parser chunk by chunk as it
+ * arrives. Each element of the {@code items} array is emitted as soon as
+ * its closing brace has been read, so mapping and writing can start
+ * before the page has finished downloading.
+ * </p>
+ *
+ * <p>
+ * GitHub items carry around 80 fields, of which {@link GitHubRepositoryDto}
+ * keeps eight. Only the tokens of those fields (see {@link #ITEM_FIELDS})
+ * are buffered and bound; every other subtree is skipped token by token
+ * without being materialized. {@code total_count} is captured on the way.
+ * </p>
+ *
+ * <p>
+ * An instance decodes exactly one response body and is not thread-safe.
+ * </p>
+ */
+final class GitHubSearchPageDecoder {
+
+    /**
+     * Item fields bound to {@link GitHubRepositoryDto}; of {@code owner}
+     * only the login is kept. Must be kept in line with the DTOs.
+     */
+    static final Filter ITEM_FIELDS = new Filter(Map.of(
+            "id", Filter.ALL,
+            "name", Filter.ALL,
+            "description", Filter.ALL,
+            "language", Filter.ALL,
+            "stargazers_count", Filter.ALL,
+            "forks_count", Filter.ALL,
+            "updated_at", Filter.ALL,
+            "owner", new Filter(Map.of("login", Filter.ALL))
+    ));
+
+    private final ObjectMapper objectMapper;
+
+    private final JsonParser parser;
+
+    private final ByteArrayFeeder feeder;
+
+    private Integer totalCount;
+
+    /**
+     * Nesting of the root object outside of {@code items} (0 or 1).
+     */
+    private int rootDepth;
+
+    /**
+     * What the next root value is: a property to capture or to skip.
+     */
+    private RootValue pendingRootValue = RootValue.NONE;
+
+    private boolean inItems;
+
+    /**
+     * Nesting while skipping a value, or -1 if not skipping.
+     */
+    private int skipNesting = -1;
+
+    /**
+     * Tokens of the item being read, or null between items.
+     */
+    private TokenBuffer item;
+
+    /**
+     * Field filters of the objects currently open inside the item.
+     */
+    private final Deque<Filter> filters = new ArrayDeque<>();
+
+    /**
+     * Filter of the value following a kept property name, or null.
+     */
+    private Filter pendingValue;
+
+    /**
+     * Nesting while copying a whole value into {@link #item}, or -1.
+     */
+    private int copyNesting = -1;
+
+    /**
+     * @param objectMapper Mapper used to bind the buffered item tokens
+     */
+    GitHubSearchPageDecoder(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.parser = objectMapper.tokenStreamFactory().createNonBlockingByteArrayParser(ObjectReadContext.empty());
+        this.feeder = (ByteArrayFeeder) parser.nonBlockingInputFeeder();
+    }
+
+    /**
+     * Decodes a response body into its items.
+     *
+     * @param body Response body chunks; each chunk is released once fed
+     * @return items in document order
+     */
+    Flux<GitHubRepositoryDto> decode(Flux<DataBuffer> body) {
+        return body.concatMapIterable(this::feed)
+                .concatWith(Flux.defer(() -> Flux.fromIterable(finish())));
+    }
+
+    /**
+     * @return {@code total_count} of the response, or null if not (yet) read
+     */
+    Integer totalCount() {
+        return totalCount;
+    }
+
+    /**
+     * Feeds one chunk of the body.
+     *
+     * @param buffer Next chunk; released by this method
+     * @return items completed by this chunk
+     */
+    List<GitHubRepositoryDto> feed(DataBuffer buffer) {
+
+        byte[] bytes = new byte[buffer.readableByteCount()];
+
+        try {
+            buffer.read(bytes);
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+
+        try {
+            feeder.feedInput(bytes, 0, bytes.length);
+            return drain();
+        } catch (JacksonException ex) {
+            throw new GitHubApiException("Malformed GitHub search response", ex);
+        }
+    }
+
+    /**
+     * Signals the end of the body.
+     *
+     * @return items completed by the end of input
+     * @throws GitHubApiException if the body ended inside the document
+     */
+    List<GitHubRepositoryDto> finish() {
+
+        List<GitHubRepositoryDto> completed;
+
+        try {
+            feeder.endOfInput();
+            completed = drain();
+        } catch (JacksonException ex) {
+            throw new GitHubApiException("Malformed GitHub search response", ex);
+        }
+
+        if (rootDepth != 0 || inItems || item != null) {
+            throw new GitHubApiException("Truncated GitHub search response");
+        }
+
+        return completed;
+    }
+
+    private List<GitHubRepositoryDto> drain() {
+
+        List<GitHubRepositoryDto> completed = new ArrayList<>();
+        JsonToken token;
+
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            handle(token, completed);
+        }
+
+        return completed;
+    }
+
+    private void handle(JsonToken token, List<GitHubRepositoryDto> completed) {
+
+        if (skipNesting >= 0) {
+            skip(token);
+        } else if (item != null) {
+            handleItemToken(token, completed);
+        } else {
+            handleRootToken(token);
+        }
+    }
+
+    /**
+     * Follows the structure of a skipped value without keeping it.
+     */
+    private void skip(JsonToken token) {
+
+        if (token.isStructStart()) {
+            skipNesting++;
+        } else if (token.isStructEnd()) {
+            skipNesting--;
+        }
+
+        if (skipNesting == 0) {
+            skipNesting = -1;
+        }
+    }
+
+    private void handleRootToken(JsonToken token) {
+
+        RootValue value = pendingRootValue;
+        pendingRootValue = RootValue.NONE;
+
+        if (value == RootValue.TOTAL_COUNT && token == JsonToken.VALUE_NUMBER_INT) {
+            totalCount = parser.getIntValue();
+            return;
+        }
+
+        if (value == RootValue.ITEMS && token == JsonToken.START_ARRAY) {
+            inItems = true;
+            return;
+        }
+
+        if (value != RootValue.NONE) {
+            skipNesting = 0;
+            skip(token);
+            return;
+        }
+
+        if (inItems) {
+            if (token == JsonToken.START_OBJECT) {
+                item = TokenBuffer.forGeneration();
+                item.copyCurrentEvent(parser);
+                filters.push(ITEM_FIELDS);
+            } else if (token == JsonToken.END_ARRAY) {
+                inItems = false;
+            } else {
+                skipNesting = 0;
+                skip(token);
+            }
+            return;
+        }
+
+        switch (token) {
+            case START_OBJECT -> rootDepth++;
+            case END_OBJECT -> rootDepth--;
+            case PROPERTY_NAME -> pendingRootValue = switch (parser.currentName()) {
+                case "total_count" -> RootValue.TOTAL_COUNT;
+                case "items" -> RootValue.ITEMS;
+                default -> RootValue.SKIP;
+            };
+            default -> {
+                // Not a search response object; nothing to extract
+                skipNesting = 0;
+                skip(token);
+            }
+        }
+    }
+
+    private void handleItemToken(JsonToken token, List<GitHubRepositoryDto> completed) {
+
+        if (copyNesting >= 0) {
+            copy(token);
+            return;
+        }
+
+        if (pendingValue != null) {
+
+            Filter filter = pendingValue;
+            pendingValue = null;
+
+            if (filter != Filter.ALL && token == JsonToken.START_OBJECT) {
+                item.copyCurrentEvent(parser);
+                filters.push(filter);
+            } else {
+                copyNesting = 0;
+                copy(token);
+            }
+            return;
+        }
+
+        if (token == JsonToken.PROPERTY_NAME) {
+
+            Filter child = filters.peek().fields().get(parser.currentName());
+
+            if (child == null) {
+                skipNesting = 0;
+            } else {
+                item.copyCurrentEvent(parser);
+                pendingValue = child;
+            }
+            return;
+        }
+
+        if (token == JsonToken.END_OBJECT) {
+
+            item.copyCurrentEvent(parser);
+            filters.pop();
+
+            if (filters.isEmpty()) {
+                completed.add(objectMapper.readValue(item.asParser(), GitHubRepositoryDto.class));
+                item = null;
+            }
+        }
+    }
+
+    /**
+     * Copies a whole value into the item buffer.
+     */
+    private void copy(JsonToken token) {
+
+        item.copyCurrentEvent(parser);
+
+        if (token.isStructStart()) {
+            copyNesting++;
+        } else if (token.isStructEnd()) {
+            copyNesting--;
+        }
+
+        if (copyNesting == 0) {
+            copyNesting = -1;
+        }
+    }
+
+    private enum RootValue {
+        NONE, TOTAL_COUNT, ITEMS, SKIP
+    }
+
+    /**
+     * Fields to keep of an object; {@link #ALL} keeps a value entirely.
+     *
+     * @param fields Kept field names and the filter of their values
+     */
+    record Filter(Map<String, Filter> fields) {
+
+        static final Filter ALL = new Filter(Map.of());
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.githubsearcher.client;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Pool of GitHub credentials, each with its own rate limit budget.
+ *
+ * <p>
+ * GitHub rate limits are tracked per token, so spreading requests over
+ * several tokens multiplies the available quota. Every request is routed
+ * to the token with the most headroom:
+ * <ol>
+ *     <li>the token whose next slot is due soonest</li>
+ *     <li>on a tie, the token with the most remaining quota</li>
+ * </ol>
+ * A token whose quota is exhausted reports a wait until its reset time,
+ * so it is effectively retired until then.
+ * </p>
+ *
+ * <p>
+ * If no token is configured, the pool contains a single anonymous
+ * credential that sends no Authorization header.
+ * </p>
+ */
+class GitHubTokenPool {
+
+    private final List<Credential> credentials;
+
+    /**
+     * Makes selection and reservation atomic; a lock instead of
+     * {@code synchronized} so virtual threads do not pin their carrier.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Creates a pool with one bucket per token.
+     *
+     * @param tokens                   Personal access tokens (blank entries are ignored)
+     * @param burst                    Maximum number of requests sent back to back per token
+     * @param defaultRequestsPerMinute Pacing per token until GitHub reports a quota
+     * @param nowMs                    Current time in epoch millis
+     */
+    GitHubTokenPool(List<String> tokens, int burst, int defaultRequestsPerMinute, long nowMs) {
+
+        List<Credential> list = new ArrayList<>();
+
+        if (tokens != null) {
+            tokens.stream()
+                    .filter(token -> token != null && !token.isBlank())
+                    .map(String::trim)
+                    .distinct()
+                    .forEach(token -> list.add(new Credential(
+                            token,
+                            new RateLimitBucket(burst, defaultRequestsPerMinute, nowMs))));
+        }
+
+        if (list.isEmpty()) {
+            list.add(new Credential(null, new RateLimitBucket(burst, defaultRequestsPerMinute, nowMs)));
+        }
+
+        this.credentials = List.copyOf(list);
+    }
+
+    /**
+     * Selects the credential with the most headroom and reserves a slot on it.
+     *
+     * @param nowMs     Current time in epoch millis
+     * @param maxWaitMs Longest acceptable wait
+     * @return the reservation, or null if no credential has a slot within the wait
+     */
+    Reservation reserve(long nowMs, long maxWaitMs) {
+
+        lock.lock();
+        try {
+            Credential best = null;
+            long bestWait = Long.MAX_VALUE;
+            int bestRemaining = Integer.MIN_VALUE;
+
+            for (Credential credential : credentials) {
+
+                long wait = credential.bucket().peekWait(nowMs);
+                int remaining = credential.bucket().remaining();
+
+                // Unknown quota has not been used yet, so prefer it
+                int headroom = remaining < 0 ? Integer.MAX_VALUE : remaining;
+
+                if (wait < bestWait || (wait == bestWait && headroom > bestRemaining)) {
+                    best = credential;
+                    bestWait = wait;
+                    bestRemaining = headroom;
+                }
+            }
+
+            long wait = best.bucket().reserve(nowMs, maxWaitMs);
+
+            return wait < 0 ? null : new Reservation(best, wait);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the shortest time until any credential has a free slot.
+     *
+     * @param nowMs Current time in epoch millis
+     * @return wait in milliseconds
+     */
+    long shortestWait(long nowMs) {
+        return credentials.stream()
+                .mapToLong(credential -> credential.bucket().peekWait(nowMs))
+                .min()
+                .orElse(0);
+    }
+
+    /**
+     * Sums the reported quota of all credentials.
+     *
+     * <p>
+     * Credentials that have not seen a response yet are left out.
+     * If no credential has, limit and remaining are -1.
+     * </p>
+     *
+     * @param nowMs Current time in epoch millis
+     * @return combined quota of the pool
+     */
+    QuotaSnapshot quota(long nowMs) {
+
+        int limit = -1;
+        int remaining = -1;
+        long resetAtMs = 0;
+
+        for (Credential credential : credentials) {
+
+            RateLimitBucket bucket = credential.bucket();
+            int bucketLimit = bucket.limit();
+            int bucketRemaining = bucket.remaining();
+            long bucketReset = bucket.resetAtMs();
+
+            if (bucketLimit < 0 || bucketRemaining < 0) {
+                continue;
+            }
+
+            // A passed reset means the window has already refilled
+            boolean refilled = bucketReset > 0 && bucketReset <= nowMs;
+
+            limit = Math.max(limit, 0) + bucketLimit;
+            remaining = Math.max(remaining, 0) + (refilled ? bucketLimit : bucketRemaining);
+            resetAtMs = Math.max(resetAtMs, refilled ? 0 : bucketReset);
+        }
+
+        return new QuotaSnapshot(limit, remaining, resetAtMs);
+    }
+
+    /**
+     * @return number of credentials in the pool
+     */
+    int size() {
+        return credentials.size();
+    }
+
+    /**
+     * A token together with its rate limit budget.
+     *
+     * @param token  Personal access token, or null for anonymous access
+     * @param bucket Rate limit budget of the token
+     */
+    record Credential(String token, RateLimitBucket bucket) {
+    }
+
+    /**
+     * A reserved slot on a credential.
+     *
+     * @param credential Credential the request must be sent with
+     * @param waitMs     Time to wait before sending the request
+     */
+    record Reservation(Credential credential, long waitMs) {
+    }
+}
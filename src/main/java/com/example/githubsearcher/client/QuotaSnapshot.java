@@ -0,0 +1,23 @@
+package com.example.githubsearcher.client;
+
+/**
+ * Point-in-time view of the GitHub rate limit quota.
+ *
+ * <p>
+ * Returned by {@link GitHubRequestScheduler#quota()} and summed over all
+ * configured tokens. Values are -1 until GitHub has reported a quota.
+ * </p>
+ *
+ * @param limit     Requests per window, or -1 if unknown
+ * @param remaining Requests left in the current window, or -1 if unknown
+ * @param resetAtMs Epoch millis at which the latest window resets, or 0 if unknown
+ */
+public record QuotaSnapshot(int limit, int remaining, long resetAtMs) {
+
+    /**
+     * @return true if GitHub has reported a quota
+     */
+    public boolean known() {
+        return limit >= 0 && remaining >= 0;
+    }
+}
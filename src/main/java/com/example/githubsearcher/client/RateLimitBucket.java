@@ -0,0 +1,308 @@
+package com.example.githubsearcher.client;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Token bucket tracking the GitHub rate limit budget of a single credential.
+ *
+ * <p>
+ * The bucket is sized and refilled from the values GitHub reports on every
+ * response:
+ * <ul>
+ *     <li>{@code X-RateLimit-Limit} - caps the burst size</li>
+ *     <li>{@code X-RateLimit-Remaining} - quota left in the current window</li>
+ *     <li>{@code X-RateLimit-Reset} - end of the current window</li>
+ * </ul>
+ * The remaining quota is spread evenly over the time left until the reset,
+ * so callers are paced instead of exhausting the quota in a single burst.
+ * </p>
+ *
+ * <p>
+ * Until the first response is seen, a configured default rate is used.
+ * All times are epoch milliseconds supplied by the caller.
+ * </p>
+ *
+ * <p>
+ * State is guarded by a {@link ReentrantLock} rather than
+ * {@code synchronized}, so virtual threads waiting for it
+ * do not pin their carrier thread.
+ * </p>
+ */
+class RateLimitBucket {
+
+    /**
+     * Upper bound for the number of tokens the bucket can hold.
+     */
+    private final int burst;
+
+    /**
+     * Refill rate (tokens per millisecond) used while the quota is unknown.
+     */
+    private final double defaultRatePerMs;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Quota per window as reported by GitHub, or -1 if unknown.
+     */
+    private int limit = -1;
+
+    /**
+     * Remaining quota in the current window, or -1 if unknown.
+     */
+    private int remaining = -1;
+
+    /**
+     * Epoch millis at which the current window resets, or 0 if unknown.
+     */
+    private long resetAtMs;
+
+    /**
+     * Epoch millis until which no request may be sent (Retry-After / secondary limits).
+     */
+    private long blockedUntilMs;
+
+    /**
+     * Available tokens. Can become negative when callers are queued.
+     */
+    private double tokens;
+
+    /**
+     * Epoch millis of the last refill.
+     */
+    private long lastRefillMs;
+
+    /**
+     * Creates a full bucket.
+     *
+     * @param burst                    Maximum number of tokens
+     * @param defaultRequestsPerMinute Pacing used before any rate limit headers are seen
+     * @param nowMs                    Current time in epoch millis
+     */
+    RateLimitBucket(int burst, int defaultRequestsPerMinute, long nowMs) {
+        this.burst = Math.max(1, burst);
+        this.defaultRatePerMs = Math.max(1, defaultRequestsPerMinute) / 60_000d;
+        this.tokens = this.burst;
+        this.lastRefillMs = nowMs;
+    }
+
+    /**
+     * Reserves a slot for one request.
+     *
+     * <p>
+     * If the reservation succeeds, the caller must wait the returned
+     * number of milliseconds before sending the request. If the wait
+     * would exceed {@code maxWaitMs}, nothing is reserved and
+     * {@code -1} is returned.
+     * </p>
+     *
+     * @param nowMs     Current time in epoch millis
+     * @param maxWaitMs Longest acceptable wait
+     * @return wait in milliseconds, or -1 if the wait is too long
+     */
+    long reserve(long nowMs, long maxWaitMs) {
+
+        lock.lock();
+        try {
+            long wait = waitFor(nowMs);
+
+            if (wait > maxWaitMs) {
+                return -1;
+            }
+
+            tokens -= 1;
+
+            if (remaining > 0) {
+                remaining--;
+            }
+
+            return wait;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns how long a request issued now would have to wait,
+     * without reserving anything.
+     *
+     * @param nowMs Current time in epoch millis
+     * @return wait in milliseconds
+     */
+    long peekWait(long nowMs) {
+        lock.lock();
+        try {
+            return waitFor(nowMs);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Records the rate limit headers of a response.
+     *
+     * <p>
+     * Responses of concurrent requests may arrive out of order, so a
+     * reported remaining value only lowers the local count, unless the
+     * response belongs to a newer window.
+     * </p>
+     *
+     * @param limit     Reported quota per window, or null
+     * @param remaining Reported remaining quota, or null
+     * @param resetAtMs Reported reset time in epoch millis, or 0
+     */
+    void record(Integer limit, Integer remaining, long resetAtMs) {
+
+        lock.lock();
+        try {
+            if (limit != null) {
+                this.limit = limit;
+            }
+
+            if (remaining == null) {
+                return;
+            }
+
+            if (resetAtMs > this.resetAtMs || this.remaining < 0) {
+                this.remaining = remaining;
+                this.resetAtMs = Math.max(resetAtMs, this.resetAtMs);
+            } else {
+                this.remaining = Math.min(this.remaining, remaining);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gives back the slot of a request that GitHub did not count
+     * against the quota (e.g. a {@code 304 Not Modified} response).
+     */
+    void refund() {
+
+        lock.lock();
+        try {
+            tokens = Math.min(capacity(), tokens + 1);
+
+            if (remaining >= 0 && (limit < 0 || remaining < limit)) {
+                remaining++;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops all requests until the given time.
+     *
+     * @param untilMs Epoch millis until which requests are blocked
+     */
+    void blockUntil(long untilMs) {
+        lock.lock();
+        try {
+            blockedUntilMs = Math.max(blockedUntilMs, untilMs);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return quota per window as reported by GitHub, or -1 if unknown
+     */
+    int limit() {
+        lock.lock();
+        try {
+            return limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return remaining quota in the current window, or -1 if unknown
+     */
+    int remaining() {
+        lock.lock();
+        try {
+            return remaining;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return reset time of the current window in epoch millis, or 0 if unknown
+     */
+    long resetAtMs() {
+        lock.lock();
+        try {
+            return resetAtMs;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Computes the wait for the next token, taking blocks,
+     * exhausted quota and pacing into account.
+     */
+    private long waitFor(long nowMs) {
+
+        rollWindow(nowMs);
+        refill(nowMs);
+
+        long wait = Math.max(0, blockedUntilMs - nowMs);
+
+        if (remaining == 0 && resetAtMs > nowMs) {
+            wait = Math.max(wait, resetAtMs - nowMs);
+        }
+
+        if (tokens < 1) {
+            wait = Math.max(wait, (long) Math.ceil((1 - tokens) / currentRate(nowMs)));
+        }
+
+        return wait;
+    }
+
+    /**
+     * Starts a new window once the reset time has passed.
+     */
+    private void rollWindow(long nowMs) {
+        if (resetAtMs > 0 && nowMs >= resetAtMs) {
+            remaining = limit;
+            resetAtMs = 0;
+        }
+    }
+
+    /**
+     * Adds the tokens earned since the last refill.
+     */
+    private void refill(long nowMs) {
+
+        long elapsed = nowMs - lastRefillMs;
+
+        if (elapsed > 0) {
+            tokens = Math.min(capacity(), tokens + elapsed * currentRate(nowMs));
+            lastRefillMs = nowMs;
+        }
+    }
+
+    /**
+     * Burst size, never larger than the quota GitHub reports.
+     */
+    private int capacity() {
+        return limit > 0 ? Math.min(burst, limit) : burst;
+    }
+
+    /**
+     * Spreads the remaining quota over the time left in the window.
+     */
+    private double currentRate(long nowMs) {
+
+        if (remaining > 0 && resetAtMs > nowMs) {
+            return remaining / (double) (resetAtMs - nowMs);
+        }
+
+        return defaultRatePerMs;
+    }
+}
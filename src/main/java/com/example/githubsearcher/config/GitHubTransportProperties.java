@@ -0,0 +1,50 @@
+package com.example.githubsearcher.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * HTTP transport settings of the GitHub {@code WebClient}, bound from
+ * {@code github.api.transport.*}.
+ *
+ * <p>
+ * Used by {@link WebClientConfig} to build the Reactor Netty client:
+ * a keep-alive connection pool (so TLS handshakes are not repeated on
+ * every call), optional HTTP/2, gzip compression, timeouts on every
+ * phase of a call and the codec buffer limit for response bodies.
+ * </p>
+ *
+ * @param maxConnections         Upper bound for pooled connections to GitHub
+ * @param pendingAcquireMaxCount Requests that may wait for a pooled connection
+ * @param pendingAcquireTimeout  Longest wait for a pooled connection
+ * @param maxIdleTime            Idle time after which a pooled connection is closed
+ * @param maxLifeTime            Age after which a pooled connection is closed
+ * @param evictionInterval       Interval of the background check for idle and expired connections
+ * @param http2                  Whether to negotiate HTTP/2 (falls back to HTTP/1.1)
+ * @param compression            Whether to send {@code Accept-Encoding: gzip} and decompress responses
+ * @param connectTimeout         TCP connect timeout
+ * @param readTimeout            Longest gap between two reads on a connection
+ * @param writeTimeout           Longest time to write a request
+ * @param responseTimeout        Longest wait for the response after the request was sent
+ * @param maxInMemorySize        Largest response body decoded in memory
+ */
+@ConfigurationProperties("github.api.transport")
+public record GitHubTransportProperties(
+        @DefaultValue("50") int maxConnections,
+        @DefaultValue("1000") int pendingAcquireMaxCount,
+        @DefaultValue("10s") Duration pendingAcquireTimeout,
+        @DefaultValue("30s") Duration maxIdleTime,
+        @DefaultValue("10m") Duration maxLifeTime,
+        @DefaultValue("30s") Duration evictionInterval,
+        @DefaultValue("false") boolean http2,
+        @DefaultValue("true") boolean compression,
+        @DefaultValue("5s") Duration connectTimeout,
+        @DefaultValue("30s") Duration readTimeout,
+        @DefaultValue("10s") Duration writeTimeout,
+        @DefaultValue("30s") Duration responseTimeout,
+        @DefaultValue("4MB") DataSize maxInMemorySize
+) {
+}
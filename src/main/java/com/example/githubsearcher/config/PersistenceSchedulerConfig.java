@@ -0,0 +1,47 @@
+package com.example.githubsearcher.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Configuration of the scheduler that runs blocking JPA/JDBC work
+ * for the reactive search flow.
+ *
+ * <p>
+ * The reactive endpoints must not block Netty or servlet threads, so
+ * database writes are moved to a bounded elastic scheduler. Its thread
+ * cap should match the connection pool size: more threads would only
+ * wait for a connection.
+ * </p>
+ *
+ * <p>
+ * Configuration:
+ * <ul>
+ *     <li>{@code github.reactive.persistence.threads} - maximum number of
+ *         concurrent database tasks (default: 10, Hikari's default pool size)</li>
+ *     <li>{@code github.reactive.persistence.queue-size} - tasks that may wait
+ *         for a thread before new ones are rejected</li>
+ * </ul>
+ * </p>
+ */
+@Configuration
+public class PersistenceSchedulerConfig {
+
+    /**
+     * Creates the scheduler for blocking persistence calls.
+     *
+     * @param threads   Maximum number of threads
+     * @param queueSize Maximum number of queued tasks
+     * @return bounded elastic scheduler, disposed on shutdown
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler persistenceScheduler(
+            @Value("${github.reactive.persistence.threads:10}") int threads,
+            @Value("${github.reactive.persistence.queue-size:10000}") int queueSize
+    ) {
+        return Schedulers.newBoundedElastic(Math.max(1, threads), Math.max(1, queueSize), "persistence");
+    }
+}
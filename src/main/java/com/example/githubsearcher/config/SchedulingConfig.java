@@ -0,0 +1,14 @@
+package com.example.githubsearcher.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} methods: expiry of finished search jobs
+ * and, with {@code github.tracking.enabled=true}, the background refresh
+ * of tracked searches.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
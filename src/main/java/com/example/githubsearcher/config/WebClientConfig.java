@@ -1,10 +1,23 @@
 package com.example.githubsearcher.config;
 
+import com.example.githubsearcher.client.GitHubRequestScheduler;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.handler.timeout.WriteTimeoutHandler;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Configuration class responsible for creating and configuring
@@ -15,15 +28,19 @@ import org.springframework.web.reactive.function.client.WebClient;
  * <ul>
  *     <li>GitHub base URL</li>
  *     <li>Default HTTP headers</li>
- *     <li>Optional authentication token support</li>
+ *     <li>Optional authentication token support (one or many tokens)</li>
+ *     <li>Rate limit aware request scheduling</li>
+ *     <li>HTTP transport: connection pool, HTTP/2, compression, timeouts
+ *         and buffer limit ({@link GitHubTransportProperties})</li>
  * </ul>
  * </p>
  *
  * <p>
- * The base URL and token are injected from {@code application.properties}.
+ * The base URL and tokens are injected from {@code application.properties}.
  * </p>
  */
 @Configuration
+@EnableConfigurationProperties(GitHubTransportProperties.class)
 public class WebClientConfig {
 
     /**
@@ -47,6 +64,42 @@ public class WebClientConfig {
     @Value("${github.api.token:}")
     private String token;
 
+    /**
+     * Optional list of GitHub personal access tokens (comma separated).
+     *
+     * <p>
+     * Each token has its own rate limit, so requests are spread over
+     * all tokens and the aggregate quota grows with their number.
+     * Used together with {@link #token} if both are set.
+     * </p>
+     */
+    @Value("${github.api.tokens:}")
+    private List<String> tokens;
+
+    /**
+     * Creates the connection pool used for GitHub calls.
+     *
+     * <p>
+     * Connections are kept alive and reused, so most calls skip the TCP
+     * and TLS handshake. Idle and old connections are evicted in the
+     * background before GitHub's load balancers close them.
+     * </p>
+     *
+     * @param transport transport settings
+     * @return connection provider, disposed on shutdown
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider gitHubConnectionProvider(GitHubTransportProperties transport) {
+        return ConnectionProvider.builder("github")
+                .maxConnections(transport.maxConnections())
+                .pendingAcquireMaxCount(transport.pendingAcquireMaxCount())
+                .pendingAcquireTimeout(transport.pendingAcquireTimeout())
+                .maxIdleTime(transport.maxIdleTime())
+                .maxLifeTime(transport.maxLifeTime())
+                .evictInBackground(transport.evictionInterval())
+                .build();
+    }
+
     /**
      * Creates a configured {@link WebClient} bean for GitHub API calls.
      *
@@ -55,24 +108,97 @@ public class WebClientConfig {
      * <ul>
      *     <li>Base URL</li>
      *     <li>Accept header (application/vnd.github+json)</li>
-     *     <li>Optional Authorization header if token is present</li>
+     *     <li>{@link GitHubRequestScheduler} filter pacing calls by rate limit
+     *         and setting the Authorization header of the token with the
+     *         most headroom</li>
+     *     <li>Reactor Netty client built by {@link #httpClient}</li>
+     *     <li>Codec buffer limit, so 100-item pages fit into memory</li>
      * </ul>
      * </p>
      *
+     * @param requestScheduler   filter that paces calls according to the rate limit
+     * @param connectionProvider pooled connections to GitHub
+     * @param transport          transport settings
      * @return configured WebClient instance
      */
     @Bean
-    public WebClient gitHubWebClient() {
+    public WebClient gitHubWebClient(
+            GitHubRequestScheduler requestScheduler,
+            ConnectionProvider connectionProvider,
+            GitHubTransportProperties transport
+    ) {
 
         WebClient.Builder builder = WebClient.builder()
                 .baseUrl(baseUrl)
-                .defaultHeader(HttpHeaders.ACCEPT, "application/vnd.github+json");
+                .clientConnector(new ReactorClientHttpConnector(httpClient(connectionProvider, transport)))
+                .codecs(codecs -> codecs.defaultCodecs()
+                        .maxInMemorySize((int) transport.maxInMemorySize().toBytes()))
+                .defaultHeader(HttpHeaders.ACCEPT, "application/vnd.github+json")
+                .filter(requestScheduler);
+
+        // Authorization is set per request by the scheduler
+        requestScheduler.configureTokens(resolveTokens());
+
+        return builder.build();
+    }
+
+    /**
+     * Builds the Reactor Netty client.
+     *
+     * <p>
+     * <ul>
+     *     <li>{@code compress(true)} sends {@code Accept-Encoding: gzip}
+     *         and decompresses the response</li>
+     *     <li>HTTP/2 is offered via ALPN next to HTTP/1.1 if enabled</li>
+     *     <li>connect timeout on the channel and a response timeout per request</li>
+     *     <li>read/write timeout handlers are added for every request, not once
+     *         per connection; Reactor Netty drops request handlers when the
+     *         connection returns to the pool, so each exchange on a reused
+     *         connection starts with fresh timeouts and idle pooled
+     *         connections are not timed out</li>
+     * </ul>
+     * </p>
+     *
+     * @param connectionProvider pooled connections to GitHub
+     * @param transport          transport settings
+     * @return configured HTTP client
+     */
+    static HttpClient httpClient(ConnectionProvider connectionProvider, GitHubTransportProperties transport) {
+
+        HttpClient client = HttpClient.create(connectionProvider)
+                .compress(transport.compression())
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) transport.connectTimeout().toMillis())
+                .responseTimeout(transport.responseTimeout())
+                .doOnRequest((request, connection) -> connection
+                        .addHandlerLast(new ReadTimeoutHandler(
+                                transport.readTimeout().toMillis(), TimeUnit.MILLISECONDS))
+                        .addHandlerLast(new WriteTimeoutHandler(
+                                transport.writeTimeout().toMillis(), TimeUnit.MILLISECONDS)));
+
+        if (transport.http2()) {
+            client = client.protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+        }
+
+        return client;
+    }
+
+    /**
+     * Combines the single token and the token list into one list.
+     *
+     * @return all configured tokens (may be empty)
+     */
+    List<String> resolveTokens() {
+
+        List<String> all = new ArrayList<>();
 
-        // If token is present, attach Authorization header
         if (token != null && !token.isBlank()) {
-            builder.defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+            all.add(token);
         }
 
-        return builder.build();
+        if (tokens != null) {
+            all.addAll(tokens);
+        }
+
+        return all;
     }
 }
@@ -1,13 +1,35 @@
 package com.example.githubsearcher.controller;
 
+import com.example.githubsearcher.dto.BatchSearchRequestDto;
+import com.example.githubsearcher.dto.BatchSearchResponseDto;
+import com.example.githubsearcher.dto.BulkLoadResultDto;
+import com.example.githubsearcher.dto.CacheStatsDto;
+import com.example.githubsearcher.dto.CrawlDto;
+import com.example.githubsearcher.dto.ExportFormat;
+import com.example.githubsearcher.dto.RepositoryPageDto;
 import com.example.githubsearcher.dto.RepositoryResponseDto;
+import com.example.githubsearcher.dto.SearchJobDto;
 import com.example.githubsearcher.dto.SearchRequestDto;
 import com.example.githubsearcher.dto.SearchResponseDto;
+import com.example.githubsearcher.dto.TrackedSearchDto;
+import com.example.githubsearcher.service.BulkLoadService;
+import com.example.githubsearcher.service.CrawlService;
 import com.example.githubsearcher.service.GitHubService;
+import com.example.githubsearcher.service.RepositoryExportService;
+import com.example.githubsearcher.service.SearchJobService;
+import com.example.githubsearcher.service.TrackedSearchService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import reactor.core.publisher.Mono;
 
+import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -22,14 +44,22 @@ import java.util.List;
  * Responsibilities:
  * <ul>
  *     <li>Accept search requests</li>
+ *     <li>Run batches of searches with a single write</li>
+ *     <li>Run long searches as asynchronous jobs</li>
  *     <li>Trigger GitHub API calls via service layer</li>
  *     <li>Persist results into the database</li>
- *     <li>Retrieve stored repositories with filtering and sorting</li>
+ *     <li>Retrieve stored repositories with filtering, sorting and pagination</li>
+ *     <li>Full-text search over stored repositories</li>
+ *     <li>Stream exports of stored repositories</li>
+ *     <li>Bulk load large repository imports</li>
+ *     <li>Register searches for background refresh</li>
+ *     <li>Crawl searches beyond the 1000-result cap</li>
  * </ul>
  * </p>
  *
  * <p>
  * This controller delegates business logic to {@link GitHubService}
+ * and {@link BulkLoadService} / {@link RepositoryExportService}
  * and does not contain any business processing logic itself,
  * ensuring proper separation of concerns.
  * </p>
@@ -39,11 +69,41 @@ import java.util.List;
 @RequiredArgsConstructor
 public class GitHubController {
 
+    /**
+     * Response header carrying the cursor of the next page.
+     */
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     /**
      * Service layer dependency for handling business logic.
      */
     private final GitHubService gitHubService;
 
+    /**
+     * Service layer dependency for high-volume imports.
+     */
+    private final BulkLoadService bulkLoadService;
+
+    /**
+     * Service layer dependency for streaming exports.
+     */
+    private final RepositoryExportService repositoryExportService;
+
+    /**
+     * Service layer dependency for tracked searches.
+     */
+    private final TrackedSearchService trackedSearchService;
+
+    /**
+     * Service layer dependency for partitioned crawls.
+     */
+    private final CrawlService crawlService;
+
+    /**
+     * Service layer dependency for asynchronous search jobs.
+     */
+    private final SearchJobService searchJobService;
+
     /**
      * Searches GitHub repositories based on the provided criteria
      * and stores the results in the database.
@@ -68,8 +128,150 @@ public class GitHubController {
     }
 
     /**
-     * Retrieves stored repositories from the database with optional
-     * filtering and sorting.
+     * Non-blocking variant of {@link #searchRepositories(SearchRequestDto)}.
+     *
+     * <p>
+     * Endpoint: {@code POST /api/github/search/reactive}
+     * </p>
+     *
+     * <p>
+     * The servlet thread is released as soon as the {@link Mono} is
+     * returned; the response is written when it completes. Concurrency
+     * is therefore bounded by the GitHub rate limit and the persistence
+     * scheduler rather than by the Tomcat worker pool.
+     * </p>
+     *
+     * @param request Search criteria including query, language, and sort option
+     * @return Mono emitting the operation message and repository list
+     */
+    @PostMapping("/search/reactive")
+    public Mono<SearchResponseDto> searchRepositoriesReactive(
+            @Valid @RequestBody SearchRequestDto request
+    ) {
+        return gitHubService.searchAndSaveRepositoriesReactive(request);
+    }
+
+    /**
+     * Runs several searches in one request.
+     *
+     * <p>
+     * Endpoint: {@code POST /api/github/search/batch}
+     * </p>
+     *
+     * <p>
+     * Identical searches are run once and the searches call GitHub
+     * concurrently. All repositories are stored with a single bulk write
+     * and returned once; each search result lists the ids it matched.
+     * A failing search is reported in its result, the others still succeed.
+     * </p>
+     *
+     * @param request Searches to run (1 to 100)
+     * @return per-search results and the distinct repositories
+     */
+    @PostMapping("/search/batch")
+    public BatchSearchResponseDto searchRepositoriesBatch(
+            @Valid @RequestBody BatchSearchRequestDto request
+    ) {
+        return gitHubService.searchAndSaveBatch(request.getSearches());
+    }
+
+    /**
+     * Submits a search as an asynchronous job.
+     *
+     * <p>
+     * Endpoint: {@code POST /api/github/search/jobs}
+     * </p>
+     *
+     * <p>
+     * Takes the same body as {@code POST /api/github/search} and returns
+     * {@code 202 Accepted} with the job and a {@code Location} header
+     * right away. The search runs on a bounded executor; a full queue
+     * results in {@code 503 Service Unavailable}.
+     * </p>
+     *
+     * @param request Search criteria including query, language, and sort option
+     * @return the queued job
+     */
+    @PostMapping("/search/jobs")
+    public ResponseEntity<SearchJobDto> submitSearchJob(
+            @Valid @RequestBody SearchRequestDto request
+    ) {
+        SearchJobDto job = searchJobService.submit(request);
+
+        return ResponseEntity.accepted()
+                .location(ServletUriComponentsBuilder.fromCurrentRequest()
+                        .path("/{id}")
+                        .buildAndExpand(job.getId())
+                        .toUri())
+                .body(job);
+    }
+
+    /**
+     * Returns the status of a search job.
+     *
+     * <p>
+     * Endpoint: {@code GET /api/github/search/jobs/{id}}
+     * </p>
+     *
+     * <p>
+     * Reports pages fetched, rows upserted and an estimate of the
+     * remaining time.
+     * </p>
+     *
+     * @param id Identifier of the job
+     * @return the job, or {@code 404 Not Found} if it is unknown or expired
+     */
+    @GetMapping("/search/jobs/{id}")
+    public ResponseEntity<SearchJobDto> getSearchJob(@PathVariable String id) {
+        return ResponseEntity.of(searchJobService.get(id));
+    }
+
+    /**
+     * Returns one page of the repositories stored by a search job.
+     *
+     * <p>
+     * Endpoint: {@code GET /api/github/search/jobs/{id}/results}
+     * </p>
+     *
+     * <p>
+     * Query parameters {@code cursor} and {@code limit}, and the pagination
+     * headers work as for {@code GET /api/github/repositories}. While the
+     * job runs, the repositories stored so far are returned.
+     * </p>
+     *
+     * @param id     Identifier of the job
+     * @param cursor Optional cursor of the page to read
+     * @param limit  Optional page size
+     * @return List of RepositoryResponseDto, or {@code 404 Not Found} if the job is unknown or expired
+     */
+    @GetMapping("/search/jobs/{id}/results")
+    public ResponseEntity<List<RepositoryResponseDto>> getSearchJobResults(
+            @PathVariable String id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit
+    ) {
+        return searchJobService.getResults(id, cursor, limit)
+                .map(this::pageResponse)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Returns statistics of the search result cache.
+     *
+     * <p>
+     * Endpoint: {@code GET /api/github/search/cache/stats}
+     * </p>
+     *
+     * @return CacheStatsDto containing hit, miss and eviction counts
+     */
+    @GetMapping("/search/cache/stats")
+    public CacheStatsDto getSearchCacheStats() {
+        return gitHubService.getSearchCacheStats();
+    }
+
+    /**
+     * Retrieves one page of stored repositories from the database with
+     * optional filtering and sorting.
      *
      * <p>
      * Endpoint: {@code GET /api/github/repositories}
@@ -81,20 +283,255 @@ public class GitHubController {
      *     <li>{@code language} (optional) - Filter by programming language</li>
      *     <li>{@code minStars} (optional) - Minimum star count filter</li>
      *     <li>{@code sort} (optional) - Sorting field (default: stars)</li>
+     *     <li>{@code cursor} (optional) - Cursor returned for the previous page</li>
+     *     <li>{@code limit} (optional) - Page size (default: 100)</li>
      * </ul>
      * </p>
      *
+     * <p>
+     * If more rows exist, the cursor of the next page is returned in the
+     * {@code X-Next-Cursor} header, together with a {@code Link} header
+     * ({@code rel="next"}) pointing at the next page.
+     * </p>
+     *
      * @param language Optional programming language filter
      * @param minStars Optional minimum star count filter
      * @param sort     Optional sorting field (stars, forks, updated)
+     * @param cursor   Optional cursor of the page to read
+     * @param limit    Optional page size
      * @return List of RepositoryResponseDto matching the filter criteria
      */
     @GetMapping("/repositories")
-    public List<RepositoryResponseDto> getRepositories(
+    public ResponseEntity<List<RepositoryResponseDto>> getRepositories(
+            @RequestParam(required = false) String language,
+            @RequestParam(required = false) Integer minStars,
+            @RequestParam(required = false, defaultValue = "stars") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit
+    ) {
+        return pageResponse(
+                gitHubService.getStoredRepositories(language, minStars, sort, cursor, limit));
+    }
+
+    /**
+     * Searches stored repositories by keyword without calling GitHub.
+     *
+     * <p>
+     * Endpoint: {@code GET /api/github/repositories/search}
+     * </p>
+     *
+     * <p>
+     * Query Parameters:
+     * <ul>
+     *     <li>{@code q} - Search text, matched against name, owner and description</li>
+     *     <li>{@code language} (optional) - Filter by programming language</li>
+     *     <li>{@code minStars} (optional) - Minimum star count filter</li>
+     *     <li>{@code cursor} (optional) - Cursor returned for the previous page</li>
+     *     <li>{@code limit} (optional) - Page size (default: 100)</li>
+     * </ul>
+     * </p>
+     *
+     * <p>
+     * Results are ordered by relevance. Pagination headers work as for
+     * {@code GET /api/github/repositories}.
+     * </p>
+     *
+     * @param q        Search text
+     * @param language Optional programming language filter
+     * @param minStars Optional minimum star count filter
+     * @param cursor   Optional cursor of the page to read
+     * @param limit    Optional page size
+     * @return List of RepositoryResponseDto, best match first
+     */
+    @GetMapping("/repositories/search")
+    public ResponseEntity<List<RepositoryResponseDto>> searchStoredRepositories(
+            @RequestParam String q,
             @RequestParam(required = false) String language,
             @RequestParam(required = false) Integer minStars,
-            @RequestParam(required = false, defaultValue = "stars") String sort
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit
+    ) {
+        return pageResponse(
+                gitHubService.searchStoredRepositories(q, language, minStars, cursor, limit));
+    }
+
+    /**
+     * Exports all stored repositories matching the filters.
+     *
+     * <p>
+     * Endpoint: {@code GET /api/github/repositories/export}
+     * </p>
+     *
+     * <p>
+     * Query Parameters:
+     * <ul>
+     *     <li>{@code language} (optional) - Filter by programming language</li>
+     *     <li>{@code minStars} (optional) - Minimum star count filter</li>
+     *     <li>{@code format} (optional) - {@code ndjson} (default) or {@code csv}</li>
+     * </ul>
+     * </p>
+     *
+     * <p>
+     * The body is written while rows are read from the database, so
+     * the export size is not limited by the heap.
+     * </p>
+     *
+     * @param language Optional programming language filter
+     * @param minStars Optional minimum star count filter
+     * @param format   Optional output format
+     * @return streaming response body in the requested format
+     */
+    @GetMapping("/repositories/export")
+    public ResponseEntity<StreamingResponseBody> exportRepositories(
+            @RequestParam(required = false) String language,
+            @RequestParam(required = false) Integer minStars,
+            @RequestParam(required = false, defaultValue = "ndjson") String format
+    ) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .body(out -> repositoryExportService.export(language, minStars, exportFormat, out));
+    }
+
+    /**
+     * Bulk loads repositories into the database.
+     *
+     * <p>
+     * Endpoint: {@code POST /api/github/bulk-load}
+     * </p>
+     *
+     * <p>
+     * The request body is newline-delimited JSON with one GitHub
+     * repository item (as returned by the Search API) per line.
+     * It is streamed into the database via PostgreSQL {@code COPY}
+     * without being buffered in memory.
+     * </p>
+     *
+     * @param body Request body stream ({@code application/x-ndjson})
+     * @return BulkLoadResultDto containing row counts and throughput
+     */
+    @PostMapping(value = "/bulk-load", consumes = "application/x-ndjson")
+    public BulkLoadResultDto bulkLoad(InputStream body) {
+        return bulkLoadService.loadNdjson(body);
+    }
+
+    /**
+     * Registers a search for background refresh.
+     *
+     * <p>
+     * Endpoint: {@code POST /api/github/tracked-searches}
+     * </p>
+     *
+     * <p>
+     * Takes the same body as {@code POST /api/github/search}. Tracking
+     * an already tracked search returns the existing registration.
+     * Refreshes only run with {@code github.tracking.enabled=true}.
+     * </p>
+     *
+     * @param request Search criteria including query, language, and sort option
+     * @return the tracked search
+     */
+    @PostMapping("/tracked-searches")
+    @ResponseStatus(HttpStatus.CREATED)
+    public TrackedSearchDto trackSearch(
+            @Valid @RequestBody SearchRequestDto request
     ) {
-        return gitHubService.getStoredRepositories(language, minStars, sort);
+        return trackedSearchService.track(request);
+    }
+
+    /**
+     * Lists tracked searches with their refresh state.
+     *
+     * <p>
+     * Endpoint: {@code GET /api/github/tracked-searches}
+     * </p>
+     *
+     * @return all tracked searches
+     */
+    @GetMapping("/tracked-searches")
+    public List<TrackedSearchDto> getTrackedSearches() {
+        return trackedSearchService.list();
+    }
+
+    /**
+     * Stops refreshing a tracked search.
+     *
+     * <p>
+     * Endpoint: {@code DELETE /api/github/tracked-searches/{id}}
+     * </p>
+     *
+     * @param id Identifier of the tracked search
+     * @return {@code 204 No Content}, or {@code 404 Not Found} if the search is not tracked
+     */
+    @DeleteMapping("/tracked-searches/{id}")
+    public ResponseEntity<Void> untrackSearch(@PathVariable Long id) {
+        return trackedSearchService.untrack(id)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+    }
+
+    /**
+     * Starts a crawl of every repository matching a search.
+     *
+     * <p>
+     * Endpoint: {@code POST /api/github/crawls}
+     * </p>
+     *
+     * <p>
+     * Takes the same body as {@code POST /api/github/search} (query and
+     * language are used). The search is split into {@code stars:} and
+     * {@code created:} slices of at most 1000 matches, which are fetched
+     * and stored in the background. Returns {@code 202 Accepted}; progress
+     * is available via {@code GET /api/github/crawls/{id}}.
+     * </p>
+     *
+     * @param request Search criteria including query and language
+     * @return the started crawl
+     */
+    @PostMapping("/crawls")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public CrawlDto startCrawl(
+            @Valid @RequestBody SearchRequestDto request
+    ) {
+        return crawlService.start(request);
+    }
+
+    /**
+     * Returns a crawl with its progress.
+     *
+     * <p>
+     * Endpoint: {@code GET /api/github/crawls/{id}}
+     * </p>
+     *
+     * @param id Identifier of the crawl
+     * @return the crawl, or {@code 404 Not Found} if it does not exist
+     */
+    @GetMapping("/crawls/{id}")
+    public ResponseEntity<CrawlDto> getCrawl(@PathVariable Long id) {
+        return ResponseEntity.of(crawlService.get(id));
+    }
+
+    /**
+     * Writes a page as the response body and, if more rows exist,
+     * adds the {@code X-Next-Cursor} and {@code Link} headers.
+     *
+     * @param page Page returned by the service layer
+     * @return response with the repositories of the page
+     */
+    private ResponseEntity<List<RepositoryResponseDto>> pageResponse(RepositoryPageDto page) {
+
+        if (page.getNextCursor() == null) {
+            return ResponseEntity.ok(page.getRepositories());
+        }
+
+        String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                .replaceQueryParam("cursor", page.getNextCursor())
+                .toUriString();
+
+        return ResponseEntity.ok()
+                .header(NEXT_CURSOR_HEADER, page.getNextCursor())
+                .header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"")
+                .body(page.getRepositories());
     }
 }
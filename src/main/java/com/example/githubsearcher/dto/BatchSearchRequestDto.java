@@ -0,0 +1,32 @@
+package com.example.githubsearcher.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) representing the request body
+ * for running several searches at once.
+ *
+ * <p>
+ * This DTO is used in the {@code POST /api/github/search/batch} endpoint.
+ * Every entry is validated like the body of {@code POST /api/github/search}.
+ * </p>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchSearchRequestDto {
+
+    /**
+     * Searches to run, at most 100.
+     */
+    @NotEmpty(message = "Searches must not be empty")
+    @Size(max = 100, message = "At most 100 searches per batch")
+    private List<@Valid SearchRequestDto> searches;
+}
@@ -0,0 +1,51 @@
+package com.example.githubsearcher.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) representing the response
+ * of {@code POST /api/github/search/batch}.
+ *
+ * <p>
+ * It contains:
+ * <ul>
+ *     <li>One result per requested search, in request order</li>
+ *     <li>Every repository found by any of the searches, once</li>
+ *     <li>How many of them were inserted, updated or skipped by the single bulk write</li>
+ * </ul>
+ * </p>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchSearchResponseDto {
+
+    /**
+     * Per-search results referencing {@link #repositories} by id.
+     */
+    private List<BatchSearchResultDto> results;
+
+    /**
+     * Distinct repositories found by the batch.
+     */
+    private List<RepositoryResponseDto> repositories;
+
+    /**
+     * Number of rows that did not exist before.
+     */
+    private Integer inserted;
+
+    /**
+     * Number of existing rows replaced by newer data.
+     */
+    private Integer updated;
+
+    /**
+     * Number of rows left untouched because the stored data was as new or newer.
+     */
+    private Integer skipped;
+}
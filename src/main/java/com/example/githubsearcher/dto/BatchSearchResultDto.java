@@ -0,0 +1,58 @@
+package com.example.githubsearcher.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) representing the outcome of one search of a batch.
+ *
+ * <p>
+ * Repositories are referenced by id; the rows themselves are returned
+ * once in {@link BatchSearchResponseDto#getRepositories()}.
+ * </p>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchSearchResultDto {
+
+    /**
+     * Search keyword or phrase, as requested.
+     */
+    private String query;
+
+    /**
+     * Optional programming language filter, as requested.
+     */
+    private String language;
+
+    /**
+     * Optional sort option, as requested.
+     */
+    private String sort;
+
+    /**
+     * Message indicating the result of the search.
+     */
+    private String message;
+
+    /**
+     * Ids of the repositories found, in GitHub's order.
+     */
+    private List<Long> repositoryIds;
+
+    /**
+     * Error of the search, or null if it succeeded.
+     */
+    private String error;
+
+    /**
+     * HTTP status the search would have failed with on its own
+     * (e.g. 429 when the rate limit is exhausted, 502 when GitHub
+     * rejected it), or null if it succeeded.
+     */
+    private Integer status;
+}
@@ -0,0 +1,44 @@
+package com.example.githubsearcher.dto;
+
+import lombok.*;
+
+/**
+ * Data Transfer Object (DTO) representing the outcome
+ * of a bulk load into the {@code repositories} table.
+ *
+ * <p>
+ * Returned by the {@code POST /api/github/bulk-load} endpoint.
+ * </p>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkLoadResultDto {
+
+    /**
+     * Number of rows streamed into the staging table via COPY.
+     */
+    private long rowsCopied;
+
+    /**
+     * Number of rows inserted or updated in {@code repositories}.
+     */
+    private long rowsMerged;
+
+    /**
+     * Number of input rows skipped because required fields were missing.
+     */
+    private long rowsSkipped;
+
+    /**
+     * Total duration of the load in milliseconds.
+     */
+    private long elapsedMillis;
+
+    /**
+     * Throughput of the load (copied rows per second).
+     */
+    private double rowsPerSecond;
+}
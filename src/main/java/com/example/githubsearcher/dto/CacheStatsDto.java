@@ -0,0 +1,45 @@
+package com.example.githubsearcher.dto;
+
+import lombok.*;
+
+/**
+ * Data Transfer Object (DTO) representing the statistics
+ * of the search result cache.
+ *
+ * <p>
+ * Returned by the {@code GET /api/github/search/cache/stats} endpoint.
+ * Counts are cumulative since application start.
+ * </p>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CacheStatsDto {
+
+    /**
+     * Number of searches answered from the cache.
+     */
+    private long hitCount;
+
+    /**
+     * Number of searches that had to call GitHub.
+     */
+    private long missCount;
+
+    /**
+     * Ratio of hits to all lookups (0.0 to 1.0).
+     */
+    private double hitRate;
+
+    /**
+     * Number of entries removed because of size or expiry.
+     */
+    private long evictionCount;
+
+    /**
+     * Approximate number of cached searches.
+     */
+    private long size;
+}
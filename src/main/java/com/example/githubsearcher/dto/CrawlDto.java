@@ -0,0 +1,80 @@
+package com.example.githubsearcher.dto;
+
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Data Transfer Object (DTO) describing a partitioned crawl and its progress.
+ *
+ * <p>
+ * Returned by the {@code /api/github/crawls} endpoints.
+ * </p>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CrawlDto {
+
+    /**
+     * Identifier of the crawl.
+     */
+    private Long id;
+
+    /**
+     * Search keyword or phrase.
+     */
+    private String query;
+
+    /**
+     * Optional programming language filter.
+     */
+    private String language;
+
+    /**
+     * RUNNING, COMPLETED or FAILED.
+     */
+    private String status;
+
+    /**
+     * Start of the crawl.
+     */
+    private Instant startedAt;
+
+    /**
+     * End of the crawl, or null while it runs.
+     */
+    private Instant finishedAt;
+
+    /**
+     * Repository rows inserted or updated so far (a repository updated by two slices counts twice).
+     */
+    private long repositoriesSaved;
+
+    /**
+     * Slices waiting to be processed.
+     */
+    private long slicesPending;
+
+    /**
+     * Slices whose repositories were stored completely.
+     */
+    private long slicesDone;
+
+    /**
+     * Slices that still exceeded the result cap at one-second granularity.
+     */
+    private long slicesTruncated;
+
+    /**
+     * Slices given up after repeated errors.
+     */
+    private long slicesFailed;
+
+    /**
+     * Error that stopped the crawl, if any.
+     */
+    private String lastError;
+}
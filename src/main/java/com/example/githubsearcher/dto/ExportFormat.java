@@ -0,0 +1,55 @@
+package com.example.githubsearcher.dto;
+
+import com.example.githubsearcher.exception.UnsupportedExportFormatException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Output formats of the repository export.
+ *
+ * <p>
+ * Used by the {@code GET /api/github/repositories/export} endpoint.
+ * </p>
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+
+    /**
+     * Newline-delimited JSON, one {@link RepositoryResponseDto} per line.
+     */
+    NDJSON("application/x-ndjson"),
+
+    /**
+     * RFC 4180 CSV with a header row.
+     */
+    CSV("text/csv");
+
+    /**
+     * Content type of the response body.
+     */
+    private final String contentType;
+
+    /**
+     * Resolves the format parameter of a request.
+     *
+     * @param value Format name (case-insensitive), or null
+     * @return NDJSON for null, blank or "ndjson", CSV for "csv"
+     * @throws UnsupportedExportFormatException for any other value
+     */
+    public static ExportFormat from(String value) {
+
+        if (value == null || value.isBlank()) {
+            return NDJSON;
+        }
+
+        for (ExportFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value.trim())) {
+                return format;
+            }
+        }
+
+        throw new UnsupportedExportFormatException(
+                "Unsupported export format '" + value + "'. Use ndjson or csv.");
+    }
+}
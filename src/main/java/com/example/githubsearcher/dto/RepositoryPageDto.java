@@ -0,0 +1,33 @@
+package com.example.githubsearcher.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) representing one page of stored repositories.
+ *
+ * <p>
+ * Returned by the service layer for {@code GET /api/github/repositories}.
+ * The controller writes the repositories as the response body and
+ * exposes the cursor via the {@code X-Next-Cursor} and {@code Link}
+ * response headers.
+ * </p>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RepositoryPageDto {
+
+    /**
+     * Repositories of this page, in sort order.
+     */
+    private List<RepositoryResponseDto> repositories;
+
+    /**
+     * Opaque cursor of the next page, or null if this is the last page.
+     */
+    private String nextCursor;
+}
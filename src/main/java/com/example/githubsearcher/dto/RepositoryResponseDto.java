@@ -19,6 +19,8 @@ import java.time.Instant;
  * <p>
  * It is mapped from {@code RepositoryEntity} using {@code RepositoryMapper}
  * to ensure separation between persistence layer and API layer.
+ * Stored repositories are read directly into this DTO through its
+ * all-args constructor, so the field order is part of that query.
  * </p>
  */
 @Getter
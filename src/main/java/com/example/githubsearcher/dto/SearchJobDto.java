@@ -0,0 +1,77 @@
+package com.example.githubsearcher.dto;
+
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Data Transfer Object (DTO) describing an asynchronous search job.
+ *
+ * <p>
+ * Returned by the {@code /api/github/search/jobs} endpoints. The stored
+ * repositories are read page by page from
+ * {@code /api/github/search/jobs/{id}/results}.
+ * </p>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SearchJobDto {
+
+    /**
+     * Identifier of the job.
+     */
+    private String id;
+
+    /**
+     * QUEUED, RUNNING, COMPLETED or FAILED.
+     */
+    private String status;
+
+    /**
+     * Result pages fetched from GitHub and stored so far.
+     */
+    private int pagesFetched;
+
+    /**
+     * Result pages the job will fetch, or 0 while unknown.
+     */
+    private int totalPages;
+
+    /**
+     * Rows inserted or updated so far.
+     */
+    private long rowsUpserted;
+
+    /**
+     * Distinct repositories available from the results endpoint.
+     */
+    private int resultCount;
+
+    /**
+     * Estimated time until completion, or null while unknown.
+     */
+    private Long etaMillis;
+
+    /**
+     * Time the job was submitted.
+     */
+    private Instant submittedAt;
+
+    /**
+     * Time the job started running, or null while queued.
+     */
+    private Instant startedAt;
+
+    /**
+     * Time the job finished, or null while it runs.
+     */
+    private Instant finishedAt;
+
+    /**
+     * Error that failed the job, if any.
+     */
+    private String error;
+}
@@ -70,4 +70,15 @@ public class SearchRequestDto {
             message = "Sort must be one of: stars, forks, updated"
     )
     private String sort;
+
+    /**
+     * Optional flag to fetch every available result page
+     * instead of only the first one.
+     *
+     * <p>
+     * When {@code true}, pages of 100 items are fetched concurrently
+     * up to GitHub's 1000-result search cap. Defaults to {@code false}.
+     * </p>
+     */
+    private Boolean fetchAllPages;
 }
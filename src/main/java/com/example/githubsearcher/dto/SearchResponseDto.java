@@ -19,6 +19,7 @@ import java.util.List;
  * <ul>
  *     <li>A status/message describing the outcome of the operation</li>
  *     <li>A list of repository details returned to the client</li>
+ *     <li>How many of them were inserted, updated or skipped as unchanged</li>
  * </ul>
  * </p>
  *
@@ -55,4 +56,20 @@ public class SearchResponseDto {
      * </p>
      */
     private List<RepositoryResponseDto> repositories;
+
+    /**
+     * Number of repositories stored for the first time.
+     */
+    private Integer inserted;
+
+    /**
+     * Number of stored repositories replaced by newer data.
+     */
+    private Integer updated;
+
+    /**
+     * Number of repositories not written because the stored copy
+     * is already as new as (or newer than) the returned one.
+     */
+    private Integer skipped;
 }
@@ -0,0 +1,65 @@
+package com.example.githubsearcher.dto;
+
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Data Transfer Object (DTO) describing a tracked search.
+ *
+ * <p>
+ * Returned by the {@code /api/github/tracked-searches} endpoints.
+ * </p>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TrackedSearchDto {
+
+    /**
+     * Identifier of the tracked search.
+     */
+    private Long id;
+
+    /**
+     * Search keyword or phrase.
+     */
+    private String query;
+
+    /**
+     * Optional programming language filter.
+     */
+    private String language;
+
+    /**
+     * Optional sort option.
+     */
+    private String sort;
+
+    /**
+     * Whether all result pages are fetched on refresh.
+     */
+    private Boolean fetchAllPages;
+
+    /**
+     * Number of interactive requests of this search since it was tracked.
+     */
+    private Long requestCount;
+
+    /**
+     * Time of the last successful refresh, or null if never refreshed.
+     */
+    private Instant lastRefreshedAt;
+
+    /**
+     * Newest update seen; refreshes only fetch repositories pushed after it.
+     */
+    private Instant highWaterMark;
+
+    /**
+     * Error of the last refresh attempt, or null if it succeeded.
+     */
+    private String lastError;
+}
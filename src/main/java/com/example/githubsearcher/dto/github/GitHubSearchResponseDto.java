@@ -1,6 +1,7 @@
 package com.example.githubsearcher.dto.github;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.*;
 
 import java.util.List;
@@ -32,10 +33,11 @@ import java.util.List;
  * </p>
  *
  * <p>
- * Only the {@code items} field is mapped because it contains
- * the list of repositories relevant to this application.
- * Other fields (e.g., total_count, incomplete_results)
- * are ignored using {@link JsonIgnoreProperties}.
+ * The {@code items} field contains the list of repositories relevant
+ * to this application, and {@code total_count} is used to work out how
+ * many result pages exist when fetching all pages of a search.
+ * Other fields (e.g., incomplete_results) are ignored using
+ * {@link JsonIgnoreProperties}.
  * </p>
  *
  * <p>
@@ -60,4 +62,24 @@ public class GitHubSearchResponseDto {
      * </p>
      */
     private List<GitHubRepositoryDto> items;
+
+    /**
+     * Total number of repositories matching the search query.
+     *
+     * <p>
+     * Mapped from JSON property {@code total_count}.
+     * GitHub only serves the first 1000 of these results.
+     * </p>
+     */
+    @JsonProperty("total_count")
+    private Integer totalCount;
+
+    /**
+     * Creates a response containing only the given items.
+     *
+     * @param items repositories returned by the search
+     */
+    public GitHubSearchResponseDto(List<GitHubRepositoryDto> items) {
+        this.items = items;
+    }
 }
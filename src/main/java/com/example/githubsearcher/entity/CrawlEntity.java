@@ -0,0 +1,81 @@
+package com.example.githubsearcher.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Entity class representing a partitioned crawl of a search.
+ *
+ * <p>
+ * Maps to the {@code crawls} table. The work itself is tracked per
+ * slice in {@link CrawlSliceEntity}.
+ * </p>
+ */
+@Entity
+@Table(name = "crawls")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CrawlEntity {
+
+    /**
+     * Generated identifier.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * Search keyword or phrase.
+     */
+    @Column(nullable = false, length = 256)
+    private String query;
+
+    /**
+     * Optional programming language filter.
+     */
+    private String language;
+
+    /**
+     * Current state of the crawl.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Status status;
+
+    /**
+     * Start of the crawl, also the upper bound of the {@code created:} ranges.
+     */
+    @Column(nullable = false)
+    private Instant startedAt;
+
+    /**
+     * End of the crawl, or null while it runs.
+     */
+    private Instant finishedAt;
+
+    /**
+     * Repository rows inserted or updated so far; rows the upsert skipped as stale or unchanged are not counted.
+     */
+    @Column(nullable = false)
+    private long repositoriesSaved;
+
+    /**
+     * Error that stopped the crawl, if any.
+     */
+    @Column(length = 1000)
+    private String lastError;
+
+    /**
+     * State of a crawl.
+     */
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+}
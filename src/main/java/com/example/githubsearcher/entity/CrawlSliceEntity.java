@@ -0,0 +1,111 @@
+package com.example.githubsearcher.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Entity class representing one slice of a partitioned crawl.
+ *
+ * <p>
+ * Maps to the {@code crawl_slices} table. A slice restricts the crawled
+ * search to a {@code stars:} range and optionally a {@code created:}
+ * range. Slices serve as work queue and checkpoint at the same time:
+ * <ul>
+ *     <li>{@code PENDING} - not processed yet (or to be retried after {@code nextAttemptAt})</li>
+ *     <li>{@code SPLIT} - too many matches, replaced by child slices</li>
+ *     <li>{@code DONE} - all matches were fetched and stored</li>
+ *     <li>{@code TRUNCATED} - could not be split further, the first 1000 matches were stored</li>
+ *     <li>{@code FAILED} - gave up after repeated errors</li>
+ * </ul>
+ * </p>
+ */
+@Entity
+@Table(name = "crawl_slices")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CrawlSliceEntity {
+
+    /**
+     * Generated identifier.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * Crawl the slice belongs to.
+     */
+    @Column(nullable = false)
+    private Long crawlId;
+
+    /**
+     * Lower bound of the star range (inclusive).
+     */
+    @Column(nullable = false)
+    private long minStars;
+
+    /**
+     * Upper bound of the star range (inclusive), or null for unbounded.
+     */
+    private Long maxStars;
+
+    /**
+     * Lower bound of the creation range (inclusive), or null for no creation filter.
+     */
+    private Instant createdFrom;
+
+    /**
+     * Upper bound of the creation range (inclusive), or null for no creation filter.
+     */
+    private Instant createdTo;
+
+    /**
+     * Processing state.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Status status;
+
+    /**
+     * Number of matches GitHub reported for the slice.
+     */
+    private Integer totalCount;
+
+    /**
+     * Number of repositories fetched for the slice.
+     */
+    private Integer fetched;
+
+    /**
+     * Number of failed attempts.
+     */
+    @Column(nullable = false)
+    private int attempts;
+
+    /**
+     * Error of the last failed attempt.
+     */
+    @Column(length = 1000)
+    private String lastError;
+
+    /**
+     * Time before which a pending slice is not retried, or null to take it right away.
+     */
+    private Instant nextAttemptAt;
+
+    /**
+     * Processing state of a slice.
+     */
+    public enum Status {
+        PENDING,
+        SPLIT,
+        DONE,
+        TRUNCATED,
+        FAILED
+    }
+}
@@ -22,6 +22,12 @@ import java.time.Instant;
  * </p>
  *
  * <p>
+ * The schema, including the composite indexes backing each supported
+ * filter and sort combination, is managed by the Flyway migrations in
+ * {@code db/migration}; Hibernate only validates it.
+ * </p>
+ *
+ * <p>
  * This entity is populated using data received from the GitHub REST API
  * and persisted using Spring Data JPA.
  * </p>
@@ -0,0 +1,99 @@
+package com.example.githubsearcher.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Entity class representing a search that is refreshed in the background.
+ *
+ * <p>
+ * Maps to the {@code tracked_searches} table. Each row holds the
+ * criteria of a {@code SearchRequestDto} together with the data used
+ * to decide which search to refresh next:
+ * <ul>
+ *     <li>{@code lastRefreshedAt} - staleness of the stored results</li>
+ *     <li>{@code requestCount} - popularity among interactive searches</li>
+ * </ul>
+ * </p>
+ */
+@Entity
+@Table(name = "tracked_searches")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TrackedSearchEntity {
+
+    /**
+     * Generated identifier.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * Normalized form of the search ({@code SearchCacheKey.id()}), unique.
+     */
+    @Column(nullable = false, unique = true, length = 1024)
+    private String searchKey;
+
+    /**
+     * Search keyword or phrase.
+     */
+    @Column(nullable = false, length = 256)
+    private String query;
+
+    /**
+     * Optional programming language filter.
+     */
+    private String language;
+
+    /**
+     * Optional sort option (stars, forks, updated).
+     */
+    @Column(length = 16)
+    private String sort;
+
+    /**
+     * Whether all result pages are fetched on refresh.
+     */
+    @Column(nullable = false)
+    private boolean fetchAllPages;
+
+    /**
+     * Number of interactive requests of this search since it was tracked.
+     */
+    @Column(nullable = false)
+    private long requestCount;
+
+    /**
+     * Time the search was registered.
+     */
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    /**
+     * Time of the last successful refresh, or null if never refreshed.
+     */
+    private Instant lastRefreshedAt;
+
+    /**
+     * Error of the last refresh attempt, or null if it succeeded.
+     */
+    @Column(length = 1000)
+    private String lastError;
+
+    /**
+     * Newest {@code updated_at} seen; the next refresh only fetches
+     * repositories pushed after it. Null until the first refresh.
+     */
+    private Instant highWaterMark;
+
+    /**
+     * Time of the last refresh that fetched the full result set.
+     */
+    private Instant lastFullRefreshAt;
+}
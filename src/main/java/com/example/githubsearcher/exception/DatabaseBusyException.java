@@ -0,0 +1,28 @@
+package com.example.githubsearcher.exception;
+
+/**
+ * Runtime exception thrown when a request cannot get a database slot
+ * within the configured wait.
+ *
+ * <p>
+ * Raised by {@code DatabaseConcurrencyLimiter} when more requests want
+ * a connection than the pool can serve, e.g. thousands of virtual
+ * threads queuing for a pool of ten connections.
+ * </p>
+ *
+ * <p>
+ * The exception is handled globally by {@code GlobalExceptionHandler},
+ * which converts it into a {@code 503 Service Unavailable} response.
+ * </p>
+ */
+public class DatabaseBusyException extends RuntimeException {
+
+    /**
+     * Constructs a new DatabaseBusyException with a detail message.
+     *
+     * @param message Description of the problem
+     */
+    public DatabaseBusyException(String message) {
+        super(message);
+    }
+}
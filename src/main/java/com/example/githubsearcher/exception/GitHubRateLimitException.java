@@ -0,0 +1,45 @@
+package com.example.githubsearcher.exception;
+
+import java.time.Duration;
+
+/**
+ * Exception thrown when a GitHub API call cannot be made
+ * within the configured wait because the rate limit is exhausted.
+ *
+ * <p>
+ * This exception is thrown by {@code GitHubRequestScheduler} when
+ * the next free slot is further away than the allowed wait, and by
+ * {@code GitHubApiClient} when GitHub still answers with HTTP 429.
+ * </p>
+ *
+ * <p>
+ * It is handled by {@code GlobalExceptionHandler}, which converts it
+ * into a {@code 429 Too Many Requests} response including a
+ * {@code Retry-After} header when the wait is known.
+ * </p>
+ */
+public class GitHubRateLimitException extends GitHubApiException {
+
+    /**
+     * Time after which the request may succeed, or null if unknown.
+     */
+    private final Duration retryAfter;
+
+    /**
+     * Constructs a new GitHubRateLimitException.
+     *
+     * @param message    Description of the rate limit error
+     * @param retryAfter Time after which a retry may succeed (may be null)
+     */
+    public GitHubRateLimitException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * @return time after which a retry may succeed, or null if unknown
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.githubsearcher.exception;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -20,6 +21,9 @@ import java.util.Map;
  * <ul>
  *     <li>GitHub API related failures</li>
  *     <li>Validation errors</li>
+ *     <li>Invalid pagination cursors</li>
+ *     <li>Unsupported export formats</li>
+ *     <li>Database overload</li>
  *     <li>Unexpected server errors</li>
  * </ul>
  * </p>
@@ -56,6 +60,38 @@ public class GlobalExceptionHandler {
         );
     }
 
+    /**
+     * Handles exceptions thrown when the GitHub rate limit does not
+     * allow the call within the configured wait.
+     *
+     * <p>
+     * Converts {@link GitHubRateLimitException} into a
+     * {@code 429 Too Many Requests} response. If the wait is known,
+     * a {@code Retry-After} header (in seconds) is added.
+     * </p>
+     *
+     * @param ex GitHubRateLimitException
+     * @return standardized error response
+     */
+    @ExceptionHandler(GitHubRateLimitException.class)
+    public ResponseEntity<Object> handleGitHubRateLimitException(GitHubRateLimitException ex) {
+
+        ResponseEntity<Object> response = buildResponse(
+                HttpStatus.TOO_MANY_REQUESTS,
+                ex.getMessage()
+        );
+
+        if (ex.getRetryAfter() == null) {
+            return response;
+        }
+
+        long seconds = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(seconds))
+                .body(response.getBody());
+    }
+
     /**
      * Handles validation failures triggered by {@code @Valid}
      * annotated request DTOs.
@@ -85,6 +121,95 @@ public class GlobalExceptionHandler {
         ));
     }
 
+    /**
+     * Handles pagination cursors that cannot be decoded or do not
+     * match the requested sort order.
+     *
+     * <p>
+     * Converts {@link InvalidCursorException} into a
+     * {@code 400 Bad Request} response.
+     * </p>
+     *
+     * @param ex InvalidCursorException
+     * @return standardized error response
+     */
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<Object> handleInvalidCursorException(InvalidCursorException ex) {
+
+        return buildResponse(
+                HttpStatus.BAD_REQUEST,
+                ex.getMessage()
+        );
+    }
+
+    /**
+     * Handles export requests for a format that is not supported.
+     *
+     * <p>
+     * Converts {@link UnsupportedExportFormatException} into a
+     * {@code 400 Bad Request} response.
+     * </p>
+     *
+     * @param ex UnsupportedExportFormatException
+     * @return standardized error response
+     */
+    @ExceptionHandler(UnsupportedExportFormatException.class)
+    public ResponseEntity<Object> handleUnsupportedExportFormatException(UnsupportedExportFormatException ex) {
+
+        return buildResponse(
+                HttpStatus.BAD_REQUEST,
+                ex.getMessage()
+        );
+    }
+
+    /**
+     * Handles requests that could not get a database slot in time.
+     *
+     * <p>
+     * Converts {@link DatabaseBusyException} into a
+     * {@code 503 Service Unavailable} response with a {@code Retry-After} header.
+     * </p>
+     *
+     * @param ex DatabaseBusyException
+     * @return standardized error response
+     */
+    @ExceptionHandler(DatabaseBusyException.class)
+    public ResponseEntity<Object> handleDatabaseBusyException(DatabaseBusyException ex) {
+
+        ResponseEntity<Object> response = buildResponse(
+                HttpStatus.SERVICE_UNAVAILABLE,
+                ex.getMessage()
+        );
+
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response.getBody());
+    }
+
+    /**
+     * Handles search jobs rejected because the job queue is full.
+     *
+     * <p>
+     * Converts {@link SearchJobRejectedException} into a
+     * {@code 503 Service Unavailable} response with a {@code Retry-After} header.
+     * </p>
+     *
+     * @param ex SearchJobRejectedException
+     * @return standardized error response
+     */
+    @ExceptionHandler(SearchJobRejectedException.class)
+    public ResponseEntity<Object> handleSearchJobRejectedException(SearchJobRejectedException ex) {
+
+        ResponseEntity<Object> response = buildResponse(
+                HttpStatus.SERVICE_UNAVAILABLE,
+                ex.getMessage()
+        );
+
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(response.getBody());
+    }
+
     /**
      * Handles any uncaught exceptions not explicitly handled elsewhere.
      *
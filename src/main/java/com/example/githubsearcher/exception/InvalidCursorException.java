@@ -0,0 +1,38 @@
+package com.example.githubsearcher.exception;
+
+/**
+ * Runtime exception thrown when a pagination cursor cannot be used.
+ *
+ * <p>
+ * This happens when the cursor is not one the application issued
+ * (malformed or tampered with) or when it belongs to a different
+ * sort order than the current request.
+ * </p>
+ *
+ * <p>
+ * The exception is handled globally by {@code GlobalExceptionHandler},
+ * which converts it into a {@code 400 Bad Request} response.
+ * </p>
+ */
+public class InvalidCursorException extends RuntimeException {
+
+    /**
+     * Constructs a new InvalidCursorException with a detail message.
+     *
+     * @param message Description of the problem
+     */
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructs a new InvalidCursorException with a detail message
+     * and underlying cause.
+     *
+     * @param message Description of the problem
+     * @param cause   Root cause of the failure
+     */
+    public InvalidCursorException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.githubsearcher.exception;
+
+/**
+ * Runtime exception thrown when a search job cannot be queued because
+ * the job queue is full.
+ *
+ * <p>
+ * The exception is handled globally by {@code GlobalExceptionHandler},
+ * which converts it into a {@code 503 Service Unavailable} response.
+ * </p>
+ */
+public class SearchJobRejectedException extends RuntimeException {
+
+    /**
+     * Constructs a new SearchJobRejectedException with a detail message.
+     *
+     * @param message Description of the problem
+     */
+    public SearchJobRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.githubsearcher.exception;
+
+/**
+ * Runtime exception thrown when an export is requested in a format
+ * the application cannot write.
+ *
+ * <p>
+ * The exception is handled globally by {@code GlobalExceptionHandler},
+ * which converts it into a {@code 400 Bad Request} response.
+ * </p>
+ */
+public class UnsupportedExportFormatException extends RuntimeException {
+
+    /**
+     * Constructs a new UnsupportedExportFormatException with a detail message.
+     *
+     * @param message Description of the problem
+     */
+    public UnsupportedExportFormatException(String message) {
+        super(message);
+    }
+}
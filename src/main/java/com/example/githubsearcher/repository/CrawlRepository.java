@@ -0,0 +1,37 @@
+package com.example.githubsearcher.repository;
+
+import com.example.githubsearcher.entity.CrawlEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Repository interface for {@link CrawlEntity}.
+ */
+@Repository
+public interface CrawlRepository extends JpaRepository<CrawlEntity, Long> {
+
+    /**
+     * @param status State to look for
+     * @return crawls in the given state
+     */
+    List<CrawlEntity> findByStatus(CrawlEntity.Status status);
+
+    /**
+     * Adds fetched repositories to the progress of a crawl. Slices of a
+     * crawl finish concurrently, so the counter is incremented in SQL.
+     *
+     * @param id           Crawl identifier
+     * @param repositories Number of repositories to add
+     */
+    @Transactional
+    @Modifying
+    @Query("update CrawlEntity c set c.repositoriesSaved = c.repositoriesSaved + :repositories "
+            + "where c.id = :id")
+    void addSaved(@Param("id") Long id, @Param("repositories") long repositories);
+}
@@ -0,0 +1,51 @@
+package com.example.githubsearcher.repository;
+
+import com.example.githubsearcher.entity.CrawlSliceEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for {@link CrawlSliceEntity}.
+ *
+ * <p>
+ * Pending slices are read in id order, so a crawl works through its
+ * ranges roughly in the order they were created. Slices backing off
+ * after a failure are left out until their next attempt is due.
+ * </p>
+ */
+@Repository
+public interface CrawlSliceRepository extends JpaRepository<CrawlSliceEntity, Long> {
+
+    /**
+     * @param crawlId Crawl identifier
+     * @param now     Current time
+     * @param limit   Maximum number of slices
+     * @return pending slices of the crawl whose next attempt is due, oldest first
+     */
+    @Query("select s from CrawlSliceEntity s where s.crawlId = :crawlId "
+            + "and s.status = com.example.githubsearcher.entity.CrawlSliceEntity.Status.PENDING "
+            + "and (s.nextAttemptAt is null or s.nextAttemptAt <= :now) order by s.id")
+    List<CrawlSliceEntity> findDue(@Param("crawlId") Long crawlId, @Param("now") Instant now, Limit limit);
+
+    /**
+     * @param crawlId Crawl identifier
+     * @param status  Slice state
+     * @return the slice of the crawl in the given state with the earliest next attempt
+     */
+    Optional<CrawlSliceEntity> findFirstByCrawlIdAndStatusOrderByNextAttemptAtAsc(
+            Long crawlId, CrawlSliceEntity.Status status);
+
+    /**
+     * @param crawlId Crawl identifier
+     * @param status  Slice state
+     * @return number of slices of the crawl in the given state
+     */
+    long countByCrawlIdAndStatus(Long crawlId, CrawlSliceEntity.Status status);
+}
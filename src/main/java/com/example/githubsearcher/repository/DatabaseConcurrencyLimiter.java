@@ -0,0 +1,151 @@
+package com.example.githubsearcher.repository;
+
+import com.example.githubsearcher.exception.DatabaseBusyException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Bounds the number of callers using the database at the same time.
+ *
+ * <p>
+ * With virtual threads, the number of concurrent requests is no longer
+ * capped by the servlet thread pool. Without a limit, every request
+ * would queue inside the connection pool and time out there. Callers
+ * wait here instead, in arrival order, and only callers holding a
+ * permit ask the pool for a connection.
+ * </p>
+ *
+ * <p>
+ * Work must be wrapped outside of any transaction, because starting a
+ * transaction already takes a connection.
+ * </p>
+ *
+ * <p>
+ * Permits are reentrant: a call made while the same thread already holds
+ * a permit runs under that permit. Without this, nested calls (e.g. a
+ * write path reading back rows inside a wrapped block) could deadlock
+ * once every permit is held by a caller waiting for a second one.
+ * </p>
+ *
+ * <p>
+ * Every repository call of the services goes through the limiter,
+ * including background work (crawls, tracked search refreshes), which
+ * shares the pool with request handlers. The exceptions are the
+ * initial load of {@code RepositoryReadModel}, which runs on startup
+ * before requests are served, and streaming exports, which hold their
+ * connection for as long as the client downloads and therefore use a
+ * separate instance with {@code github.export.max-concurrency} permits.
+ * </p>
+ *
+ * <p>
+ * Configuration:
+ * <ul>
+ *     <li>{@code github.database.max-concurrency} - permits, should match the
+ *         connection pool size minus the export permits (default:
+ *         {@code spring.datasource.hikari.maximum-pool-size} or 10)</li>
+ *     <li>{@code github.database.acquire-timeout} - longest wait for a permit
+ *         before {@link DatabaseBusyException} is thrown</li>
+ * </ul>
+ * </p>
+ */
+@Component
+public class DatabaseConcurrencyLimiter {
+
+    private final Semaphore permits;
+
+    private final long acquireTimeoutMs;
+
+    /**
+     * Nesting depth of calls of the current thread that hold a permit.
+     */
+    private final ThreadLocal<int[]> depth = ThreadLocal.withInitial(() -> new int[1]);
+
+    /**
+     * Creates the limiter.
+     *
+     * @param maxConcurrency Number of callers allowed at the same time
+     * @param acquireTimeout Longest wait for a permit
+     */
+    public DatabaseConcurrencyLimiter(
+            @Value("${github.database.max-concurrency:${spring.datasource.hikari.maximum-pool-size:10}}")
+            int maxConcurrency,
+            @Value("${github.database.acquire-timeout:30s}") Duration acquireTimeout
+    ) {
+        this.permits = new Semaphore(Math.max(1, maxConcurrency), true);
+        this.acquireTimeoutMs = acquireTimeout.toMillis();
+    }
+
+    /**
+     * Runs database work once a permit is available, or right away if
+     * the current thread already holds one.
+     *
+     * @param work Work using the database
+     * @param <T>  Result type
+     * @return result of the work
+     * @throws DatabaseBusyException if no permit becomes available in time
+     */
+    public <T> T call(Supplier<T> work) {
+
+        int[] held = depth.get();
+
+        // Nested call: the thread already holds a permit
+        if (held[0] > 0) {
+            held[0]++;
+            try {
+                return work.get();
+            } finally {
+                held[0]--;
+            }
+        }
+
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new DatabaseBusyException("Database is busy. Please try again later.");
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new DatabaseBusyException("Interrupted while waiting for the database");
+        }
+
+        held[0] = 1;
+        try {
+            return work.get();
+        } finally {
+            held[0] = 0;
+            depth.remove();
+            permits.release();
+        }
+    }
+
+    /**
+     * Runs database work without a result once a permit is available.
+     *
+     * @param work Work using the database
+     * @throws DatabaseBusyException if no permit becomes available in time
+     */
+    public void run(Runnable work) {
+        call(() -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /**
+     * @return number of callers currently waiting for a permit
+     */
+    public int queueLength() {
+        return permits.getQueueLength();
+    }
+
+    /**
+     * @return number of permits currently available
+     */
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+}
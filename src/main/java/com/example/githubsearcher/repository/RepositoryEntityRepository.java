@@ -14,6 +14,7 @@ import org.springframework.stereotype.Repository;
  * <ul>
  *     <li>{@link JpaRepository} - Provides basic CRUD operations</li>
  *     <li>{@link JpaSpecificationExecutor} - Enables dynamic filtering using Specifications</li>
+ *     <li>{@link RepositoryEntityRepositoryCustom} - Bulk upsert via native SQL</li>
  * </ul>
  * </p>
  *
@@ -39,12 +40,14 @@ import org.springframework.stereotype.Repository;
  *
  * <p>
  * This interface contains no implementation code —
- * Spring Data JPA automatically generates the implementation at runtime.
+ * Spring Data JPA automatically generates the implementation at runtime
+ * and merges in {@link RepositoryEntityRepositoryCustomImpl}.
  * </p>
  */
 @Repository
 public interface RepositoryEntityRepository
         extends JpaRepository<RepositoryEntity, Long>,
-        JpaSpecificationExecutor<RepositoryEntity> {
+        JpaSpecificationExecutor<RepositoryEntity>,
+        RepositoryEntityRepositoryCustom {
 
 }
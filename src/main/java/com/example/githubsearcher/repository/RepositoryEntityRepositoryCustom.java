@@ -0,0 +1,145 @@
+package com.example.githubsearcher.repository;
+
+import com.example.githubsearcher.dto.RepositoryResponseDto;
+import com.example.githubsearcher.entity.RepositoryEntity;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Custom repository fragment for bulk read and write paths that
+ * bypass the JPA persistence context.
+ *
+ * <p>
+ * Implemented by {@link RepositoryEntityRepositoryCustomImpl} and
+ * exposed through {@link RepositoryEntityRepository}.
+ * </p>
+ */
+public interface RepositoryEntityRepositoryCustom {
+
+    /**
+     * Inserts or updates the given repositories using multi-row
+     * {@code INSERT ... ON CONFLICT (repo_id) DO UPDATE} statements.
+     *
+     * <p>
+     * Unlike {@code saveAll()}, this does not issue a SELECT per row:
+     * a batch of rows is written in a single round trip.
+     * Duplicate ids in the input are collapsed (last one wins).
+     * </p>
+     *
+     * <p>
+     * An existing row is only updated when the incoming
+     * {@code lastUpdated} is newer than the stored one and name,
+     * description, owner, language, stars or forks differ. Unchanged
+     * and stale rows are skipped without writing a new row version.
+     * </p>
+     *
+     * @param entities Repositories to insert or update
+     * @return number of repositories inserted, updated and skipped
+     */
+    UpsertResult upsertAll(List<RepositoryEntity> entities);
+
+    /**
+     * Streams repositories into a temporary staging table using the
+     * PostgreSQL {@code COPY ... FROM STDIN} protocol, then merges the
+     * staging table into {@code repositories} with a single set-based
+     * {@code INSERT ... SELECT ... ON CONFLICT} statement.
+     *
+     * <p>
+     * Rows are consumed lazily and sent in chunks, so memory use does
+     * not depend on the number of rows. If an id occurs several times,
+     * the row with the latest {@code lastUpdated} wins. As with
+     * {@link #upsertAll(List)}, existing rows are only updated when
+     * the incoming {@code lastUpdated} is newer and the content differs.
+     * </p>
+     *
+     * @param rows Repositories to load
+     * @return number of rows copied and merged
+     */
+    CopyResult copyAndMerge(Iterator<RepositoryEntity> rows);
+
+    /**
+     * Reads repositories matching the specification directly into
+     * {@link RepositoryResponseDto} projections.
+     *
+     * <p>
+     * Only the selected columns are read and no entities are created,
+     * so there is nothing to track in the persistence context and no
+     * separate mapping step.
+     * </p>
+     *
+     * @param spec  Filter to apply, or null for all rows
+     * @param sort  Sort order
+     * @param limit Maximum number of rows to return
+     * @return matching repositories in sort order
+     */
+    List<RepositoryResponseDto> findProjected(Specification<RepositoryEntity> spec, Sort sort, int limit);
+
+    /**
+     * Full-text search over name, owner and description, ranked by relevance.
+     *
+     * <p>
+     * Uses the {@code search_vector} column and its GIN index. The query
+     * accepts web search syntax (quoted phrases, {@code or}, {@code -word}).
+     * Results are ordered by rank, then stars, then id. The optional
+     * filters behave like {@code RepositorySpecification.hasLanguage}
+     * and {@code RepositorySpecification.hasMinStars}.
+     * </p>
+     *
+     * @param text     Search text
+     * @param language Optional language filter
+     * @param minStars Optional minimum star filter
+     * @param limit    Maximum number of rows to return
+     * @param offset   Number of ranked rows to skip
+     * @return matching repositories, best match first
+     */
+    List<RepositoryResponseDto> searchText(String text, String language, Integer minStars, int limit, long offset);
+
+    /**
+     * Streams all repositories matching the specification in
+     * ascending id order.
+     *
+     * <p>
+     * Rows are read through a server-side JDBC cursor, {@code fetchSize}
+     * rows per round trip, and are detached from the persistence context
+     * as they are handed out, so memory use does not depend on the
+     * number of matching rows. Must be called inside a transaction and
+     * the stream must be closed by the caller.
+     * </p>
+     *
+     * @param spec      Filter to apply, or null for all rows
+     * @param fetchSize Rows fetched per round trip
+     * @return lazily populated stream of detached repositories
+     */
+    Stream<RepositoryEntity> streamAll(Specification<RepositoryEntity> spec, int fetchSize);
+
+    /**
+     * Outcome of {@link #upsertAll(List)}.
+     *
+     * @param inserted Rows that did not exist before
+     * @param updated  Existing rows replaced by newer data
+     * @param skipped  Rows left untouched because the stored data is as new or newer,
+     *                 or has the same content
+     */
+    record UpsertResult(int inserted, int updated, int skipped) {
+
+        /**
+         * @return number of rows inserted or updated
+         */
+        public int written() {
+            return inserted + updated;
+        }
+    }
+
+    /**
+     * Outcome of {@link #copyAndMerge(Iterator)}.
+     *
+     * @param copied Rows streamed into the staging table
+     * @param merged Rows inserted or updated in {@code repositories}
+     */
+    record CopyResult(long copied, long merged) {
+    }
+}
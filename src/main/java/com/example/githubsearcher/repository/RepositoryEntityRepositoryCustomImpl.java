@@ -0,0 +1,497 @@
+package com.example.githubsearcher.repository;
+
+import com.example.githubsearcher.dto.RepositoryResponseDto;
+import com.example.githubsearcher.entity.RepositoryEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * JDBC based implementation of {@link RepositoryEntityRepositoryCustom}.
+ *
+ * <p>
+ * Repositories are written with PostgreSQL's
+ * {@code INSERT ... ON CONFLICT (repo_id) DO UPDATE}. Each statement
+ * carries up to {@code github.persistence.upsert-batch-size} rows,
+ * so a page of 100 repositories is written in one round trip instead
+ * of a SELECT plus an INSERT/UPDATE per row.
+ * </p>
+ *
+ * <p>
+ * Updates are conditional: a stored row is only rewritten when the
+ * incoming {@code last_updated} is newer and at least one content
+ * column differs. GitHub bumps {@code updated_at} for changes this
+ * table does not hold (e.g. watchers or topics), so most refreshes
+ * return unchanged data; skipping those rows avoids dead tuples, WAL
+ * and index writes. The same rule applies to the COPY merge. Rows written are reported back via
+ * {@code RETURNING}, so the caller learns what was inserted, updated
+ * or skipped.
+ * </p>
+ *
+ * <p>
+ * For large imports, {@link #copyAndMerge(Iterator)} streams rows with
+ * the {@code COPY} protocol into a temporary staging table and merges
+ * it into {@code repositories} in one set-based statement.
+ * </p>
+ *
+ * <p>
+ * For exports, {@link #streamAll(Specification, int)} reads rows
+ * through a JDBC cursor with a configurable fetch size.
+ * </p>
+ *
+ * <p>
+ * For API reads, {@link #findProjected(Specification, Sort, int)}
+ * selects straight into response DTOs, and
+ * {@link #searchText(String, String, Integer, int, long)} runs
+ * ranked full-text queries against the GIN indexed {@code search_vector}.
+ * </p>
+ *
+ * <p>
+ * Spring Data picks this class up by its {@code Impl} suffix and
+ * merges it into {@link RepositoryEntityRepository}.
+ * </p>
+ */
+public class RepositoryEntityRepositoryCustomImpl implements RepositoryEntityRepositoryCustom {
+
+    /**
+     * Columns written by the upsert, in bind order.
+     */
+    static final String COLUMNS =
+            "repo_id, name, description, owner, language, stars, forks, last_updated";
+
+    private static final int COLUMN_COUNT = 8;
+
+    /**
+     * PostgreSQL accepts at most 65535 bind parameters per statement.
+     */
+    private static final int MAX_ROWS_PER_STATEMENT = 65_535 / COLUMN_COUNT;
+
+    private static final String UPDATE_CLAUSE =
+            " ON CONFLICT (repo_id) DO UPDATE SET"
+                    + " name = EXCLUDED.name,"
+                    + " description = EXCLUDED.description,"
+                    + " owner = EXCLUDED.owner,"
+                    + " language = EXCLUDED.language,"
+                    + " stars = EXCLUDED.stars,"
+                    + " forks = EXCLUDED.forks,"
+                    + " last_updated = EXCLUDED.last_updated"
+                    + " WHERE (repositories.last_updated IS NULL"
+                    + " OR EXCLUDED.last_updated > repositories.last_updated)"
+                    + " AND (repositories.name, repositories.description, repositories.owner,"
+                    + " repositories.language, repositories.stars, repositories.forks)"
+                    + " IS DISTINCT FROM (EXCLUDED.name, EXCLUDED.description, EXCLUDED.owner,"
+                    + " EXCLUDED.language, EXCLUDED.stars, EXCLUDED.forks)";
+
+    /**
+     * {@code xmax} is 0 only for row versions created by an INSERT,
+     * which tells inserted rows apart from updated ones.
+     */
+    private static final String RETURNING_CLAUSE = " RETURNING (xmax = 0) AS inserted";
+
+    /**
+     * Staging table for COPY based loads, dropped at the end of the transaction.
+     */
+    static final String CREATE_STAGING_SQL =
+            "CREATE TEMP TABLE repositories_staging ("
+                    + "repo_id bigint, name varchar(255), description varchar(2000),"
+                    + " owner varchar(255), language varchar(255), stars integer,"
+                    + " forks integer, last_updated timestamptz"
+                    + ") ON COMMIT DROP";
+
+    static final String COPY_SQL =
+            "COPY repositories_staging (" + COLUMNS + ") FROM STDIN WITH (FORMAT csv)";
+
+    /**
+     * Keeps the newest row per id, since ON CONFLICT cannot
+     * touch the same row twice in one statement.
+     */
+    static final String MERGE_SQL =
+            "INSERT INTO repositories (" + COLUMNS + ")"
+                    + " SELECT DISTINCT ON (repo_id) " + COLUMNS
+                    + " FROM repositories_staging"
+                    + " ORDER BY repo_id, last_updated DESC"
+                    + UPDATE_CLAUSE;
+
+    /**
+     * Ranked full-text query. The text search configuration must match
+     * the one of {@code search_vector} (V3 migration).
+     */
+    private static final String TEXT_SEARCH_SELECT =
+            "SELECT " + COLUMNS + " FROM repositories, websearch_to_tsquery('english', ?) AS query"
+                    + " WHERE search_vector @@ query";
+
+    private static final String TEXT_SEARCH_ORDER =
+            " ORDER BY ts_rank(search_vector, query) DESC, stars DESC, repo_id DESC LIMIT ? OFFSET ?";
+
+    /**
+     * Amount of CSV data buffered before it is sent to the server.
+     */
+    private static final int COPY_CHUNK_BYTES = 64 * 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final EntityManager entityManager;
+
+    private final int batchSize;
+
+    /**
+     * Creates the fragment.
+     *
+     * @param jdbcTemplate  JDBC template bound to the application data source
+     * @param entityManager Shared entity manager used for streaming reads
+     * @param batchSize     Maximum number of rows per statement
+     */
+    public RepositoryEntityRepositoryCustomImpl(
+            JdbcTemplate jdbcTemplate,
+            EntityManager entityManager,
+            @Value("${github.persistence.upsert-batch-size:500}") int batchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+        this.batchSize = Math.max(1, Math.min(batchSize, MAX_ROWS_PER_STATEMENT));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * All batches are written in one transaction.
+     * </p>
+     */
+    @Override
+    @Transactional
+    public UpsertResult upsertAll(List<RepositoryEntity> entities) {
+
+        if (entities == null || entities.isEmpty()) {
+            return new UpsertResult(0, 0, 0);
+        }
+
+        // ON CONFLICT cannot touch the same row twice in one statement
+        Map<Long, RepositoryEntity> distinct = new LinkedHashMap<>();
+        entities.stream()
+                .filter(Objects::nonNull)
+                .forEach(entity -> distinct.put(entity.getId(), entity));
+
+        List<RepositoryEntity> rows = new ArrayList<>(distinct.values());
+        int inserted = 0;
+        int updated = 0;
+
+        for (int from = 0; from < rows.size(); from += batchSize) {
+
+            List<RepositoryEntity> batch = rows.subList(from, Math.min(from + batchSize, rows.size()));
+
+            // one element per row actually written: true if inserted, false if updated
+            for (Boolean insert : jdbcTemplate.queryForList(upsertSql(batch.size()), Boolean.class, bindValues(batch))) {
+                if (Boolean.TRUE.equals(insert)) {
+                    inserted++;
+                } else {
+                    updated++;
+                }
+            }
+        }
+
+        return new UpsertResult(inserted, updated, rows.size() - inserted - updated);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The staging table, the COPY and the merge share one transaction
+     * and therefore one connection.
+     * </p>
+     */
+    @Override
+    @Transactional
+    public CopyResult copyAndMerge(Iterator<RepositoryEntity> rows) {
+
+        jdbcTemplate.execute(CREATE_STAGING_SQL);
+
+        long copied = jdbcTemplate.execute((ConnectionCallback<Long>) connection ->
+                copy(connection.unwrap(PGConnection.class), rows));
+
+        long merged = jdbcTemplate.update(MERGE_SQL);
+
+        return new CopyResult(copied, merged);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Uses a JPA constructor expression; the selected attributes follow
+     * the field order of {@link RepositoryResponseDto}. Runs in a
+     * read-only transaction, so Hibernate skips flushing.
+     * </p>
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<RepositoryResponseDto> findProjected(
+            Specification<RepositoryEntity> spec,
+            Sort sort,
+            int limit
+    ) {
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<RepositoryResponseDto> query = cb.createQuery(RepositoryResponseDto.class);
+        Root<RepositoryEntity> root = query.from(RepositoryEntity.class);
+
+        Predicate predicate = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        query.select(cb.construct(
+                        RepositoryResponseDto.class,
+                        root.get("id"),
+                        root.get("name"),
+                        root.get("description"),
+                        root.get("owner"),
+                        root.get("language"),
+                        root.get("stars"),
+                        root.get("forks"),
+                        root.get("lastUpdated")))
+                .orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(Math.max(1, limit))
+                .getResultList();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<RepositoryResponseDto> searchText(
+            String text,
+            String language,
+            Integer minStars,
+            int limit,
+            long offset
+    ) {
+
+        StringBuilder sql = new StringBuilder(TEXT_SEARCH_SELECT);
+        List<Object> args = new ArrayList<>();
+        args.add(text);
+
+        if (language != null && !language.isBlank()) {
+            sql.append(" AND language = ?");
+            args.add(language);
+        }
+
+        if (minStars != null) {
+            sql.append(" AND stars >= ?");
+            args.add(minStars);
+        }
+
+        sql.append(TEXT_SEARCH_ORDER);
+        args.add(Math.max(1, limit));
+        args.add(Math.max(0, offset));
+
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> RepositoryResponseDto.builder()
+                .id(rs.getLong("repo_id"))
+                .name(rs.getString("name"))
+                .description(rs.getString("description"))
+                .owner(rs.getString("owner"))
+                .language(rs.getString("language"))
+                .stars(rs.getInt("stars"))
+                .forks(rs.getInt("forks"))
+                .lastUpdated(rs.getObject("last_updated", OffsetDateTime.class).toInstant())
+                .build(), args.toArray());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The query is read-only, so Hibernate keeps no snapshots for dirty
+     * checking. PostgreSQL only uses a cursor (instead of buffering the
+     * whole result) when the connection is not in auto-commit mode,
+     * hence the transaction requirement.
+     * </p>
+     */
+    @Override
+    public Stream<RepositoryEntity> streamAll(Specification<RepositoryEntity> spec, int fetchSize) {
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<RepositoryEntity> query = cb.createQuery(RepositoryEntity.class);
+        Root<RepositoryEntity> root = query.from(RepositoryEntity.class);
+
+        Predicate predicate = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        query.select(root).orderBy(cb.asc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, Math.max(1, fetchSize))
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()
+                .map(entity -> {
+                    entityManager.detach(entity);
+                    return entity;
+                });
+    }
+
+    /**
+     * Streams the rows as CSV into the staging table, flushing every
+     * {@link #COPY_CHUNK_BYTES} bytes.
+     *
+     * @param connection PostgreSQL connection of the current transaction
+     * @param rows       Rows to copy
+     * @return number of rows copied
+     */
+    private long copy(PGConnection connection, Iterator<RepositoryEntity> rows) throws SQLException {
+
+        CopyIn copyIn = connection.getCopyAPI().copyIn(COPY_SQL);
+
+        try {
+            ByteArrayOutputStream chunk = new ByteArrayOutputStream(COPY_CHUNK_BYTES + 4096);
+            StringBuilder line = new StringBuilder(512);
+
+            while (rows.hasNext()) {
+
+                RepositoryEntity entity = rows.next();
+                if (entity == null) {
+                    continue;
+                }
+
+                line.setLength(0);
+                appendCsvRow(line, entity);
+                chunk.writeBytes(line.toString().getBytes(StandardCharsets.UTF_8));
+
+                if (chunk.size() >= COPY_CHUNK_BYTES) {
+                    copyIn.writeToCopy(chunk.toByteArray(), 0, chunk.size());
+                    chunk.reset();
+                }
+            }
+
+            if (chunk.size() > 0) {
+                copyIn.writeToCopy(chunk.toByteArray(), 0, chunk.size());
+            }
+
+            return copyIn.endCopy();
+
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    /**
+     * Appends one CSV line matching {@link #COLUMNS}.
+     *
+     * <p>
+     * Text values are always quoted, so an empty string stays distinct
+     * from NULL (an unquoted empty field).
+     * </p>
+     *
+     * @param line   Buffer to append to
+     * @param entity Row to encode
+     */
+    static void appendCsvRow(StringBuilder line, RepositoryEntity entity) {
+
+        appendValue(line, entity.getId());
+        line.append(',');
+        appendText(line, entity.getName());
+        line.append(',');
+        appendText(line, entity.getDescription());
+        line.append(',');
+        appendText(line, entity.getOwner());
+        line.append(',');
+        appendText(line, entity.getLanguage());
+        line.append(',');
+        appendValue(line, entity.getStars());
+        line.append(',');
+        appendValue(line, entity.getForks());
+        line.append(',');
+        appendValue(line, entity.getLastUpdated());
+        line.append('\n');
+    }
+
+    private static void appendValue(StringBuilder line, Object value) {
+        if (value != null) {
+            line.append(value);
+        }
+    }
+
+    private static void appendText(StringBuilder line, String value) {
+        if (value != null) {
+            line.append('"').append(value.replace("\"", "\"\"")).append('"');
+        }
+    }
+
+    /**
+     * Builds a multi-row upsert statement for the given number of rows.
+     *
+     * @param rows Number of rows in the statement
+     * @return SQL statement with positional parameters
+     */
+    static String upsertSql(int rows) {
+
+        StringBuilder sql = new StringBuilder("INSERT INTO repositories (")
+                .append(COLUMNS)
+                .append(") VALUES ");
+
+        for (int i = 0; i < rows; i++) {
+            sql.append(i == 0 ? "" : ", ").append("(?, ?, ?, ?, ?, ?, ?, ?)");
+        }
+
+        return sql.append(UPDATE_CLAUSE).append(RETURNING_CLAUSE).toString();
+    }
+
+    /**
+     * Flattens the rows into bind values matching {@link #COLUMNS}.
+     *
+     * @param batch Rows of one statement
+     * @return bind values
+     */
+    private static Object[] bindValues(List<RepositoryEntity> batch) {
+
+        Object[] values = new Object[batch.size() * COLUMN_COUNT];
+        int i = 0;
+
+        for (RepositoryEntity entity : batch) {
+            values[i++] = entity.getId();
+            values[i++] = entity.getName();
+            values[i++] = entity.getDescription();
+            values[i++] = entity.getOwner();
+            values[i++] = entity.getLanguage();
+            values[i++] = entity.getStars();
+            values[i++] = entity.getForks();
+            values[i++] = entity.getLastUpdated() != null
+                    ? Timestamp.from(entity.getLastUpdated())
+                    : null;
+        }
+
+        return values;
+    }
+}
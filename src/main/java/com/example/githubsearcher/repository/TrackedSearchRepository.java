@@ -0,0 +1,73 @@
+package com.example.githubsearcher.repository;
+
+import com.example.githubsearcher.entity.TrackedSearchEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Repository interface for {@link TrackedSearchEntity}.
+ *
+ * <p>
+ * Besides the inherited CRUD operations it looks tracked searches up by
+ * their normalized key, adds interactive request counts and records
+ * refresh outcomes without loading the entity.
+ * </p>
+ */
+@Repository
+public interface TrackedSearchRepository extends JpaRepository<TrackedSearchEntity, Long> {
+
+    /**
+     * @param searchKey Normalized search ({@code SearchCacheKey.id()})
+     * @return the tracked search, if any
+     */
+    Optional<TrackedSearchEntity> findBySearchKey(String searchKey);
+
+    /**
+     * Adds interactive requests to the popularity of a tracked search.
+     *
+     * @param searchKey Normalized search
+     * @param requests  Number of requests to add
+     * @return number of updated rows (0 if the search is not tracked)
+     */
+    @Transactional
+    @Modifying
+    @Query("update TrackedSearchEntity t set t.requestCount = t.requestCount + :requests "
+            + "where t.searchKey = :searchKey")
+    int addRequests(@Param("searchKey") String searchKey, @Param("requests") long requests);
+
+    /**
+     * Records the outcome of a background refresh.
+     *
+     * <p>
+     * Only the refresh columns are written, so request counts added in
+     * the meantime are kept, and a search untracked during the refresh
+     * is simply not found.
+     * </p>
+     *
+     * @param id                Identifier of the tracked search
+     * @param lastRefreshedAt   Time of the last successful refresh
+     * @param lastFullRefreshAt Time of the last full refresh
+     * @param highWaterMark     Mark for the next incremental refresh
+     * @param lastError         Error of the refresh, or null if it succeeded
+     * @return number of updated rows (0 if the search is no longer tracked)
+     */
+    @Transactional
+    @Modifying
+    @Query("update TrackedSearchEntity t set t.lastRefreshedAt = :lastRefreshedAt, "
+            + "t.lastFullRefreshAt = :lastFullRefreshAt, t.highWaterMark = :highWaterMark, "
+            + "t.lastError = :lastError where t.id = :id")
+    int recordRefresh(
+            @Param("id") Long id,
+            @Param("lastRefreshedAt") Instant lastRefreshedAt,
+            @Param("lastFullRefreshAt") Instant lastFullRefreshAt,
+            @Param("highWaterMark") Instant highWaterMark,
+            @Param("lastError") String lastError
+    );
+}
@@ -0,0 +1,174 @@
+package com.example.githubsearcher.repository.specification;
+
+import com.example.githubsearcher.dto.RepositoryResponseDto;
+import com.example.githubsearcher.entity.RepositoryEntity;
+import com.example.githubsearcher.exception.InvalidCursorException;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in a keyset paginated list of stored repositories.
+ *
+ * <p>
+ * A cursor holds the sort key, the sort value and the id of the last
+ * row of a page. It is handed to clients as an opaque, URL-safe
+ * Base64 string and turned back into a seek predicate via
+ * {@link RepositorySpecification#seekAfter(String, Comparable, Long)}.
+ * </p>
+ *
+ * <p>
+ * Supported sort keys:
+ * <ul>
+ *     <li>stars - {@code stars DESC, repo_id DESC}</li>
+ *     <li>forks - {@code forks DESC, repo_id DESC}</li>
+ *     <li>updated - {@code last_updated DESC, repo_id DESC}</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * Full-text results ordered by {@link #RELEVANCE} have no stable keyset;
+ * their cursor carries the offset of the next page instead
+ * (see {@link #atOffset(long)}). Results of search jobs are paged the same
+ * way under their own key, {@link #JOB_RESULTS}, so a cursor of one list
+ * is rejected by the other.
+ * </p>
+ *
+ * @param sort  Sort key the cursor was issued for
+ * @param value Sort value of the last row, as text
+ * @param id    Id of the last row
+ */
+public record RepositoryCursor(String sort, String value, long id) {
+
+    /**
+     * Sort key of ranked full-text search results.
+     */
+    public static final String RELEVANCE = "relevance";
+
+    /**
+     * Sort key of the in-memory results of a search job.
+     */
+    public static final String JOB_RESULTS = "job";
+
+    private static final char SEPARATOR = '|';
+
+    /**
+     * Builds the cursor pointing after the given row.
+     *
+     * @param sort Sort key (stars, forks, updated)
+     * @param last Last row of the current page
+     * @return cursor for the next page
+     */
+    public static RepositoryCursor after(String sort, RepositoryResponseDto last) {
+
+        Object value = switch (sort) {
+            case "forks" -> last.getForks();
+            case "updated" -> last.getLastUpdated();
+            default -> last.getStars();
+        };
+
+        return new RepositoryCursor(sort, String.valueOf(value), last.getId());
+    }
+
+    /**
+     * Builds the cursor of a page of ranked results.
+     *
+     * @param offset Number of ranked rows before the page
+     * @return cursor for the page
+     */
+    public static RepositoryCursor atOffset(long offset) {
+        return atOffset(RELEVANCE, offset);
+    }
+
+    /**
+     * Builds the cursor of a page of an offset paginated list.
+     *
+     * @param sort   Sort key of the list ({@link #RELEVANCE} or {@link #JOB_RESULTS})
+     * @param offset Number of rows before the page
+     * @return cursor for the page
+     */
+    public static RepositoryCursor atOffset(String sort, long offset) {
+        return new RepositoryCursor(sort, String.valueOf(offset), 0);
+    }
+
+    /**
+     * Decodes a cursor issued by {@link #encode()}.
+     *
+     * @param cursor Encoded cursor
+     * @param sort   Sort key of the current request
+     * @return decoded cursor
+     * @throws InvalidCursorException if the cursor is malformed or
+     *                                was issued for another sort key
+     */
+    public static RepositoryCursor decode(String cursor, String sort) {
+
+        String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCursorException("Invalid cursor", ex);
+        }
+
+        String[] parts = decoded.split("\\" + SEPARATOR, -1);
+
+        if (parts.length != 3) {
+            throw new InvalidCursorException("Invalid cursor");
+        }
+
+        if (!parts[0].equals(sort)) {
+            throw new InvalidCursorException("Cursor was issued for sort '" + parts[0] + "'");
+        }
+
+        try {
+            RepositoryCursor result = new RepositoryCursor(parts[0], parts[1], Long.parseLong(parts[2]));
+            result.sortValue();
+            return result;
+        } catch (NumberFormatException | DateTimeParseException ex) {
+            throw new InvalidCursorException("Invalid cursor", ex);
+        }
+    }
+
+    /**
+     * @return opaque, URL-safe representation of this cursor
+     */
+    public String encode() {
+        String raw = sort + SEPARATOR + value + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return offset carried by a {@link #RELEVANCE} or {@link #JOB_RESULTS} cursor
+     */
+    public long offset() {
+        return Long.parseLong(value);
+    }
+
+    /**
+     * Builds the seek predicate selecting the rows after this cursor.
+     *
+     * @param sortField Entity attribute the results are sorted by
+     * @return Specification for the seek predicate
+     */
+    public Specification<RepositoryEntity> seek(String sortField) {
+
+        if ("updated".equals(sort)) {
+            return RepositorySpecification.seekAfter(sortField, Instant.parse(value), id);
+        }
+
+        return RepositorySpecification.seekAfter(sortField, Integer.valueOf(value), id);
+    }
+
+    /**
+     * Parses the sort value, failing for values that do not fit the sort key.
+     */
+    private Comparable<?> sortValue() {
+        return switch (sort) {
+            case "updated" -> Instant.parse(value);
+            case RELEVANCE, JOB_RESULTS -> Long.valueOf(value);
+            default -> Integer.valueOf(value);
+        };
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.githubsearcher.repository.specification;
 
 import com.example.githubsearcher.entity.RepositoryEntity;
+import jakarta.persistence.criteria.Path;
 import org.springframework.data.jpa.domain.Specification;
 
 /**
@@ -63,4 +64,49 @@ public class RepositorySpecification {
                         ? null
                         : cb.greaterThanOrEqualTo(root.get("stars"), minStars);
     }
+
+    /**
+     * Seek predicate for keyset pagination in descending
+     * {@code (sortField, id)} order.
+     *
+     * <p>
+     * Matches the rows that come after the given position:
+     * {@code sortField <= value AND (sortField < value OR (sortField = value AND id < id))}.
+     * Together with an index on {@code (sortField, repo_id)} the database
+     * starts reading at the position instead of skipping an offset.
+     * </p>
+     *
+     * <p>
+     * If value or id is null (first page), no filtering is applied.
+     * </p>
+     *
+     * @param sortField Entity attribute the results are sorted by
+     * @param value     Sort value of the last row of the previous page
+     * @param id        Id of the last row of the previous page
+     * @param <T>       Type of the sort attribute
+     * @return Specification for the seek predicate
+     */
+    public static <T extends Comparable<? super T>> Specification<RepositoryEntity> seekAfter(
+            String sortField,
+            T value,
+            Long id
+    ) {
+        return (root, query, cb) -> {
+
+            if (value == null || id == null) {
+                return null;
+            }
+
+            Path<T> field = root.get(sortField);
+
+            // the redundant "field <= value" bounds the index scan; the OR alone is only a filter
+            return cb.and(
+                    cb.lessThanOrEqualTo(field, value),
+                    cb.or(
+                            cb.lessThan(field, value),
+                            cb.and(cb.equal(field, value), cb.lessThan(root.get("id"), id))
+                    )
+            );
+        };
+    }
 }
@@ -0,0 +1,45 @@
+package com.example.githubsearcher.service;
+
+import com.example.githubsearcher.dto.BulkLoadResultDto;
+import com.example.githubsearcher.entity.RepositoryEntity;
+
+import java.io.InputStream;
+import java.util.Iterator;
+
+/**
+ * Service interface for high-volume imports of repositories.
+ *
+ * <p>
+ * Intended for backfills and full re-syncs of hundreds of thousands
+ * of repositories, where even batched INSERT statements are too slow.
+ * Interactive searches keep using {@link GitHubService}.
+ * </p>
+ *
+ * <p>
+ * Implemented by {@code BulkLoadServiceImpl}.
+ * </p>
+ */
+public interface BulkLoadService {
+
+    /**
+     * Streams the given repositories into the database.
+     *
+     * <p>
+     * Rows are consumed lazily, so the iterator may be backed by a
+     * source that does not fit into memory.
+     * </p>
+     *
+     * @param rows Repositories to load
+     * @return BulkLoadResultDto containing row counts and throughput
+     */
+    BulkLoadResultDto load(Iterator<RepositoryEntity> rows);
+
+    /**
+     * Streams newline-delimited JSON GitHub repository items
+     * (as returned by the Search API) into the database.
+     *
+     * @param ndjson Input stream with one repository JSON object per line
+     * @return BulkLoadResultDto containing row counts and throughput
+     */
+    BulkLoadResultDto loadNdjson(InputStream ndjson);
+}
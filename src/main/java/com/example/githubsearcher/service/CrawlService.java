@@ -0,0 +1,38 @@
+package com.example.githubsearcher.service;
+
+import com.example.githubsearcher.dto.CrawlDto;
+import com.example.githubsearcher.dto.SearchRequestDto;
+
+import java.util.Optional;
+
+/**
+ * Service interface for crawling searches with more matches than
+ * GitHub serves for a single query.
+ *
+ * <p>
+ * A crawl splits the search into {@code stars:} and {@code created:}
+ * slices of at most 1000 matches each, fetches every slice and upserts
+ * the repositories. Progress is stored per slice, so a crawl interrupted
+ * by a restart continues where it stopped.
+ * </p>
+ *
+ * <p>
+ * Implemented by {@code CrawlServiceImpl}.
+ * </p>
+ */
+public interface CrawlService {
+
+    /**
+     * Starts a crawl in the background.
+     *
+     * @param request Search criteria (query, language); sort and fetchAllPages are ignored
+     * @return the started crawl
+     */
+    CrawlDto start(SearchRequestDto request);
+
+    /**
+     * @param id Identifier of the crawl
+     * @return the crawl with its progress, if it exists
+     */
+    Optional<CrawlDto> get(Long id);
+}
@@ -1,9 +1,13 @@
 package com.example.githubsearcher.service;
 
-import com.example.githubsearcher.dto.RepositoryResponseDto;
+import com.example.githubsearcher.dto.BatchSearchResponseDto;
+import com.example.githubsearcher.dto.CacheStatsDto;
+import com.example.githubsearcher.dto.RepositoryPageDto;
 import com.example.githubsearcher.dto.SearchRequestDto;
 import com.example.githubsearcher.dto.SearchResponseDto;
+import reactor.core.publisher.Mono;
 
+import java.time.Instant;
 import java.util.List;
 
 /**
@@ -28,6 +32,7 @@ public interface GitHubService {
      * <p>
      * Responsibilities include:
      * <ul>
+     *     <li>Answering repeated identical searches from the result cache</li>
      *     <li>Calling the GitHub API via client layer</li>
      *     <li>Mapping API DTOs to entities</li>
      *     <li>Persisting repositories in the database</li>
@@ -41,8 +46,58 @@ public interface GitHubService {
     SearchResponseDto searchAndSaveRepositories(SearchRequestDto request);
 
     /**
-     * Retrieves repositories stored in the database with optional
-     * filtering and sorting.
+     * Non-blocking variant of {@link #searchAndSaveRepositories(SearchRequestDto)}.
+     *
+     * <p>
+     * The GitHub call does not occupy a thread while waiting for the
+     * response, and the database write runs on a bounded scheduler
+     * sized to the connection pool. Shares the result cache and
+     * in-flight searches with the blocking variant.
+     * </p>
+     *
+     * @param request SearchRequestDto containing query, language, and sort criteria
+     * @return Mono emitting the operation message and stored repositories
+     */
+    Mono<SearchResponseDto> searchAndSaveRepositoriesReactive(SearchRequestDto request);
+
+    /**
+     * Runs several searches concurrently and stores their repositories
+     * with a single bulk write.
+     *
+     * <p>
+     * Identical searches of the batch are run once, and a repository
+     * found by several searches is written once. Shares the result
+     * cache and in-flight searches with single searches. A failing
+     * search is reported in its result, with the HTTP status it would
+     * have failed with on its own, without failing the batch.
+     * </p>
+     *
+     * @param requests Searches to run
+     * @return per-search results referencing the distinct stored repositories
+     */
+    BatchSearchResponseDto searchAndSaveBatch(List<SearchRequestDto> requests);
+
+    /**
+     * Fetches a search from GitHub and stores the repositories, bypassing
+     * the result cache. Used to refresh tracked searches in the background.
+     *
+     * <p>
+     * With a high-water mark the refresh is incremental: only repositories
+     * pushed after the mark are fetched. The returned mark is the newest
+     * {@code updated_at} seen. If an incremental search returned only part
+     * of its matches, no mark is returned, so the next refresh is a full one
+     * instead of fetching the same first page of changes again.
+     * </p>
+     *
+     * @param request     SearchRequestDto containing query, language, and sort criteria
+     * @param pushedAfter High-water mark of the previous refresh, or null for a full refresh
+     * @return the stored repositories and the high-water mark for the next refresh
+     */
+    RefreshResult refreshRepositories(SearchRequestDto request, Instant pushedAfter);
+
+    /**
+     * Retrieves one page of repositories stored in the database with
+     * optional filtering and sorting.
      *
      * <p>
      * Filtering:
@@ -61,14 +116,64 @@ public interface GitHubService {
      * </ul>
      * </p>
      *
+     * <p>
+     * Pagination is cursor based: the returned page carries an opaque
+     * cursor that selects the next page when passed back, or null
+     * when there are no more rows.
+     * </p>
+     *
      * @param language Optional language filter
      * @param minStars Optional minimum star filter
      * @param sort     Sorting criteria
-     * @return List of RepositoryResponseDto
+     * @param cursor   Cursor of the page to read, or null for the first page
+     * @param limit    Maximum number of repositories per page, or null for the default
+     * @return RepositoryPageDto with the repositories and the next cursor
+     */
+    RepositoryPageDto getStoredRepositories(
+            String language,
+            Integer minStars,
+            String sort,
+            String cursor,
+            Integer limit
+    );
+
+    /**
+     * Searches stored repositories by keyword, without calling GitHub.
+     *
+     * <p>
+     * Matches name, owner and description via full-text search and
+     * returns the best matches first. The language and minimum star
+     * filters work as in {@link #getStoredRepositories}.
+     * </p>
+     *
+     * @param text     Search text
+     * @param language Optional language filter
+     * @param minStars Optional minimum star filter
+     * @param cursor   Cursor of the page to read, or null for the first page
+     * @param limit    Maximum number of repositories per page, or null for the default
+     * @return RepositoryPageDto with the repositories and the next cursor
      */
-    List<RepositoryResponseDto> getStoredRepositories(
+    RepositoryPageDto searchStoredRepositories(
+            String text,
             String language,
             Integer minStars,
-            String sort
+            String cursor,
+            Integer limit
     );
+
+    /**
+     * Returns hit, miss and eviction statistics of the search result cache.
+     *
+     * @return CacheStatsDto with cumulative cache statistics
+     */
+    CacheStatsDto getSearchCacheStats();
+
+    /**
+     * Outcome of {@link #refreshRepositories(SearchRequestDto, Instant)}.
+     *
+     * @param result        Stored repositories
+     * @param highWaterMark Mark to pass to the next refresh, or null if the next one must be full
+     */
+    record RefreshResult(SearchResponseDto result, Instant highWaterMark) {
+    }
 }
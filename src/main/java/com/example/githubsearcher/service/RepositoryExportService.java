@@ -0,0 +1,36 @@
+package com.example.githubsearcher.service;
+
+import com.example.githubsearcher.dto.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Service interface for exporting stored repositories.
+ *
+ * <p>
+ * Intended for analytics jobs that need the whole (filtered) table.
+ * Rows are streamed from the database straight to the output, so the
+ * memory used does not grow with the number of exported rows.
+ * Interactive, paginated reads keep using {@link GitHubService}.
+ * </p>
+ *
+ * <p>
+ * Implemented by {@code RepositoryExportServiceImpl}.
+ * </p>
+ */
+public interface RepositoryExportService {
+
+    /**
+     * Writes all stored repositories matching the filters to the output,
+     * in ascending id order.
+     *
+     * @param language Optional language filter
+     * @param minStars Optional minimum star filter
+     * @param format   Output format
+     * @param out      Stream to write to; it is flushed but not closed
+     * @return number of exported repositories
+     * @throws IOException if writing to the output fails
+     */
+    long export(String language, Integer minStars, ExportFormat format, OutputStream out) throws IOException;
+}
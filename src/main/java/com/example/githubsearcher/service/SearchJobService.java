@@ -0,0 +1,50 @@
+package com.example.githubsearcher.service;
+
+import com.example.githubsearcher.dto.RepositoryPageDto;
+import com.example.githubsearcher.dto.SearchJobDto;
+import com.example.githubsearcher.dto.SearchRequestDto;
+
+import java.util.Optional;
+
+/**
+ * Service interface for running searches as asynchronous jobs.
+ *
+ * <p>
+ * A job runs the same ingest as {@link GitHubService#searchAndSaveRepositories}
+ * on a bounded executor, so long multi-page searches hold neither a
+ * servlet thread nor the client's connection. Clients poll the job and
+ * read the stored repositories page by page. Finished jobs expire.
+ * </p>
+ *
+ * <p>
+ * Implemented by {@code SearchJobServiceImpl}.
+ * </p>
+ */
+public interface SearchJobService {
+
+    /**
+     * Queues a search.
+     *
+     * @param request Search criteria (query, language, sort, fetchAllPages)
+     * @return the queued job
+     * @throws com.example.githubsearcher.exception.SearchJobRejectedException if the queue is full
+     */
+    SearchJobDto submit(SearchRequestDto request);
+
+    /**
+     * @param id Identifier of the job
+     * @return the job with its progress, unless unknown or expired
+     */
+    Optional<SearchJobDto> get(String id);
+
+    /**
+     * Returns one page of the repositories stored by a job. While the
+     * job runs, the repositories stored so far are returned.
+     *
+     * @param id     Identifier of the job
+     * @param cursor Cursor of the page to read, or null for the first page
+     * @param limit  Maximum number of repositories per page, or null for the default
+     * @return RepositoryPageDto with the repositories and the next cursor, unless the job is unknown or expired
+     */
+    Optional<RepositoryPageDto> getResults(String id, String cursor, Integer limit);
+}
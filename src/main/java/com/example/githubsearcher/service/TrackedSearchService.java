@@ -0,0 +1,50 @@
+package com.example.githubsearcher.service;
+
+import com.example.githubsearcher.dto.SearchRequestDto;
+import com.example.githubsearcher.dto.TrackedSearchDto;
+
+import java.util.List;
+
+/**
+ * Service interface for registering searches that are kept fresh
+ * in the background.
+ *
+ * <p>
+ * Tracked searches are refreshed by {@code TrackedSearchRefresher}
+ * through the regular ingest path of {@link GitHubService}, so stored
+ * repositories stay current without interactive requests waiting
+ * for GitHub.
+ * </p>
+ *
+ * <p>
+ * Implemented by {@code TrackedSearchServiceImpl}.
+ * </p>
+ */
+public interface TrackedSearchService {
+
+    /**
+     * Registers a search for background refresh.
+     *
+     * <p>
+     * Searches are identified by their normalized form, so tracking
+     * the same search twice returns the existing registration.
+     * </p>
+     *
+     * @param request Search criteria (query, language, sort, fetchAllPages)
+     * @return the tracked search
+     */
+    TrackedSearchDto track(SearchRequestDto request);
+
+    /**
+     * @return all tracked searches
+     */
+    List<TrackedSearchDto> list();
+
+    /**
+     * Stops refreshing a search.
+     *
+     * @param id Identifier of the tracked search
+     * @return true if the search was tracked
+     */
+    boolean untrack(Long id);
+}
@@ -0,0 +1,176 @@
+package com.example.githubsearcher.service.impl;
+
+import com.example.githubsearcher.cache.RepositoryReadModel;
+import com.example.githubsearcher.dto.BulkLoadResultDto;
+import com.example.githubsearcher.dto.github.GitHubRepositoryDto;
+import com.example.githubsearcher.entity.RepositoryEntity;
+import com.example.githubsearcher.mapper.RepositoryMapper;
+import com.example.githubsearcher.repository.DatabaseConcurrencyLimiter;
+import com.example.githubsearcher.repository.RepositoryEntityRepository;
+import com.example.githubsearcher.repository.RepositoryEntityRepositoryCustom.CopyResult;
+import com.example.githubsearcher.service.BulkLoadService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.MappingIterator;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Implementation of {@link BulkLoadService}.
+ *
+ * <p>
+ * Rows are validated on the fly and streamed to
+ * {@link RepositoryEntityRepository#copyAndMerge(Iterator)}, which uses
+ * the PostgreSQL {@code COPY} protocol. Nothing is collected in memory,
+ * so the size of an import is bounded only by the database.
+ * </p>
+ *
+ * <p>
+ * Rows that lack a required column (id, name, owner, stars, forks,
+ * last updated) are skipped and counted instead of failing the import.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+public class BulkLoadServiceImpl implements BulkLoadService {
+
+    /**
+     * Repository providing the COPY based load.
+     */
+    private final RepositoryEntityRepository repository;
+
+    /**
+     * Bounds concurrent database use.
+     */
+    private final DatabaseConcurrencyLimiter databaseLimiter;
+
+    /**
+     * In-memory read model, reloaded after a bulk load.
+     */
+    private final RepositoryReadModel readModel;
+
+    /**
+     * Jackson mapper used to read NDJSON input.
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Loads the given repositories and reports throughput.
+     *
+     * @param rows Repositories to load
+     * @return BulkLoadResultDto containing row counts and throughput
+     */
+    @Override
+    public BulkLoadResultDto load(Iterator<RepositoryEntity> rows) {
+
+        long start = System.nanoTime();
+
+        ValidRows validRows = new ValidRows(rows);
+        CopyResult result = databaseLimiter.call(() -> repository.copyAndMerge(validRows));
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // The rows are not kept in memory, so rebuild the read model from the table
+        if (result.merged() > 0 && readModel.isReady()) {
+            databaseLimiter.run(readModel::reload);
+        }
+
+        return BulkLoadResultDto.builder()
+                .rowsCopied(result.copied())
+                .rowsMerged(result.merged())
+                .rowsSkipped(validRows.skipped())
+                .elapsedMillis(elapsedMillis)
+                .rowsPerSecond(result.copied() * 1000d / Math.max(1, elapsedMillis))
+                .build();
+    }
+
+    /**
+     * Parses GitHub repository items line by line and loads them.
+     *
+     * @param ndjson Input stream with one repository JSON object per line
+     * @return BulkLoadResultDto containing row counts and throughput
+     */
+    @Override
+    public BulkLoadResultDto loadNdjson(InputStream ndjson) {
+
+        try (MappingIterator<GitHubRepositoryDto> items =
+                     objectMapper.readerFor(GitHubRepositoryDto.class).readValues(ndjson)) {
+
+            return load(new Iterator<>() {
+
+                @Override
+                public boolean hasNext() {
+                    return items.hasNext();
+                }
+
+                @Override
+                public RepositoryEntity next() {
+                    return RepositoryMapper.toEntity(items.next());
+                }
+            });
+        }
+    }
+
+    /**
+     * Iterator that skips and counts rows missing a required column.
+     */
+    static final class ValidRows implements Iterator<RepositoryEntity> {
+
+        private final Iterator<RepositoryEntity> source;
+
+        private RepositoryEntity next;
+
+        private long skipped;
+
+        ValidRows(Iterator<RepositoryEntity> source) {
+            this.source = source;
+        }
+
+        @Override
+        public boolean hasNext() {
+
+            while (next == null && source.hasNext()) {
+
+                RepositoryEntity candidate = source.next();
+
+                if (isValid(candidate)) {
+                    next = candidate;
+                } else {
+                    skipped++;
+                }
+            }
+
+            return next != null;
+        }
+
+        @Override
+        public RepositoryEntity next() {
+
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            RepositoryEntity current = next;
+            next = null;
+            return current;
+        }
+
+        long skipped() {
+            return skipped;
+        }
+
+        private static boolean isValid(RepositoryEntity entity) {
+            return entity != null
+                    && entity.getId() != null
+                    && entity.getName() != null
+                    && entity.getOwner() != null
+                    && entity.getStars() != null
+                    && entity.getForks() != null
+                    && entity.getLastUpdated() != null;
+        }
+    }
+}
@@ -0,0 +1,494 @@
+package com.example.githubsearcher.service.impl;
+
+import com.example.githubsearcher.client.GitHubApiClient;
+import com.example.githubsearcher.client.GitHubRequestScheduler;
+import com.example.githubsearcher.client.QuotaSnapshot;
+import com.example.githubsearcher.dto.CrawlDto;
+import com.example.githubsearcher.dto.SearchRequestDto;
+import com.example.githubsearcher.dto.github.GitHubSearchResponseDto;
+import com.example.githubsearcher.entity.CrawlEntity;
+import com.example.githubsearcher.entity.CrawlSliceEntity;
+import com.example.githubsearcher.exception.GitHubRateLimitException;
+import com.example.githubsearcher.repository.CrawlRepository;
+import com.example.githubsearcher.repository.CrawlSliceRepository;
+import com.example.githubsearcher.repository.DatabaseConcurrencyLimiter;
+import com.example.githubsearcher.service.CrawlService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Implementation of {@link CrawlService}.
+ *
+ * <p>
+ * A crawl starts with a single slice covering every repository of the
+ * search. Slices are taken from {@code crawl_slices} in waves of up to
+ * {@code github.crawl.parallelism} and processed concurrently:
+ * <ol>
+ *     <li>The slice's {@code total_count} is requested with a one-item page</li>
+ *     <li>Above GitHub's 1000-result cap, the slice is replaced by the two
+ *         halves of {@link SearchPartition#split}</li>
+ *     <li>Otherwise all pages are fetched and upserted into {@code repositories};
+ *         the upsert removes duplicates (a repository whose star count
+ *         changes during the crawl may show up in two slices)</li>
+ * </ol>
+ * Replacing a slice by its halves happens in one transaction, and so does
+ * marking a slice as done together with adding its repositories to the
+ * crawl's count; a slice is only marked as done after its repositories
+ * were stored. After a crash, pending slices are picked up again when the
+ * application starts.
+ * </p>
+ *
+ * <p>
+ * Requests go through the rate limit pacing of {@link GitHubRequestScheduler}.
+ * In addition, a wave never starts more slices than the requests GitHub
+ * has left beyond {@code github.crawl.quota-reserve} can pay for, counting
+ * each slice at its worst case ({@link #SLICE_COST}). The reserve stays
+ * available for interactive searches; once not even one slice fits, the
+ * crawl waits for the reset.
+ * </p>
+ *
+ * <p>
+ * Crawls run one after another. A failed slice backs off before it is
+ * retried ({@code github.crawl.retry-backoff}, doubled per attempt) and
+ * is given up after {@code github.crawl.max-attempts} attempts. Hitting
+ * the rate limit is not counted as an attempt: the slice waits for the
+ * reset instead. A crawl with slices that were given up finishes as
+ * {@code FAILED}, so a partial crawl is never reported as complete.
+ * </p>
+ */
+@Slf4j
+@Service
+public class CrawlServiceImpl implements CrawlService {
+
+    /**
+     * GitHub Search API never serves more than this many results for a single query.
+     */
+    static final int SEARCH_RESULT_CAP = 1000;
+
+    /**
+     * Most requests a single slice can take: the count request plus every
+     * page up to the result cap.
+     */
+    static final int SLICE_COST = 1 + GitHubApiClient.pageCount(SEARCH_RESULT_CAP);
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final GitHubApiClient gitHubApiClient;
+
+    private final GitHubRequestScheduler requestScheduler;
+
+    private final CrawlRepository crawlRepository;
+
+    private final CrawlSliceRepository sliceRepository;
+
+    private final DatabaseConcurrencyLimiter databaseLimiter;
+
+    private final RepositoryWriter repositoryWriter;
+
+    private final TransactionTemplate transaction;
+
+    private final int parallelism;
+
+    private final int maxAttempts;
+
+    private final int quotaReserve;
+
+    private final Duration retryBackoff;
+
+    private final Clock clock;
+
+    /**
+     * Runs crawls one after another.
+     */
+    private final ExecutorService coordinator;
+
+    /**
+     * Processes the slices of a wave.
+     */
+    private final ExecutorService workers;
+
+    /**
+     * Creates the service from application properties.
+     *
+     * @param gitHubApiClient    Client used for counting and fetching slices
+     * @param requestScheduler   Source of the current GitHub quota
+     * @param crawlRepository    Repository of crawls
+     * @param sliceRepository    Repository of crawl slices
+     * @param databaseLimiter    Bounds concurrent database use
+     * @param repositoryWriter   Write path the crawled repositories are upserted through
+     * @param transactionManager Transaction manager for checkpoint updates
+     * @param parallelism        Slices processed at the same time
+     * @param maxAttempts        Attempts before a failing slice is given up
+     * @param quotaReserve       GitHub requests per window left to interactive searches
+     * @param retryBackoff       Wait before the first retry of a failed slice
+     */
+    @Autowired
+    public CrawlServiceImpl(
+            GitHubApiClient gitHubApiClient,
+            GitHubRequestScheduler requestScheduler,
+            CrawlRepository crawlRepository,
+            CrawlSliceRepository sliceRepository,
+            DatabaseConcurrencyLimiter databaseLimiter,
+            RepositoryWriter repositoryWriter,
+            PlatformTransactionManager transactionManager,
+            @Value("${github.crawl.parallelism:4}") int parallelism,
+            @Value("${github.crawl.max-attempts:3}") int maxAttempts,
+            @Value("${github.crawl.quota-reserve:10}") int quotaReserve,
+            @Value("${github.crawl.retry-backoff:30s}") Duration retryBackoff
+    ) {
+        this(gitHubApiClient, requestScheduler, crawlRepository, sliceRepository,
+                databaseLimiter, repositoryWriter, new TransactionTemplate(transactionManager),
+                parallelism, maxAttempts, quotaReserve, retryBackoff, Clock.systemUTC());
+    }
+
+    CrawlServiceImpl(
+            GitHubApiClient gitHubApiClient,
+            GitHubRequestScheduler requestScheduler,
+            CrawlRepository crawlRepository,
+            CrawlSliceRepository sliceRepository,
+            DatabaseConcurrencyLimiter databaseLimiter,
+            RepositoryWriter repositoryWriter,
+            TransactionTemplate transaction,
+            int parallelism,
+            int maxAttempts,
+            int quotaReserve,
+            Duration retryBackoff,
+            Clock clock
+    ) {
+        this.gitHubApiClient = gitHubApiClient;
+        this.requestScheduler = requestScheduler;
+        this.crawlRepository = crawlRepository;
+        this.sliceRepository = sliceRepository;
+        this.databaseLimiter = databaseLimiter;
+        this.repositoryWriter = repositoryWriter;
+        this.transaction = transaction;
+        this.parallelism = Math.max(1, parallelism);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.quotaReserve = Math.max(0, quotaReserve);
+        this.retryBackoff = retryBackoff;
+        this.clock = clock;
+        this.coordinator = Executors.newSingleThreadExecutor(daemonThreads("crawl"));
+        this.workers = Executors.newFixedThreadPool(this.parallelism, daemonThreads("crawl-slice"));
+    }
+
+    @Override
+    public CrawlDto start(SearchRequestDto request) {
+
+        CrawlEntity crawl = databaseLimiter.call(() -> transaction.execute(status -> {
+
+            CrawlEntity created = crawlRepository.save(CrawlEntity.builder()
+                    .query(request.getQuery().trim())
+                    .language(request.getLanguage() != null && !request.getLanguage().isBlank()
+                            ? request.getLanguage().trim()
+                            : null)
+                    .status(CrawlEntity.Status.RUNNING)
+                    .startedAt(clock.instant())
+                    .build());
+
+            sliceRepository.save(pending(created.getId(), SearchPartition.all()));
+            return created;
+        }));
+
+        coordinator.submit(() -> run(crawl.getId()));
+        return databaseLimiter.call(() -> toDto(crawl));
+    }
+
+    @Override
+    public Optional<CrawlDto> get(Long id) {
+        return databaseLimiter.call(() -> crawlRepository.findById(id).map(this::toDto));
+    }
+
+    /**
+     * Continues crawls that were running when the application stopped.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedCrawls() {
+        List<CrawlEntity> running = databaseLimiter.call(() ->
+                crawlRepository.findByStatus(CrawlEntity.Status.RUNNING));
+
+        for (CrawlEntity crawl : running) {
+            log.info("Resuming crawl {} for '{}'", crawl.getId(), crawl.getQuery());
+            coordinator.submit(() -> run(crawl.getId()));
+        }
+    }
+
+    /**
+     * Processes the pending slices of a crawl wave by wave until none are left.
+     *
+     * @param crawlId Identifier of the crawl
+     */
+    void run(Long crawlId) {
+
+        CrawlEntity crawl = databaseLimiter.call(() -> crawlRepository.findById(crawlId)).orElse(null);
+        if (crawl == null || crawl.getStatus() != CrawlEntity.Status.RUNNING) {
+            return;
+        }
+
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+
+                int waveSize = waveSize();
+                if (waveSize == 0) {
+                    continue;
+                }
+
+                List<CrawlSliceEntity> wave = databaseLimiter.call(() ->
+                        sliceRepository.findDue(crawlId, clock.instant(), Limit.of(waveSize)));
+
+                if (wave.isEmpty()) {
+                    Optional<CrawlSliceEntity> backingOff = databaseLimiter.call(() ->
+                            sliceRepository.findFirstByCrawlIdAndStatusOrderByNextAttemptAtAsc(
+                                    crawlId, CrawlSliceEntity.Status.PENDING));
+                    if (backingOff.isEmpty()) {
+                        finish(crawlId);
+                        return;
+                    }
+                    awaitNextAttempt(backingOff.get());
+                    continue;
+                }
+
+                List<Callable<Void>> tasks = wave.stream()
+                        .<Callable<Void>>map(slice -> () -> {
+                            process(crawl, slice);
+                            return null;
+                        })
+                        .toList();
+
+                workers.invokeAll(tasks);
+            }
+        } catch (InterruptedException ex) {
+            // Shutting down; the crawl stays RUNNING and is resumed on the next start
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException ex) {
+            log.warn("Crawl {} failed", crawlId, ex);
+            finish(crawlId, CrawlEntity.Status.FAILED, ex.getMessage());
+        }
+    }
+
+    /**
+     * Processes one slice: splits it if it exceeds the result cap,
+     * otherwise fetches and stores its repositories.
+     *
+     * @param crawl Crawl the slice belongs to
+     * @param slice Pending slice
+     */
+    void process(CrawlEntity crawl, CrawlSliceEntity slice) {
+
+        SearchPartition partition = new SearchPartition(
+                slice.getMinStars(), slice.getMaxStars(), slice.getCreatedFrom(), slice.getCreatedTo());
+        String query = crawl.getQuery() + " " + partition.qualifiers();
+
+        try {
+            int totalCount = gitHubApiClient.countRepositories(query, crawl.getLanguage());
+            slice.setTotalCount(totalCount);
+
+            if (totalCount > SEARCH_RESULT_CAP) {
+                List<SearchPartition> halves = partition.split(crawl.getStartedAt());
+                if (!halves.isEmpty()) {
+                    databaseLimiter.run(() -> transaction.executeWithoutResult(status -> {
+                        halves.forEach(half -> sliceRepository.save(pending(crawl.getId(), half)));
+                        slice.setStatus(CrawlSliceEntity.Status.SPLIT);
+                        sliceRepository.save(slice);
+                    }));
+                    return;
+                }
+            }
+
+            RepositoryWriter.Stored stored = totalCount > 0 ? fetchAndSave(query, crawl.getLanguage()) : null;
+            int fetched = stored != null ? stored.repositories().size() : 0;
+            int saved = stored != null ? stored.written().written() : 0;
+
+            slice.setFetched(fetched);
+            slice.setStatus(totalCount > SEARCH_RESULT_CAP
+                    ? CrawlSliceEntity.Status.TRUNCATED
+                    : CrawlSliceEntity.Status.DONE);
+            slice.setNextAttemptAt(null);
+            databaseLimiter.run(() -> transaction.executeWithoutResult(status -> {
+                sliceRepository.save(slice);
+                crawlRepository.addSaved(crawl.getId(), saved);
+            }));
+
+        } catch (GitHubRateLimitException ex) {
+            log.debug("Crawl slice '{}' hit the rate limit", query, ex);
+            slice.setLastError(truncate(ex.getMessage()));
+            slice.setNextAttemptAt(rateLimitReset(ex));
+            databaseLimiter.call(() -> sliceRepository.save(slice));
+        } catch (RuntimeException ex) {
+            log.debug("Crawl slice '{}' failed", query, ex);
+            slice.setAttempts(slice.getAttempts() + 1);
+            slice.setLastError(truncate(ex.getMessage()));
+            if (slice.getAttempts() >= maxAttempts) {
+                slice.setStatus(CrawlSliceEntity.Status.FAILED);
+            } else {
+                slice.setNextAttemptAt(clock.instant().plus(
+                        retryBackoff.multipliedBy(1L << Math.min(slice.getAttempts() - 1, 16))));
+            }
+            databaseLimiter.call(() -> sliceRepository.save(slice));
+        }
+    }
+
+    /**
+     * Works out when a slice that hit the rate limit may be retried:
+     * after the wait GitHub or the scheduler reported, else at the
+     * reset of the current window, else after the retry backoff.
+     */
+    private Instant rateLimitReset(GitHubRateLimitException ex) {
+
+        Instant now = clock.instant();
+
+        if (ex.getRetryAfter() != null) {
+            return now.plus(ex.getRetryAfter());
+        }
+
+        QuotaSnapshot quota = requestScheduler.quota();
+        if (quota.known() && quota.resetAtMs() > now.toEpochMilli()) {
+            return Instant.ofEpochMilli(quota.resetAtMs());
+        }
+
+        return now.plus(retryBackoff);
+    }
+
+    /**
+     * Sleeps until the earliest pending slice may be retried.
+     */
+    private void awaitNextAttempt(CrawlSliceEntity slice) throws InterruptedException {
+        long wait = slice.getNextAttemptAt() != null
+                ? slice.getNextAttemptAt().toEpochMilli() - clock.millis()
+                : 0;
+        Thread.sleep(Math.max(1_000, wait));
+    }
+
+    /**
+     * Fetches every page of a slice and upserts the repositories.
+     *
+     * @return repositories received and rows written
+     */
+    private RepositoryWriter.Stored fetchAndSave(String query, String language) {
+
+        GitHubSearchResponseDto response = gitHubApiClient.searchAllRepositories(query, language, null);
+
+        return repositoryWriter.save(response != null ? response.getItems() : null);
+    }
+
+    /**
+     * Works out how many slices the next wave may start without eating
+     * into the reserve, assuming every slice costs {@link #SLICE_COST}
+     * requests. Waits for the rate limit reset when none may.
+     *
+     * @return slices to start, or 0 after waiting
+     */
+    int waveSize() throws InterruptedException {
+
+        QuotaSnapshot quota = requestScheduler.quota();
+
+        if (!quota.known()) {
+            return parallelism;
+        }
+
+        int affordable = (quota.remaining() - quotaReserve) / SLICE_COST;
+        if (affordable > 0) {
+            return Math.min(parallelism, affordable);
+        }
+
+        Thread.sleep(Math.max(1_000, quota.resetAtMs() - clock.millis()));
+        return 0;
+    }
+
+    /**
+     * Finishes a crawl without pending slices: {@code COMPLETED}, or
+     * {@code FAILED} if slices were given up.
+     */
+    private void finish(Long crawlId) {
+
+        long failed = databaseLimiter.call(() ->
+                sliceRepository.countByCrawlIdAndStatus(crawlId, CrawlSliceEntity.Status.FAILED));
+
+        if (failed > 0) {
+            finish(crawlId, CrawlEntity.Status.FAILED,
+                    failed + " slice(s) failed after " + maxAttempts + " attempts");
+        } else {
+            finish(crawlId, CrawlEntity.Status.COMPLETED, null);
+        }
+    }
+
+    private void finish(Long crawlId, CrawlEntity.Status status, String error) {
+        databaseLimiter.run(() -> crawlRepository.findById(crawlId).ifPresent(crawl -> {
+            crawl.setStatus(status);
+            crawl.setFinishedAt(clock.instant());
+            crawl.setLastError(truncate(error));
+            crawlRepository.save(crawl);
+        }));
+    }
+
+    private static CrawlSliceEntity pending(Long crawlId, SearchPartition partition) {
+        return CrawlSliceEntity.builder()
+                .crawlId(crawlId)
+                .minStars(partition.minStars())
+                .maxStars(partition.maxStars())
+                .createdFrom(partition.createdFrom())
+                .createdTo(partition.createdTo())
+                .status(CrawlSliceEntity.Status.PENDING)
+                .build();
+    }
+
+    private CrawlDto toDto(CrawlEntity crawl) {
+        return CrawlDto.builder()
+                .id(crawl.getId())
+                .query(crawl.getQuery())
+                .language(crawl.getLanguage())
+                .status(crawl.getStatus().name())
+                .startedAt(crawl.getStartedAt())
+                .finishedAt(crawl.getFinishedAt())
+                .repositoriesSaved(crawl.getRepositoriesSaved())
+                .slicesPending(count(crawl, CrawlSliceEntity.Status.PENDING))
+                .slicesDone(count(crawl, CrawlSliceEntity.Status.DONE))
+                .slicesTruncated(count(crawl, CrawlSliceEntity.Status.TRUNCATED))
+                .slicesFailed(count(crawl, CrawlSliceEntity.Status.FAILED))
+                .lastError(crawl.getLastError())
+                .build();
+    }
+
+    private long count(CrawlEntity crawl, CrawlSliceEntity.Status status) {
+        return sliceRepository.countByCrawlIdAndStatus(crawl.getId(), status);
+    }
+
+    private static String truncate(String message) {
+        return message != null && message.length() > MAX_ERROR_LENGTH
+                ? message.substring(0, MAX_ERROR_LENGTH)
+                : message;
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger threads = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @PreDestroy
+    void shutdown() {
+        coordinator.shutdownNow();
+        workers.shutdownNow();
+    }
+}
@@ -1,22 +1,53 @@
 package com.example.githubsearcher.service.impl;
 
+import com.example.githubsearcher.cache.RepositoryReadModel;
+import com.example.githubsearcher.cache.SearchCacheKey;
+import com.example.githubsearcher.cache.SearchDemand;
+import com.example.githubsearcher.cache.SearchResultCache;
+import com.example.githubsearcher.cache.SingleFlight;
 import com.example.githubsearcher.client.GitHubApiClient;
+import com.example.githubsearcher.dto.BatchSearchResponseDto;
+import com.example.githubsearcher.dto.BatchSearchResultDto;
+import com.example.githubsearcher.dto.CacheStatsDto;
+import com.example.githubsearcher.dto.RepositoryPageDto;
 import com.example.githubsearcher.dto.RepositoryResponseDto;
 import com.example.githubsearcher.dto.SearchRequestDto;
 import com.example.githubsearcher.dto.SearchResponseDto;
+import com.example.githubsearcher.dto.github.GitHubRepositoryDto;
 import com.example.githubsearcher.dto.github.GitHubSearchResponseDto;
 import com.example.githubsearcher.entity.RepositoryEntity;
-import com.example.githubsearcher.mapper.RepositoryMapper;
+import com.example.githubsearcher.exception.DatabaseBusyException;
+import com.example.githubsearcher.exception.GitHubApiException;
+import com.example.githubsearcher.exception.GitHubRateLimitException;
+import com.example.githubsearcher.repository.DatabaseConcurrencyLimiter;
 import com.example.githubsearcher.repository.RepositoryEntityRepository;
+import com.example.githubsearcher.repository.specification.RepositoryCursor;
 import com.example.githubsearcher.repository.specification.RepositorySpecification;
 import com.example.githubsearcher.service.GitHubService;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * Implementation of {@link GitHubService}.
@@ -25,10 +56,12 @@ import java.util.List;
  * This class contains the core business logic of the application.
  * Responsibilities include:
  * <ul>
+ *     <li>Answering repeated searches from {@link SearchResultCache}</li>
+ *     <li>Coalescing concurrent identical requests via {@link SingleFlight}</li>
  *     <li>Calling GitHub API via {@link GitHubApiClient}</li>
  *     <li>Mapping external DTOs to internal entities</li>
  *     <li>Persisting repositories in the database</li>
- *     <li>Retrieving repositories with dynamic filtering and sorting</li>
+ *     <li>Retrieving repositories with dynamic filtering, sorting and keyset pagination</li>
  * </ul>
  * </p>
  *
@@ -51,96 +84,806 @@ public class GitHubServiceImpl implements GitHubService {
      */
     private final RepositoryEntityRepository repository;
 
+    /**
+     * Bounds concurrent database use to the size of the connection pool.
+     */
+    private final DatabaseConcurrencyLimiter databaseLimiter;
+
+    /**
+     * Cache of recent search results, keyed by the normalized request.
+     */
+    private final SearchResultCache searchResultCache;
+
+    /**
+     * Optional in-memory copy of the stored repositories for reads.
+     */
+    private final RepositoryReadModel readModel;
+
+    /**
+     * Bounded scheduler running the blocking database write of reactive searches.
+     */
+    private final Scheduler persistenceScheduler;
+
+    /**
+     * Request counts per search, used to rank tracked searches.
+     */
+    private final SearchDemand searchDemand;
+
+    /**
+     * Write path shared with search jobs and crawls.
+     */
+    private final RepositoryWriter repositoryWriter;
+
+    /**
+     * In-flight searches, so concurrent identical searches share one
+     * GitHub call and one database write.
+     */
+    private final SingleFlight<SearchCacheKey, SearchResponseDto> searchFlights = new SingleFlight<>();
+
+    /**
+     * In-flight reads of stored repositories, so concurrent identical
+     * reads share one database query.
+     */
+    private final SingleFlight<StoredRepositoriesKey, RepositoryPageDto> readFlights =
+            new SingleFlight<>();
+
+    /**
+     * Page size of {@code GET /api/github/repositories} when no limit is given.
+     */
+    @Value("${github.repositories.default-page-size:100}")
+    private int defaultPageSize;
+
+    /**
+     * Upper bound for the page size of {@code GET /api/github/repositories}.
+     */
+    @Value("${github.repositories.max-page-size:1000}")
+    private int maxPageSize;
+
+    /**
+     * Streamed repositories written per upsert by the reactive search.
+     */
+    @Value("${github.search.stream-batch-size:50}")
+    private int streamBatchSize;
+
+    /**
+     * Searches of a batch that call GitHub at the same time.
+     */
+    @Value("${github.search.batch.concurrency:8}")
+    private int batchConcurrency;
+
     /**
      * Searches repositories using the GitHub API and stores them in the database.
      *
      * <p>
      * Flow:
      * <ol>
-     *     <li>Call GitHub API</li>
+     *     <li>Return the cached result if the same search was served recently</li>
+     *     <li>Join an identical search that is already in flight</li>
+     *     <li>Call GitHub API (first page, or all pages if requested)</li>
      *     <li>Convert API DTOs to Entities</li>
-     *     <li>Bulk save (UPSERT behavior via saveAll)</li>
-     *     <li>Return mapped response DTOs</li>
+     *     <li>Bulk UPSERT via multi-row {@code INSERT ... ON CONFLICT}</li>
+     *     <li>Return mapped response DTOs and cache them</li>
      * </ol>
      * </p>
      *
      * <p>
-     * Annotated with {@link Transactional} to ensure atomic database operation.
+     * The method itself is not transactional: callers waiting on an
+     * in-flight search must not hold a database connection. The bulk
+     * upsert runs in its own transaction, which keeps the write atomic.
      * </p>
      *
      * @param request Search criteria (query, language, sort)
      * @return SearchResponseDto containing saved repositories
      */
     @Override
-    @Transactional
     public SearchResponseDto searchAndSaveRepositories(SearchRequestDto request) {
 
-        GitHubSearchResponseDto response =
-                gitHubApiClient.searchRepositories(
+        SearchCacheKey cacheKey = SearchCacheKey.of(request);
+        searchDemand.record(cacheKey);
+
+        SearchResponseDto cached = searchResultCache.get(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+
+        return searchFlights.execute(cacheKey, () -> {
+
+            // A flight may have completed between the cache lookup and this one
+            SearchResponseDto completed = searchResultCache.peek(cacheKey);
+            if (completed != null) {
+                return completed;
+            }
+
+            SearchResponseDto result = fetchAndSave(request);
+            searchResultCache.put(cacheKey, result);
+
+            return result;
+        });
+    }
+
+    /**
+     * Searches repositories using the GitHub API and stores them in the
+     * database without blocking the calling thread.
+     *
+     * <p>
+     * Same flow as {@link #searchAndSaveRepositories(SearchRequestDto)}:
+     * the GitHub call is subscribed to instead of blocked on, and the
+     * bulk upsert is moved to {@code persistenceScheduler}, so waiting
+     * for GitHub or for a database connection holds no request thread.
+     * </p>
+     *
+     * <p>
+     * A single-page search is streamed: repositories are parsed while the
+     * page downloads and written in batches of
+     * {@code github.search.stream-batch-size}, each batch in its own
+     * upsert, so the first write does not wait for the last byte.
+     * </p>
+     *
+     * <p>
+     * Nothing happens until the Mono is subscribed to; every subscription
+     * is a search of its own (demand, cache lookup, GitHub call).
+     * </p>
+     *
+     * @param request Search criteria (query, language, sort)
+     * @return Mono emitting the saved repositories
+     */
+    @Override
+    public Mono<SearchResponseDto> searchAndSaveRepositoriesReactive(SearchRequestDto request) {
+
+        SearchCacheKey cacheKey = SearchCacheKey.of(request);
+
+        // Demand and cache lookup count per subscription, not per assembly
+        return Mono.defer(() -> {
+
+            searchDemand.record(cacheKey);
+
+            SearchResponseDto cached = searchResultCache.get(cacheKey);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+
+            return searchFlights.executeReactive(cacheKey, () -> {
+
+                SearchResponseDto completed = searchResultCache.peek(cacheKey);
+                if (completed != null) {
+                    return Mono.just(completed);
+                }
+
+                Mono<SearchResponseDto> result = Boolean.TRUE.equals(request.getFetchAllPages())
+                        ? search(request).publishOn(persistenceScheduler).map(this::save)
+                        : streamAndSave(request);
+
+                return result
+                        .defaultIfEmpty(noRepositoriesFound())
+                        .doOnNext(saved -> searchResultCache.put(cacheKey, saved));
+            });
+        });
+    }
+
+    /**
+     * Runs a batch of searches and stores all repositories at once.
+     *
+     * <p>
+     * Flow:
+     * <ol>
+     *     <li>Collapse identical searches (same {@link SearchCacheKey})</li>
+     *     <li>Answer cached searches from {@link SearchResultCache}</li>
+     *     <li>Join searches already in flight (single or batch) instead of
+     *         calling GitHub again; the others are claimed in
+     *         {@link SingleFlight}, so identical searches arriving meanwhile
+     *         wait for this batch</li>
+     *     <li>Call GitHub for the claimed searches concurrently, at most
+     *         {@code github.search.batch.concurrency} at a time; the calls
+     *         share the rate limit pacing of the client</li>
+     *     <li>Merge the fetched repositories by id, keeping the newest copy</li>
+     *     <li>Store them through the same write path as single searches,
+     *         with a single bulk UPSERT</li>
+     *     <li>Cache the result of each claimed search and hand it to the
+     *         callers that joined it</li>
+     *     <li>Return per-search id lists plus every repository once</li>
+     * </ol>
+     * </p>
+     *
+     * <p>
+     * The bulk write is not split per search, so a per-search result
+     * cached by a batch reports no inserted, updated or skipped rows.
+     * Joined searches are waited for only after the claimed ones are
+     * stored, so two batches joining each other's searches cannot
+     * wait on each other.
+     * </p>
+     *
+     * @param requests Searches to run
+     * @return per-search results referencing the distinct stored repositories
+     */
+    @Override
+    public BatchSearchResponseDto searchAndSaveBatch(List<SearchRequestDto> requests) {
+
+        Map<SearchCacheKey, SearchRequestDto> unique = new LinkedHashMap<>();
+        for (SearchRequestDto request : requests) {
+            SearchCacheKey cacheKey = SearchCacheKey.of(request);
+            searchDemand.record(cacheKey);
+            unique.putIfAbsent(cacheKey, request);
+        }
+
+        Map<SearchCacheKey, BatchOutcome> outcomes = new HashMap<>();
+        Map<SearchCacheKey, CompletableFuture<SearchResponseDto>> joined = new LinkedHashMap<>();
+        Map<SearchCacheKey, SearchRequestDto> claimed = new LinkedHashMap<>();
+
+        for (Map.Entry<SearchCacheKey, SearchRequestDto> entry : unique.entrySet()) {
+
+            SearchCacheKey cacheKey = entry.getKey();
+
+            SearchResponseDto cached = searchResultCache.get(cacheKey);
+            if (cached != null) {
+                outcomes.put(cacheKey, BatchOutcome.stored(cacheKey, cached));
+                continue;
+            }
+
+            CompletableFuture<SearchResponseDto> inFlight = searchFlights.claim(cacheKey);
+            if (inFlight != null) {
+                joined.put(cacheKey, inFlight);
+                continue;
+            }
+
+            // A flight may have completed between the cache lookup and the claim
+            SearchResponseDto completed = searchResultCache.peek(cacheKey);
+            if (completed != null) {
+                searchFlights.complete(cacheKey, completed);
+                outcomes.put(cacheKey, BatchOutcome.stored(cacheKey, completed));
+                continue;
+            }
+
+            claimed.put(cacheKey, entry.getValue());
+        }
+
+        SearchResponseDto saved;
+        Map<Long, RepositoryResponseDto> rows = new LinkedHashMap<>();
+
+        // Claimed searches not handed over yet; failed with the batch if it fails
+        Set<SearchCacheKey> open = new HashSet<>(claimed.keySet());
+
+        try {
+            outcomes.putAll(Flux.fromIterable(claimed.entrySet())
+                    .flatMap(entry -> fetchForBatch(entry.getKey(), entry.getValue()),
+                            Math.max(1, batchConcurrency))
+                    .collectMap(BatchOutcome::key)
+                    .block());
+
+            // One copy per repository id, the most recently updated one wins
+            Map<Long, GitHubRepositoryDto> fetched = new LinkedHashMap<>();
+            for (SearchCacheKey cacheKey : claimed.keySet()) {
+                for (GitHubRepositoryDto item : outcomes.get(cacheKey).fetched()) {
+                    if (item != null && item.getId() != null) {
+                        fetched.merge(item.getId(), item, GitHubServiceImpl::newer);
+                    }
+                }
+            }
+
+            saved = save(new GitHubSearchResponseDto(new ArrayList<>(fetched.values()), fetched.size()));
+
+            for (RepositoryResponseDto row : saved.getRepositories()) {
+                rows.put(row.getId(), row);
+            }
+
+            for (SearchCacheKey cacheKey : claimed.keySet()) {
+                open.remove(cacheKey);
+                BatchOutcome outcome = outcomes.get(cacheKey);
+                if (outcome.failure() != null) {
+                    searchFlights.fail(cacheKey, outcome.failure());
+                } else {
+                    SearchResponseDto result = searchResult(outcome.fetched(), rows);
+                    searchResultCache.put(cacheKey, result);
+                    searchFlights.complete(cacheKey, result);
+                }
+            }
+        } catch (RuntimeException | Error ex) {
+            open.forEach(cacheKey -> searchFlights.fail(cacheKey, ex));
+            throw ex;
+        }
+
+        joined.forEach((cacheKey, inFlight) -> outcomes.put(cacheKey, join(cacheKey, inFlight)));
+
+        for (SearchCacheKey cacheKey : unique.keySet()) {
+            SearchResponseDto stored = outcomes.get(cacheKey).stored();
+            if (stored != null) {
+                stored.getRepositories().forEach(row -> rows.putIfAbsent(row.getId(), row));
+            }
+        }
+
+        List<BatchSearchResultDto> results = requests.stream()
+                .map(request -> toBatchResult(request, outcomes.get(SearchCacheKey.of(request))))
+                .toList();
+
+        return BatchSearchResponseDto.builder()
+                .results(results)
+                .repositories(new ArrayList<>(rows.values()))
+                .inserted(saved.getInserted())
+                .updated(saved.getUpdated())
+                .skipped(saved.getSkipped())
+                .build();
+    }
+
+    /**
+     * Fetches one claimed search of a batch from GitHub, without storing it.
+     * Failures are captured in the outcome.
+     */
+    private Mono<BatchOutcome> fetchForBatch(SearchCacheKey cacheKey, SearchRequestDto request) {
+        return search(request)
+                .map(response -> BatchOutcome.fetched(cacheKey,
+                        response.getItems() != null ? response.getItems() : List.of()))
+                .defaultIfEmpty(BatchOutcome.fetched(cacheKey, List.of()))
+                .onErrorResume(ex -> Mono.just(BatchOutcome.failed(cacheKey, ex)));
+    }
+
+    /**
+     * Waits for a search of a batch that joined an execution in flight.
+     * Failures are captured in the outcome.
+     */
+    private static BatchOutcome join(SearchCacheKey cacheKey, CompletableFuture<SearchResponseDto> inFlight) {
+        try {
+            return BatchOutcome.stored(cacheKey, inFlight.join());
+        } catch (CompletionException | CancellationException ex) {
+            return BatchOutcome.failed(cacheKey, ex.getCause() != null ? ex.getCause() : ex);
+        }
+    }
+
+    /**
+     * Builds the result of one claimed search of a batch from the stored rows.
+     */
+    private static SearchResponseDto searchResult(
+            List<GitHubRepositoryDto> fetched, Map<Long, RepositoryResponseDto> rows) {
+
+        LinkedHashSet<Long> ids = ids(fetched);
+        if (ids.isEmpty()) {
+            return noRepositoriesFound();
+        }
+
+        return SearchResponseDto.builder()
+                .message("Repositories fetched and saved successfully")
+                .repositories(ids.stream().map(rows::get).filter(Objects::nonNull).toList())
+                .inserted(0)
+                .updated(0)
+                .skipped(0)
+                .build();
+    }
+
+    private static BatchSearchResultDto toBatchResult(SearchRequestDto request, BatchOutcome outcome) {
+
+        LinkedHashSet<Long> ids = ids(outcome.fetched());
+        if (outcome.stored() != null) {
+            outcome.stored().getRepositories().forEach(row -> ids.add(row.getId()));
+        }
+
+        Throwable failure = outcome.failure();
+
+        String message = failure != null
+                ? "Search failed"
+                : ids.isEmpty() ? "No repositories found" : "Repositories fetched and saved successfully";
+
+        return BatchSearchResultDto.builder()
+                .query(request.getQuery())
+                .language(request.getLanguage())
+                .sort(request.getSort())
+                .message(message)
+                .repositoryIds(new ArrayList<>(ids))
+                .error(failure == null ? null
+                        : failure.getMessage() != null ? failure.getMessage() : failure.getClass().getSimpleName())
+                .status(failure == null ? null : errorStatus(failure).value())
+                .build();
+    }
+
+    private static LinkedHashSet<Long> ids(List<GitHubRepositoryDto> items) {
+        LinkedHashSet<Long> ids = new LinkedHashSet<>();
+        items.stream()
+                .filter(item -> item != null && item.getId() != null)
+                .forEach(item -> ids.add(item.getId()));
+        return ids;
+    }
+
+    /**
+     * @return the status {@code GlobalExceptionHandler} would answer the
+     * failure of a single search with
+     */
+    private static HttpStatus errorStatus(Throwable failure) {
+        if (failure instanceof GitHubRateLimitException) {
+            return HttpStatus.TOO_MANY_REQUESTS;
+        }
+        if (failure instanceof GitHubApiException) {
+            return HttpStatus.BAD_GATEWAY;
+        }
+        if (failure instanceof DatabaseBusyException) {
+            return HttpStatus.SERVICE_UNAVAILABLE;
+        }
+        return HttpStatus.INTERNAL_SERVER_ERROR;
+    }
+
+    private static GitHubRepositoryDto newer(GitHubRepositoryDto first, GitHubRepositoryDto second) {
+        if (first.getUpdatedAt() == null) {
+            return second;
+        }
+        return second.getUpdatedAt() != null && second.getUpdatedAt().isAfter(first.getUpdatedAt())
+                ? second
+                : first;
+    }
+
+    /**
+     * Fetches a search from GitHub and stores it, ignoring the result cache.
+     *
+     * <p>
+     * Used by the background refresh of tracked searches. Not counted as demand.
+     * <ul>
+     *     <li>Full refresh (no mark): joins an identical search that is
+     *         already in flight and replaces the cached result, so
+     *         following interactive searches see the fresh data</li>
+     *     <li>Incremental refresh: only repositories pushed after the mark
+     *         are fetched. The partial result is neither shared nor cached;
+     *         the cached full result is dropped instead, as it is outdated</li>
+     * </ul>
+     * </p>
+     *
+     * <p>
+     * The high-water mark is the newest {@code updated_at} of the fetched
+     * repositories; it is never later than the fetch itself. An incremental
+     * result that was cut off (fewer items than {@code total_count}, routine
+     * for a first-page search with more than one page of changes) returns no
+     * mark: keeping the old one would fetch the same first page of changes
+     * on every refresh, and moving it would skip the changes not returned.
+     * The next refresh is a full one instead.
+     * </p>
+     *
+     * @param request     Search criteria (query, language, sort)
+     * @param pushedAfter High-water mark of the previous refresh, or null for a full refresh
+     * @return saved repositories and the next high-water mark
+     */
+    @Override
+    public RefreshResult refreshRepositories(SearchRequestDto request, Instant pushedAfter) {
+
+        SearchCacheKey cacheKey = SearchCacheKey.of(request);
+
+        if (pushedAfter == null) {
+            SearchResponseDto result = searchFlights.execute(cacheKey, () -> {
+                SearchResponseDto saved = fetchAndSave(request);
+                searchResultCache.put(cacheKey, saved);
+                return saved;
+            });
+            return new RefreshResult(result, latestUpdate(result.getRepositories(), null));
+        }
+
+        GitHubSearchResponseDto response = Boolean.TRUE.equals(request.getFetchAllPages())
+                ? gitHubApiClient.searchAllRepositories(
                         request.getQuery(),
                         request.getLanguage(),
-                        request.getSort()
+                        request.getSort(),
+                        pushedAfter
+                )
+                : gitHubApiClient.searchRepositories(
+                        request.getQuery(),
+                        request.getLanguage(),
+                        request.getSort(),
+                        pushedAfter
                 );
 
-        if (response == null || response.getItems() == null || response.getItems().isEmpty()) {
-            return SearchResponseDto.builder()
-                    .message("No repositories found")
-                    .repositories(List.of())
-                    .build();
+        SearchResponseDto result = save(response);
+        searchResultCache.invalidate(cacheKey);
+
+        boolean complete = response == null
+                || response.getTotalCount() == null
+                || response.getItems() == null
+                || response.getTotalCount() <= response.getItems().size();
+
+        return new RefreshResult(result,
+                complete ? latestUpdate(result.getRepositories(), pushedAfter) : null);
+    }
+
+    /**
+     * @return the newest {@code lastUpdated} of the repositories, but not older than {@code floor}
+     */
+    private static Instant latestUpdate(List<RepositoryResponseDto> repositories, Instant floor) {
+
+        Instant latest = floor;
+
+        for (RepositoryResponseDto repository : repositories) {
+            Instant updated = repository.getLastUpdated();
+            if (updated != null && (latest == null || updated.isAfter(latest))) {
+                latest = updated;
+            }
         }
 
-        // Convert GitHub DTO → Entity
-        List<RepositoryEntity> entities =
-                RepositoryMapper.toEntityList(response.getItems());
+        return latest;
+    }
 
-        // Bulk UPSERT (insert or update existing by primary key)
-        repository.saveAll(entities);
+    /**
+     * Streams the first result page from GitHub and upserts it batch by batch.
+     *
+     * @param request Search criteria (query, language, sort)
+     * @return Mono emitting the combined result of all batches, or empty if nothing was found
+     */
+    private Mono<SearchResponseDto> streamAndSave(SearchRequestDto request) {
+        return gitHubApiClient.streamRepositories(
+                        request.getQuery(),
+                        request.getLanguage(),
+                        request.getSort()
+                )
+                .buffer(Math.max(1, streamBatchSize))
+                .concatMap(batch -> Mono.fromCallable(() -> save(new GitHubSearchResponseDto(batch)))
+                        .subscribeOn(persistenceScheduler))
+                .reduce(GitHubServiceImpl::combine);
+    }
 
-        // Convert to Response DTO
-        List<RepositoryResponseDto> result =
-                RepositoryMapper.toResponseDtoList(entities);
+    /**
+     * Merges the results of two saved batches.
+     */
+    private static SearchResponseDto combine(SearchResponseDto first, SearchResponseDto second) {
+
+        List<RepositoryResponseDto> repositories = new ArrayList<>(first.getRepositories());
+        repositories.addAll(second.getRepositories());
+
+        return SearchResponseDto.builder()
+                .message(first.getMessage())
+                .repositories(repositories)
+                .inserted(first.getInserted() + second.getInserted())
+                .updated(first.getUpdated() + second.getUpdated())
+                .skipped(first.getSkipped() + second.getSkipped())
+                .build();
+    }
+
+    /**
+     * Calls the GitHub API and persists the returned repositories.
+     *
+     * @param request Search criteria (query, language, sort)
+     * @return SearchResponseDto containing saved repositories
+     */
+    private SearchResponseDto fetchAndSave(SearchRequestDto request) {
+
+        GitHubSearchResponseDto response = Boolean.TRUE.equals(request.getFetchAllPages())
+                ? gitHubApiClient.searchAllRepositories(
+                        request.getQuery(),
+                        request.getLanguage(),
+                        request.getSort()
+                )
+                : gitHubApiClient.searchRepositories(
+                        request.getQuery(),
+                        request.getLanguage(),
+                        request.getSort()
+                );
+
+        return save(response);
+    }
+
+    /**
+     * Calls the GitHub API (first page, or all pages if requested) without blocking.
+     *
+     * @param request Search criteria (query, language, sort)
+     * @return Mono emitting the GitHub response
+     */
+    private Mono<GitHubSearchResponseDto> search(SearchRequestDto request) {
+        return Boolean.TRUE.equals(request.getFetchAllPages())
+                ? gitHubApiClient.searchAllRepositoriesReactive(
+                        request.getQuery(),
+                        request.getLanguage(),
+                        request.getSort()
+                )
+                : gitHubApiClient.searchRepositoriesReactive(
+                        request.getQuery(),
+                        request.getLanguage(),
+                        request.getSort()
+                );
+    }
+
+    /**
+     * Persists the repositories of a GitHub response and builds the
+     * search response. Blocks on the database.
+     *
+     * @param response GitHub response (may be null)
+     * @return SearchResponseDto containing saved repositories
+     */
+    private SearchResponseDto save(GitHubSearchResponseDto response) {
+
+        if (response == null || response.getItems() == null || response.getItems().isEmpty()) {
+            return noRepositoriesFound();
+        }
+
+        RepositoryWriter.Stored stored = repositoryWriter.save(response.getItems());
 
         return SearchResponseDto.builder()
                 .message("Repositories fetched and saved successfully")
-                .repositories(result)
+                .repositories(stored.repositories())
+                .inserted(stored.written().inserted())
+                .updated(stored.written().updated())
+                .skipped(stored.written().skipped())
+                .build();
+    }
+
+    private static SearchResponseDto noRepositoriesFound() {
+        return SearchResponseDto.builder()
+                .message("No repositories found")
+                .repositories(List.of())
+                .inserted(0)
+                .updated(0)
+                .skipped(0)
                 .build();
     }
 
     /**
-     * Retrieves stored repositories from the database
+     * Retrieves one page of stored repositories from the database
      * with optional filtering and sorting.
      *
      * <p>
-     * Filtering is implemented using JPA Specifications.
-     * Sorting is built dynamically based on input parameter.
+     * If the {@link RepositoryReadModel} is loaded, the page is served
+     * from memory. Otherwise filtering is implemented using JPA
+     * Specifications and rows are selected straight into
+     * {@link RepositoryResponseDto} projections in a read-only
+     * transaction, without loading entities.
+     * Pages are read with keyset pagination: rows are ordered by
+     * {@code (sortKey, id)} and the cursor adds a seek predicate after
+     * the last row of the previous page, so deep pages cost the same
+     * as the first one. One extra row is read to detect whether a
+     * next page exists. Concurrent identical reads share a single query.
      * </p>
      *
      * @param language Optional programming language filter
      * @param minStars Optional minimum star filter
      * @param sort     Sorting field (stars, forks, updated)
-     * @return List of RepositoryResponseDto
+     * @param cursor   Cursor of the page to read, or null for the first page
+     * @param limit    Maximum number of repositories per page
+     * @return RepositoryPageDto with the page and the next cursor
      */
     @Override
-    public List<RepositoryResponseDto> getStoredRepositories(
+    public RepositoryPageDto getStoredRepositories(
+            String language,
+            Integer minStars,
+            String sort,
+            String cursor,
+            Integer limit
+    ) {
+        String sortKey = sortKey(sort);
+        int pageSize = pageSize(limit);
+
+        return readFlights.execute(
+                new StoredRepositoriesKey(language, minStars, sortKey, cursor, pageSize),
+                () -> findStoredRepositories(language, minStars, sortKey, cursor, pageSize)
+        );
+    }
+
+    /**
+     * Queries one page of stored repositories with the given filters and sort order.
+     *
+     * @param language Optional programming language filter
+     * @param minStars Optional minimum star filter
+     * @param sortKey  Normalized sort key (stars, forks, updated)
+     * @param cursor   Cursor of the page to read, or null for the first page
+     * @param pageSize Maximum number of repositories per page
+     * @return RepositoryPageDto with the page and the next cursor
+     */
+    private RepositoryPageDto findStoredRepositories(
             String language,
             Integer minStars,
-            String sort
+            String sortKey,
+            String cursor,
+            int pageSize
+    ) {
+
+        RepositoryCursor position = cursor != null && !cursor.isBlank()
+                ? RepositoryCursor.decode(cursor, sortKey)
+                : null;
+
+        List<RepositoryResponseDto> rows = readModel.isReady()
+                ? readModel.find(language, minStars, sortKey, position, pageSize + 1)
+                : queryStoredRepositories(language, minStars, sortKey, position, pageSize + 1);
+
+        String nextCursor = null;
+
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            nextCursor = RepositoryCursor.after(sortKey, rows.get(pageSize - 1)).encode();
+        }
+
+        return RepositoryPageDto.builder()
+                .repositories(rows)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * Reads stored repositories from the database.
+     *
+     * @param language Optional programming language filter
+     * @param minStars Optional minimum star filter
+     * @param sortKey  Normalized sort key (stars, forks, updated)
+     * @param position Position to continue after, or null for the first page
+     * @param limit    Maximum number of rows
+     * @return matching repositories in sort order
+     */
+    private List<RepositoryResponseDto> queryStoredRepositories(
+            String language,
+            Integer minStars,
+            String sortKey,
+            RepositoryCursor position,
+            int limit
     ) {
 
         Specification<RepositoryEntity> spec = Specification
                 .where(RepositorySpecification.hasLanguage(language))
                 .and(RepositorySpecification.hasMinStars(minStars));
 
-        Sort sortOrder = buildSort(sort);
+        if (position != null) {
+            spec = spec.and(position.seek(sortField(sortKey)));
+        }
+
+        Specification<RepositoryEntity> query = spec;
+        return databaseLimiter.call(() -> repository.findProjected(query, buildSort(sortKey), limit));
+    }
+
+    /**
+     * Searches stored repositories by keyword.
+     *
+     * <p>
+     * Ranked results have no stable keyset, so pages are addressed by
+     * offset. The offset is wrapped in an opaque cursor like the one of
+     * {@link #getStoredRepositories}. A blank search text matches nothing.
+     * </p>
+     *
+     * @param text     Search text
+     * @param language Optional language filter
+     * @param minStars Optional minimum star filter
+     * @param cursor   Cursor of the page to read, or null for the first page
+     * @param limit    Maximum number of repositories per page
+     * @return RepositoryPageDto with the page and the next cursor
+     */
+    @Override
+    public RepositoryPageDto searchStoredRepositories(
+            String text,
+            String language,
+            Integer minStars,
+            String cursor,
+            Integer limit
+    ) {
+        if (text == null || text.isBlank()) {
+            return RepositoryPageDto.builder().repositories(List.of()).build();
+        }
+
+        int pageSize = pageSize(limit);
+        long offset = cursor != null && !cursor.isBlank()
+                ? RepositoryCursor.decode(cursor, RepositoryCursor.RELEVANCE).offset()
+                : 0;
+
+        List<RepositoryResponseDto> rows = databaseLimiter.call(() ->
+                repository.searchText(text.trim(), language, minStars, pageSize + 1, offset));
+
+        String nextCursor = null;
+
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            nextCursor = RepositoryCursor.atOffset(offset + pageSize).encode();
+        }
+
+        return RepositoryPageDto.builder()
+                .repositories(rows)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * Returns statistics of the search result cache.
+     *
+     * @return CacheStatsDto with cumulative cache statistics
+     */
+    @Override
+    public CacheStatsDto getSearchCacheStats() {
 
-        List<RepositoryEntity> entities =
-                repository.findAll(spec, sortOrder);
+        CacheStats stats = searchResultCache.stats();
 
-        return RepositoryMapper.toResponseDtoList(entities);
+        return CacheStatsDto.builder()
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .size(searchResultCache.size())
+                .build();
     }
 
     /**
-     * Builds dynamic sorting configuration.
+     * Normalizes the sort parameter.
      *
      * <p>
      * Supported sort options:
@@ -152,19 +895,87 @@ public class GitHubServiceImpl implements GitHubService {
      * </p>
      *
      * @param sort Sorting parameter
+     * @return supported sort key
+     */
+    private static String sortKey(String sort) {
+        return "forks".equals(sort) || "updated".equals(sort) ? sort : "stars";
+    }
+
+    /**
+     * @param sortKey Normalized sort key
+     * @return entity attribute behind the sort key
+     */
+    private static String sortField(String sortKey) {
+        return "updated".equals(sortKey) ? "lastUpdated" : sortKey;
+    }
+
+    /**
+     * Builds the sorting configuration.
+     *
+     * <p>
+     * The id is added as a tie-breaker, so the order is total and
+     * matches the seek predicate of {@link RepositoryCursor}.
+     * </p>
+     *
+     * @param sortKey Normalized sort key
      * @return Sort configuration
      */
-    private Sort buildSort(String sort) {
+    private static Sort buildSort(String sortKey) {
+        return Sort.by(Sort.Direction.DESC, sortField(sortKey), "id");
+    }
+
+    /**
+     * Clamps the requested page size to {@code 1..maxPageSize}.
+     *
+     * @param limit Requested page size, or null for the default
+     * @return page size to use
+     */
+    private int pageSize(Integer limit) {
+
+        if (limit == null) {
+            return Math.min(defaultPageSize, maxPageSize);
+        }
+
+        return Math.max(1, Math.min(limit, maxPageSize));
+    }
+
+    /**
+     * Result of one distinct search of a batch.
+     *
+     * @param key     Normalized search
+     * @param fetched Items returned by GitHub, still to be stored
+     * @param stored  Result of a cached or joined search, already stored
+     * @param failure Failure of the search, otherwise null
+     */
+    private record BatchOutcome(
+            SearchCacheKey key,
+            List<GitHubRepositoryDto> fetched,
+            SearchResponseDto stored,
+            Throwable failure) {
+
+        static BatchOutcome fetched(SearchCacheKey key, List<GitHubRepositoryDto> fetched) {
+            return new BatchOutcome(key, fetched, null, null);
+        }
+
+        static BatchOutcome stored(SearchCacheKey key, SearchResponseDto stored) {
+            return new BatchOutcome(key, List.of(), stored, null);
+        }
 
-        if (sort == null || sort.isBlank()) {
-            return Sort.by(Sort.Direction.DESC, "stars");
+        static BatchOutcome failed(SearchCacheKey key, Throwable failure) {
+            return new BatchOutcome(key, List.of(), null, failure);
         }
+    }
 
-        return switch (sort) {
-            case "stars" -> Sort.by(Sort.Direction.DESC, "stars");
-            case "forks" -> Sort.by(Sort.Direction.DESC, "forks");
-            case "updated" -> Sort.by(Sort.Direction.DESC, "lastUpdated");
-            default -> Sort.by(Sort.Direction.DESC, "stars");
-        };
+    /**
+     * Identifies identical reads of stored repositories.
+     *
+     * @param language Language filter
+     * @param minStars Minimum star filter
+     * @param sort     Sort key
+     * @param cursor   Page cursor
+     * @param limit    Page size
+     */
+    private record StoredRepositoriesKey(
+            String language, Integer minStars, String sort, String cursor, int limit) {
     }
 }
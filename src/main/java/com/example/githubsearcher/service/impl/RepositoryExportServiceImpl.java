@@ -0,0 +1,226 @@
+package com.example.githubsearcher.service.impl;
+
+import com.example.githubsearcher.dto.ExportFormat;
+import com.example.githubsearcher.dto.RepositoryResponseDto;
+import com.example.githubsearcher.entity.RepositoryEntity;
+import com.example.githubsearcher.mapper.RepositoryMapper;
+import com.example.githubsearcher.repository.DatabaseConcurrencyLimiter;
+import com.example.githubsearcher.repository.RepositoryEntityRepository;
+import com.example.githubsearcher.repository.specification.RepositorySpecification;
+import com.example.githubsearcher.service.RepositoryExportService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of {@link RepositoryExportService}.
+ *
+ * <p>
+ * Rows are read with {@link RepositoryEntityRepository#streamAll(Specification, int)}
+ * inside a read-only transaction, mapped one at a time and written
+ * to a buffer of {@code github.export.buffer-size} bytes. The buffer
+ * is flushed whenever it is full and every
+ * {@code github.export.flush-rows} rows, so the client receives data
+ * continuously and at most one buffer is held in memory.
+ * </p>
+ *
+ * <p>
+ * An export holds a database connection until the last row is written,
+ * which takes as long as the client needs to download the body. Exports
+ * therefore do not use the shared {@link DatabaseConcurrencyLimiter}
+ * permits, so a few slow downloads cannot push every other endpoint into
+ * {@code 503}. They take a permit of their own pool for their whole
+ * duration, before the transaction starts:
+ * <ul>
+ *     <li>{@code github.export.max-concurrency} - exports running at the
+ *         same time; the connection pool must have room for these next to
+ *         {@code github.database.max-concurrency}</li>
+ *     <li>{@code github.export.acquire-timeout} - longest wait for an export
+ *         permit before {@link com.example.githubsearcher.exception.DatabaseBusyException}
+ *         is thrown</li>
+ * </ul>
+ * </p>
+ */
+@Service
+public class RepositoryExportServiceImpl implements RepositoryExportService {
+
+    static final String CSV_HEADER = "id,name,description,owner,language,stars,forks,lastUpdated\n";
+
+    /**
+     * Repository providing the cursor based read.
+     */
+    private final RepositoryEntityRepository repository;
+
+    /**
+     * Jackson mapper used for NDJSON output.
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Bounds concurrent exports, separately from other database use.
+     */
+    private final DatabaseConcurrencyLimiter exportLimiter;
+
+    /**
+     * Read-only transaction the cursor is read in.
+     */
+    private final TransactionTemplate readOnlyTransaction;
+
+    /**
+     * Rows fetched from the database per round trip.
+     */
+    @Value("${github.export.fetch-size:1000}")
+    private int fetchSize;
+
+    /**
+     * Number of rows after which the output is flushed.
+     */
+    @Value("${github.export.flush-rows:1000}")
+    private int flushRows;
+
+    /**
+     * Size of the output buffer in bytes.
+     */
+    @Value("${github.export.buffer-size:65536}")
+    private int bufferSize;
+
+    /**
+     * Creates the export service.
+     *
+     * @param repository         Repository providing the cursor based read
+     * @param objectMapper       Jackson mapper used for NDJSON output
+     * @param transactionManager Transaction manager for the read-only transaction
+     * @param maxConcurrency     Exports allowed at the same time
+     * @param acquireTimeout     Longest wait for an export permit
+     */
+    public RepositoryExportServiceImpl(
+            RepositoryEntityRepository repository,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${github.export.max-concurrency:2}") int maxConcurrency,
+            @Value("${github.export.acquire-timeout:5s}") Duration acquireTimeout
+    ) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.exportLimiter = new DatabaseConcurrencyLimiter(maxConcurrency, acquireTimeout);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Streams the matching repositories to the output.
+     *
+     * @param language Optional language filter
+     * @param minStars Optional minimum star filter
+     * @param format   Output format
+     * @param out      Stream to write to; it is flushed but not closed
+     * @return number of exported repositories
+     * @throws IOException if writing to the output fails
+     */
+    @Override
+    public long export(String language, Integer minStars, ExportFormat format, OutputStream out)
+            throws IOException {
+        try {
+            return exportLimiter.call(() -> readOnlyTransaction.execute(status -> {
+                try {
+                    return write(language, minStars, format, out);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            }));
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    private long write(String language, Integer minStars, ExportFormat format, OutputStream out)
+            throws IOException {
+
+        Specification<RepositoryEntity> spec = Specification
+                .where(RepositorySpecification.hasLanguage(language))
+                .and(RepositorySpecification.hasMinStars(minStars));
+
+        OutputStream buffer = new BufferedOutputStream(out, Math.max(1024, bufferSize));
+        long count = 0;
+
+        if (format == ExportFormat.CSV) {
+            buffer.write(CSV_HEADER.getBytes(StandardCharsets.UTF_8));
+        }
+
+        try (Stream<RepositoryEntity> rows = repository.streamAll(spec, fetchSize)) {
+
+            Iterator<RepositoryEntity> iterator = rows.iterator();
+
+            while (iterator.hasNext()) {
+
+                RepositoryResponseDto dto = RepositoryMapper.toResponseDto(iterator.next());
+
+                if (format == ExportFormat.CSV) {
+                    buffer.write(csvLine(dto).getBytes(StandardCharsets.UTF_8));
+                } else {
+                    buffer.write(objectMapper.writeValueAsBytes(dto));
+                    buffer.write('\n');
+                }
+
+                if (++count % Math.max(1, flushRows) == 0) {
+                    buffer.flush();
+                }
+            }
+        }
+
+        buffer.flush();
+        return count;
+    }
+
+    /**
+     * Formats one repository as a CSV line matching {@link #CSV_HEADER}.
+     *
+     * @param dto Repository to format
+     * @return CSV line including the line break
+     */
+    static String csvLine(RepositoryResponseDto dto) {
+        return String.join(",",
+                value(dto.getId()),
+                text(dto.getName()),
+                text(dto.getDescription()),
+                text(dto.getOwner()),
+                text(dto.getLanguage()),
+                value(dto.getStars()),
+                value(dto.getForks()),
+                value(dto.getLastUpdated())
+        ) + "\n";
+    }
+
+    private static String value(Object value) {
+        return value != null ? value.toString() : "";
+    }
+
+    /**
+     * Quotes a text value if it contains a separator, quote or line break.
+     */
+    private static String text(String value) {
+
+        if (value == null) {
+            return "";
+        }
+
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
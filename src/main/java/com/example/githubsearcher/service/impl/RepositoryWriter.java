@@ -0,0 +1,100 @@
+package com.example.githubsearcher.service.impl;
+
+import com.example.githubsearcher.cache.RepositoryReadModel;
+import com.example.githubsearcher.dto.RepositoryResponseDto;
+import com.example.githubsearcher.dto.github.GitHubRepositoryDto;
+import com.example.githubsearcher.entity.RepositoryEntity;
+import com.example.githubsearcher.mapper.RepositoryMapper;
+import com.example.githubsearcher.repository.DatabaseConcurrencyLimiter;
+import com.example.githubsearcher.repository.RepositoryEntityRepository;
+import com.example.githubsearcher.repository.RepositoryEntityRepositoryCustom.UpsertResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Write path shared by every service that stores repositories fetched
+ * from GitHub.
+ *
+ * <p>
+ * Flow:
+ * <ol>
+ *     <li>Convert GitHub DTOs to entities</li>
+ *     <li>Bulk UPSERT under a permit of {@link DatabaseConcurrencyLimiter}</li>
+ *     <li>Apply the rows to {@link RepositoryReadModel}</li>
+ *     <li>If the upsert skipped rows (stale or unchanged), read the stored
+ *         rows back, so the result shows what the database holds rather
+ *         than what GitHub sent</li>
+ *     <li>Convert the rows to response DTOs</li>
+ * </ol>
+ * Searches, batch searches, search jobs and crawls all go through
+ * {@link #save(List)}, so a change to how repositories are stored only
+ * has to be made here.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+class RepositoryWriter {
+
+    private static final UpsertResult NOTHING_WRITTEN = new UpsertResult(0, 0, 0);
+
+    private final RepositoryEntityRepository repository;
+
+    private final DatabaseConcurrencyLimiter databaseLimiter;
+
+    private final RepositoryReadModel readModel;
+
+    /**
+     * Stores repositories fetched from GitHub. Blocks on the database.
+     *
+     * @param items Repositories as returned by GitHub (may be null or empty)
+     * @return stored repositories and the upsert outcome
+     */
+    Stored save(List<GitHubRepositoryDto> items) {
+
+        if (items == null || items.isEmpty()) {
+            return new Stored(List.of(), NOTHING_WRITTEN);
+        }
+
+        List<RepositoryEntity> entities = RepositoryMapper.toEntityList(items);
+
+        // Bulk UPSERT (insert new rows, update only rows with newer data)
+        UpsertResult written = databaseLimiter.call(() -> repository.upsertAll(entities));
+        readModel.apply(entities);
+
+        List<RepositoryEntity> stored = written.skipped() > 0 ? reload(entities) : entities;
+
+        return new Stored(RepositoryMapper.toResponseDtoList(stored), written);
+    }
+
+    /**
+     * Reads the stored version of the given rows, keeping their order.
+     */
+    private List<RepositoryEntity> reload(List<RepositoryEntity> entities) {
+
+        List<Long> ids = entities.stream().map(RepositoryEntity::getId).toList();
+
+        Map<Long, RepositoryEntity> byId = new HashMap<>();
+        for (RepositoryEntity row : databaseLimiter.call(() -> repository.findAllById(ids))) {
+            byId.put(row.getId(), row);
+        }
+
+        return entities.stream()
+                .map(entity -> byId.getOrDefault(entity.getId(), entity))
+                .toList();
+    }
+
+    /**
+     * Outcome of {@link #save(List)}.
+     *
+     * @param repositories Every repository received, in the order it was given, with
+     *                     the values stored in the database: a row the upsert skipped
+     *                     as stale or unchanged shows the stored values, not GitHub's
+     * @param written      Rows inserted, updated and skipped by the upsert
+     */
+    record Stored(List<RepositoryResponseDto> repositories, UpsertResult written) {
+    }
+}
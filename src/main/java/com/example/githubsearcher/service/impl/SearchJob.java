@@ -0,0 +1,184 @@
+package com.example.githubsearcher.service.impl;
+
+import com.example.githubsearcher.dto.RepositoryResponseDto;
+import com.example.githubsearcher.dto.SearchJobDto;
+import com.example.githubsearcher.dto.SearchRequestDto;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * State of an asynchronous search job, see {@link SearchJobServiceImpl}.
+ *
+ * <p>
+ * Written by the executor thread running the job and read by polling
+ * requests; every field is published through a volatile write.
+ * </p>
+ */
+class SearchJob {
+
+    /**
+     * Lifecycle of a job.
+     */
+    enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    private final String id;
+
+    private final SearchRequestDto request;
+
+    private final Instant submittedAt;
+
+    private volatile Status status = Status.QUEUED;
+
+    private volatile Instant startedAt;
+
+    private volatile Instant finishedAt;
+
+    private volatile int pagesFetched;
+
+    private volatile int totalPages;
+
+    private volatile long rowsUpserted;
+
+    private volatile Results results = Results.EMPTY;
+
+    private volatile String error;
+
+    SearchJob(String id, SearchRequestDto request, Instant submittedAt) {
+        this.id = id;
+        this.request = request;
+        this.submittedAt = submittedAt;
+    }
+
+    String id() {
+        return id;
+    }
+
+    SearchRequestDto request() {
+        return request;
+    }
+
+    List<RepositoryResponseDto> results() {
+        return results.view();
+    }
+
+    Instant finishedAt() {
+        return finishedAt;
+    }
+
+    void start(Instant now) {
+        startedAt = now;
+        status = Status.RUNNING;
+    }
+
+    void totalPages(int pages) {
+        totalPages = pages;
+    }
+
+    /**
+     * Records a stored page. Only called by the thread running the job.
+     *
+     * @param upserted Rows inserted or updated for the page
+     * @param added    Repositories of the page not stored by an earlier page
+     */
+    void pageStored(int upserted, List<RepositoryResponseDto> added) {
+        rowsUpserted += upserted;
+        results = results.append(added);
+        pagesFetched++;
+    }
+
+    void complete(Instant now) {
+        totalPages = pagesFetched;
+        finishedAt = now;
+        status = Status.COMPLETED;
+    }
+
+    void fail(String message, Instant now) {
+        error = message;
+        finishedAt = now;
+        status = Status.FAILED;
+    }
+
+    /**
+     * @param now Current time, used for the estimate
+     * @return snapshot of the job
+     */
+    SearchJobDto toDto(Instant now) {
+
+        Status current = status;
+        int fetched = pagesFetched;
+        int total = totalPages;
+        Long eta = null;
+
+        if (current == Status.RUNNING && fetched > 0 && total >= fetched) {
+            // Remaining pages at the average time per page so far
+            long elapsed = Duration.between(startedAt, now).toMillis();
+            eta = elapsed / fetched * (total - fetched);
+        } else if (current == Status.COMPLETED) {
+            eta = 0L;
+        }
+
+        return SearchJobDto.builder()
+                .id(id)
+                .status(current.name())
+                .pagesFetched(fetched)
+                .totalPages(total)
+                .rowsUpserted(rowsUpserted)
+                .resultCount(results.size())
+                .etaMillis(eta)
+                .submittedAt(submittedAt)
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .error(error)
+                .build();
+    }
+
+    /**
+     * Append-only result list.
+     *
+     * <p>
+     * Rows below {@code size} are never written again, so a published
+     * instance stays valid while the job appends: a page is copied into
+     * spare capacity, and only a full array is copied into a larger one.
+     * Appending all pages therefore costs linear time overall, and
+     * readers get a view without copying.
+     * </p>
+     *
+     * @param rows Backing array, filled up to {@code size}
+     * @param size Number of results
+     */
+    private record Results(RepositoryResponseDto[] rows, int size) {
+
+        static final Results EMPTY = new Results(new RepositoryResponseDto[0], 0);
+
+        Results append(List<RepositoryResponseDto> added) {
+
+            if (added.isEmpty()) {
+                return this;
+            }
+
+            RepositoryResponseDto[] target = size + added.size() <= rows.length
+                    ? rows
+                    : Arrays.copyOf(rows, Math.max(size + added.size(), rows.length * 2));
+
+            int next = size;
+            for (RepositoryResponseDto row : added) {
+                target[next++] = row;
+            }
+
+            return new Results(target, next);
+        }
+
+        List<RepositoryResponseDto> view() {
+            return Collections.unmodifiableList(Arrays.asList(rows).subList(0, size));
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package com.example.githubsearcher.service.impl;
+
+import com.example.githubsearcher.cache.SearchCacheKey;
+import com.example.githubsearcher.cache.SearchResultCache;
+import com.example.githubsearcher.client.GitHubApiClient;
+import com.example.githubsearcher.dto.RepositoryPageDto;
+import com.example.githubsearcher.dto.RepositoryResponseDto;
+import com.example.githubsearcher.dto.SearchJobDto;
+import com.example.githubsearcher.dto.SearchRequestDto;
+import com.example.githubsearcher.dto.SearchResponseDto;
+import com.example.githubsearcher.dto.github.GitHubSearchResponseDto;
+import com.example.githubsearcher.exception.SearchJobRejectedException;
+import com.example.githubsearcher.repository.RepositoryEntityRepositoryCustom.UpsertResult;
+import com.example.githubsearcher.repository.specification.RepositoryCursor;
+import com.example.githubsearcher.service.SearchJobService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Implementation of {@link SearchJobService}.
+ *
+ * <p>
+ * Jobs are kept in memory and run on a fixed pool of
+ * {@code github.search.jobs.threads} threads with a queue of
+ * {@code github.search.jobs.queue-size}; submissions beyond that are
+ * rejected with {@code 503}. A job fetches its search page by page
+ * (pages of 100 with {@code fetchAllPages}) and upserts each page
+ * before requesting the next, so progress and partial results are
+ * visible while it runs. The combined result is put into the search
+ * result cache, where {@code POST /api/github/search} picks it up.
+ * </p>
+ *
+ * <p>
+ * Finished jobs are dropped {@code github.search.jobs.ttl} after they
+ * finished; a scheduled sweep runs every
+ * {@code github.search.jobs.cleanup-interval}.
+ * </p>
+ */
+@Slf4j
+@Service
+public class SearchJobServiceImpl implements SearchJobService {
+
+    private final GitHubApiClient gitHubApiClient;
+
+    private final RepositoryWriter repositoryWriter;
+
+    private final SearchResultCache searchResultCache;
+
+    private final Duration ttl;
+
+    private final int defaultPageSize;
+
+    private final int maxPageSize;
+
+    private final Clock clock;
+
+    private final ThreadPoolExecutor executor;
+
+    private final ConcurrentMap<String, SearchJob> jobs = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the service from application properties.
+     *
+     * @param gitHubApiClient   Client used to fetch result pages
+     * @param repositoryWriter  Write path the pages are upserted through
+     * @param searchResultCache Cache receiving the result of completed jobs
+     * @param threads           Jobs running at the same time
+     * @param queueSize         Jobs waiting for a thread
+     * @param ttl               Time a finished job is kept
+     * @param defaultPageSize   Result page size when no limit is given
+     * @param maxPageSize       Upper bound for the result page size
+     */
+    @Autowired
+    public SearchJobServiceImpl(
+            GitHubApiClient gitHubApiClient,
+            RepositoryWriter repositoryWriter,
+            SearchResultCache searchResultCache,
+            @Value("${github.search.jobs.threads:4}") int threads,
+            @Value("${github.search.jobs.queue-size:100}") int queueSize,
+            @Value("${github.search.jobs.ttl:15m}") Duration ttl,
+            @Value("${github.repositories.default-page-size:100}") int defaultPageSize,
+            @Value("${github.repositories.max-page-size:1000}") int maxPageSize
+    ) {
+        this(gitHubApiClient, repositoryWriter, searchResultCache,
+                threads, queueSize, ttl, defaultPageSize, maxPageSize, Clock.systemUTC());
+    }
+
+    SearchJobServiceImpl(
+            GitHubApiClient gitHubApiClient,
+            RepositoryWriter repositoryWriter,
+            SearchResultCache searchResultCache,
+            int threads,
+            int queueSize,
+            Duration ttl,
+            int defaultPageSize,
+            int maxPageSize,
+            Clock clock
+    ) {
+        this.gitHubApiClient = gitHubApiClient;
+        this.repositoryWriter = repositoryWriter;
+        this.searchResultCache = searchResultCache;
+        this.ttl = ttl;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+        this.clock = clock;
+
+        AtomicInteger count = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                Math.max(1, threads), Math.max(1, threads), 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueSize)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "search-job-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @Override
+    public SearchJobDto submit(SearchRequestDto request) {
+
+        SearchJob job = new SearchJob(UUID.randomUUID().toString(), request, clock.instant());
+        jobs.put(job.id(), job);
+
+        try {
+            executor.execute(() -> run(job));
+        } catch (RejectedExecutionException ex) {
+            jobs.remove(job.id());
+            throw new SearchJobRejectedException("Too many search jobs queued, retry later");
+        }
+
+        return job.toDto(clock.instant());
+    }
+
+    @Override
+    public Optional<SearchJobDto> get(String id) {
+        return Optional.ofNullable(jobs.get(id)).map(job -> job.toDto(clock.instant()));
+    }
+
+    /**
+     * Pages through the results of a job with an offset cursor of kind
+     * {@link RepositoryCursor#JOB_RESULTS}; cursors of the full-text
+     * search are rejected.
+     */
+    @Override
+    public Optional<RepositoryPageDto> getResults(String id, String cursor, Integer limit) {
+
+        SearchJob job = jobs.get(id);
+        if (job == null) {
+            return Optional.empty();
+        }
+
+        List<RepositoryResponseDto> results = job.results();
+        int pageSize = limit == null
+                ? Math.min(defaultPageSize, maxPageSize)
+                : Math.max(1, Math.min(limit, maxPageSize));
+        long offset = cursor != null && !cursor.isBlank()
+                ? RepositoryCursor.decode(cursor, RepositoryCursor.JOB_RESULTS).offset()
+                : 0;
+
+        int from = (int) Math.min(offset, results.size());
+        int to = Math.min(from + pageSize, results.size());
+
+        return Optional.of(RepositoryPageDto.builder()
+                .repositories(results.subList(from, to))
+                .nextCursor(to < results.size() ? RepositoryCursor.atOffset(RepositoryCursor.JOB_RESULTS, to).encode() : null)
+                .build());
+    }
+
+    /**
+     * Drops jobs that finished more than {@code github.search.jobs.ttl} ago.
+     */
+    @Scheduled(fixedDelayString = "${github.search.jobs.cleanup-interval:60s}")
+    public void expireFinishedJobs() {
+
+        Instant cutoff = clock.instant().minus(ttl);
+
+        jobs.values().removeIf(job -> job.finishedAt() != null && job.finishedAt().isBefore(cutoff));
+    }
+
+    /**
+     * Runs a job: fetches the search page by page and stores every page.
+     */
+    void run(SearchJob job) {
+
+        job.start(clock.instant());
+        SearchRequestDto request = job.request();
+
+        try {
+            Set<Long> stored = new HashSet<>();
+            SearchResponseDto result;
+
+            if (Boolean.TRUE.equals(request.getFetchAllPages())) {
+
+                GitHubSearchResponseDto first = gitHubApiClient.searchRepositoriesPage(
+                        request.getQuery(), request.getLanguage(), request.getSort(), 1);
+                job.totalPages(GitHubApiClient.pageCount(first.getTotalCount()));
+
+                List<UpsertResult> written = new ArrayList<>();
+                written.add(store(job, first, stored));
+
+                for (int page = 2; page <= GitHubApiClient.pageCount(first.getTotalCount()); page++) {
+                    GitHubSearchResponseDto next = gitHubApiClient.searchRepositoriesPage(
+                            request.getQuery(), request.getLanguage(), request.getSort(), page);
+                    if (next.getItems() == null || next.getItems().isEmpty()) {
+                        break;
+                    }
+                    written.add(store(job, next, stored));
+                }
+
+                result = response(job.results(), written);
+            } else {
+                job.totalPages(1);
+                GitHubSearchResponseDto response = gitHubApiClient.searchRepositories(
+                        request.getQuery(), request.getLanguage(), request.getSort());
+                result = response(job.results(), List.of(store(job, response, stored)));
+            }
+
+            searchResultCache.put(SearchCacheKey.of(request), result);
+            job.complete(clock.instant());
+
+        } catch (RuntimeException ex) {
+            log.warn("Search job {} failed", job.id(), ex);
+            job.fail(ex.getMessage(), clock.instant());
+        }
+    }
+
+    /**
+     * Upserts one page and appends its new repositories to the job results.
+     *
+     * @param stored Ids of the repositories stored by earlier pages
+     */
+    private UpsertResult store(SearchJob job, GitHubSearchResponseDto page, Set<Long> stored) {
+
+        RepositoryWriter.Stored written = repositoryWriter.save(page != null ? page.getItems() : null);
+
+        List<RepositoryResponseDto> added = written.repositories().stream()
+                .filter(dto -> stored.add(dto.getId()))
+                .toList();
+
+        job.pageStored(written.written().written(), added);
+        return written.written();
+    }
+
+    private static SearchResponseDto response(
+            List<RepositoryResponseDto> stored,
+            List<UpsertResult> written
+    ) {
+        return SearchResponseDto.builder()
+                .message(stored.isEmpty()
+                        ? "No repositories found"
+                        : "Repositories fetched and saved successfully")
+                .repositories(stored)
+                .inserted(written.stream().mapToInt(UpsertResult::inserted).sum())
+                .updated(written.stream().mapToInt(UpsertResult::updated).sum())
+                .skipped(written.stream().mapToInt(UpsertResult::skipped).sum())
+                .build();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.githubsearcher.service.impl;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * A slice of a search, restricted by {@code stars:} and {@code created:} qualifiers.
+ *
+ * <p>
+ * GitHub serves at most 1000 matches per search. A slice with more
+ * matches is split into two disjoint halves until every slice fits:
+ * <ol>
+ *     <li>An open star range {@code stars:>=n} is split geometrically
+ *         into {@code n..2n} and {@code >2n}, as most repositories have
+ *         few stars</li>
+ *     <li>A closed star range is split at its midpoint</li>
+ *     <li>A single star count (e.g. {@code stars:0}) is split by creation
+ *         time, starting with everything created between GitHub's launch
+ *         and the start of the crawl, down to single seconds</li>
+ * </ol>
+ * Bounds are inclusive on both ends, like GitHub's {@code a..b} ranges.
+ * </p>
+ *
+ * @param minStars    Lower bound of the star range
+ * @param maxStars    Upper bound of the star range, or null for unbounded
+ * @param createdFrom Lower bound of the creation range, or null for no creation filter
+ * @param createdTo   Upper bound of the creation range, or null for no creation filter
+ */
+record SearchPartition(long minStars, Long maxStars, Instant createdFrom, Instant createdTo) {
+
+    /**
+     * Earliest creation time of a GitHub repository.
+     */
+    static final Instant GITHUB_LAUNCH = Instant.parse("2007-10-01T00:00:00Z");
+
+    /**
+     * @return the partition covering every repository
+     */
+    static SearchPartition all() {
+        return new SearchPartition(0, null, null, null);
+    }
+
+    /**
+     * Builds the qualifiers restricting a search to this slice.
+     *
+     * @return e.g. {@code stars:10..20 created:2015-01-01T00:00:00Z..2015-06-30T23:59:59Z}
+     */
+    String qualifiers() {
+
+        String stars = maxStars == null
+                ? "stars:>=" + minStars
+                : maxStars == minStars ? "stars:" + minStars : "stars:" + minStars + ".." + maxStars;
+
+        if (createdFrom == null) {
+            return stars;
+        }
+
+        return stars + " created:" + createdFrom + ".." + createdTo;
+    }
+
+    /**
+     * Splits the slice into two disjoint halves covering the same repositories.
+     *
+     * @param crawlStart Start of the crawl, upper bound of the first creation range
+     * @return the two halves, or an empty list if the slice cannot be split further
+     */
+    List<SearchPartition> split(Instant crawlStart) {
+
+        if (maxStars == null) {
+            long boundary = minStars * 2;
+            return List.of(
+                    new SearchPartition(minStars, boundary, createdFrom, createdTo),
+                    new SearchPartition(boundary + 1, null, createdFrom, createdTo)
+            );
+        }
+
+        if (minStars < maxStars) {
+            long middle = minStars + (maxStars - minStars) / 2;
+            return List.of(
+                    new SearchPartition(minStars, middle, createdFrom, createdTo),
+                    new SearchPartition(middle + 1, maxStars, createdFrom, createdTo)
+            );
+        }
+
+        Instant from = createdFrom != null ? createdFrom : GITHUB_LAUNCH;
+        Instant to = createdTo != null ? createdTo : crawlStart.truncatedTo(ChronoUnit.SECONDS);
+        long seconds = Duration.between(from, to).toSeconds();
+
+        if (seconds < 1) {
+            return List.of();
+        }
+
+        Instant middle = from.plusSeconds(seconds / 2);
+        return List.of(
+                new SearchPartition(minStars, maxStars, from, middle),
+                new SearchPartition(minStars, maxStars, middle.plusSeconds(1), to)
+        );
+    }
+}
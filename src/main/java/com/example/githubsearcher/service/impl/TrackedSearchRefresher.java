@@ -0,0 +1,413 @@
+package com.example.githubsearcher.service.impl;
+
+import com.example.githubsearcher.cache.SearchCacheKey;
+import com.example.githubsearcher.cache.SearchDemand;
+import com.example.githubsearcher.client.GitHubApiClient;
+import com.example.githubsearcher.client.GitHubRequestScheduler;
+import com.example.githubsearcher.client.QuotaSnapshot;
+import com.example.githubsearcher.entity.TrackedSearchEntity;
+import com.example.githubsearcher.repository.DatabaseConcurrencyLimiter;
+import com.example.githubsearcher.repository.TrackedSearchRepository;
+import com.example.githubsearcher.service.GitHubService;
+import com.example.githubsearcher.service.GitHubService.RefreshResult;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Background refresh of tracked searches.
+ *
+ * <p>
+ * Every {@code github.tracking.refresh-interval} one cycle runs:
+ * <ol>
+ *     <li>Request counts collected by {@link SearchDemand} are added to
+ *         the popularity of the matching tracked searches</li>
+ *     <li>Searches refreshed less than {@code github.tracking.min-interval}
+ *         ago are left out</li>
+ *     <li>The rest is ranked by staleness weighted with popularity
+ *         (never refreshed searches first)</li>
+ *     <li>As many searches as the quota budget allows are refreshed
+ *         through {@link GitHubService#refreshRepositories}, at most
+ *         {@code github.tracking.parallelism} at a time</li>
+ * </ol>
+ * </p>
+ *
+ * <p>
+ * Refreshes are incremental: each search keeps a high-water mark (the
+ * newest {@code updated_at} seen) and the next refresh only asks GitHub
+ * for repositories pushed after it. The mark is stored only after the
+ * refresh was persisted; an incremental refresh that was cut off clears
+ * it, so the next refresh is a full one. As a push filter does not see
+ * changes such as new stars, a full refresh is also made every
+ * {@code github.tracking.full-refresh-interval}.
+ * </p>
+ *
+ * <p>
+ * Quota budget: per rate limit window, background refreshes use at most
+ * {@code github.tracking.quota-share} of the quota GitHub reports (summed
+ * over all tokens); the rest is left to interactive searches. A search
+ * with {@code fetchAllPages} is reserved at ten requests and charged what
+ * its result actually needed once it finished; a failed refresh is not
+ * charged. While GitHub has not reported a quota yet, the most urgent
+ * search is refreshed alone, whatever it costs, so that the quota becomes
+ * known. The same holds at the start of a window whose share is too small
+ * for the most urgent search.
+ * </p>
+ *
+ * <p>
+ * Outcomes are written with a targeted update of the refresh columns,
+ * so a search untracked while it was refreshed is skipped, and a failing
+ * refresh never keeps the others of its cycle from being recorded.
+ * </p>
+ *
+ * <p>
+ * Only active with {@code github.tracking.enabled=true}.
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "github.tracking.enabled", havingValue = "true")
+public class TrackedSearchRefresher {
+
+    /**
+     * Requests a fetch-all-pages search may cost (GitHub caps search at 10 pages of 100).
+     */
+    static final int FETCH_ALL_PAGES_COST = 10;
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final TrackedSearchRepository trackedSearchRepository;
+
+    private final DatabaseConcurrencyLimiter databaseLimiter;
+
+    private final GitHubService gitHubService;
+
+    private final GitHubRequestScheduler requestScheduler;
+
+    private final SearchDemand searchDemand;
+
+    private final double quotaShare;
+
+    private final Duration minInterval;
+
+    private final Duration fullRefreshInterval;
+
+    private final Clock clock;
+
+    private final ExecutorService executor;
+
+    /**
+     * Reset time of the window {@link #usedInWindow} belongs to.
+     */
+    private long windowResetAtMs = -1;
+
+    /**
+     * Requests spent by refreshes in the current rate limit window.
+     */
+    private int usedInWindow;
+
+    /**
+     * Creates the refresher from application properties.
+     *
+     * @param trackedSearchRepository Repository of tracked searches
+     * @param databaseLimiter         Bounds concurrent database use
+     * @param gitHubService           Ingest path used for refreshes
+     * @param requestScheduler        Source of the current GitHub quota
+     * @param searchDemand            Request counts of interactive searches
+     * @param quotaShare              Share of each rate limit window refreshes may use
+     * @param parallelism             Number of refreshes running at the same time
+     * @param minInterval             Minimum time between two refreshes of a search
+     * @param fullRefreshInterval     Maximum time between two full refreshes of a search
+     */
+    @Autowired
+    public TrackedSearchRefresher(
+            TrackedSearchRepository trackedSearchRepository,
+            DatabaseConcurrencyLimiter databaseLimiter,
+            GitHubService gitHubService,
+            GitHubRequestScheduler requestScheduler,
+            SearchDemand searchDemand,
+            @Value("${github.tracking.quota-share:0.25}") double quotaShare,
+            @Value("${github.tracking.parallelism:2}") int parallelism,
+            @Value("${github.tracking.min-interval:15m}") Duration minInterval,
+            @Value("${github.tracking.full-refresh-interval:24h}") Duration fullRefreshInterval
+    ) {
+        this(trackedSearchRepository, databaseLimiter, gitHubService, requestScheduler, searchDemand,
+                quotaShare, parallelism, minInterval, fullRefreshInterval, Clock.systemUTC());
+    }
+
+    TrackedSearchRefresher(
+            TrackedSearchRepository trackedSearchRepository,
+            DatabaseConcurrencyLimiter databaseLimiter,
+            GitHubService gitHubService,
+            GitHubRequestScheduler requestScheduler,
+            SearchDemand searchDemand,
+            double quotaShare,
+            int parallelism,
+            Duration minInterval,
+            Duration fullRefreshInterval,
+            Clock clock
+    ) {
+        this.trackedSearchRepository = trackedSearchRepository;
+        this.databaseLimiter = databaseLimiter;
+        this.gitHubService = gitHubService;
+        this.requestScheduler = requestScheduler;
+        this.searchDemand = searchDemand;
+        this.quotaShare = Math.max(0, Math.min(1, quotaShare));
+        this.minInterval = minInterval;
+        this.fullRefreshInterval = fullRefreshInterval;
+        this.clock = clock;
+
+        AtomicInteger threads = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, parallelism), runnable -> {
+            Thread thread = new Thread(runnable, "tracked-search-refresh-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Runs one refresh cycle; scheduled with a fixed delay, so cycles never overlap.
+     */
+    @Scheduled(
+            initialDelayString = "${github.tracking.initial-delay:30s}",
+            fixedDelayString = "${github.tracking.refresh-interval:60s}"
+    )
+    public void refresh() {
+        try {
+            refreshDue();
+        } catch (RuntimeException ex) {
+            log.warn("Tracked search refresh cycle failed", ex);
+        }
+    }
+
+    /**
+     * Refreshes the most urgent tracked searches that fit into the quota budget.
+     *
+     * @return number of searches refreshed successfully
+     */
+    int refreshDue() {
+
+        flushDemand();
+
+        Instant now = clock.instant();
+
+        List<TrackedSearchEntity> due = databaseLimiter.call(trackedSearchRepository::findAll).stream()
+                .filter(search -> search.getLastRefreshedAt() == null
+                        || !search.getLastRefreshedAt().plus(minInterval).isAfter(now))
+                .sorted(Comparator.comparingDouble((TrackedSearchEntity search) -> score(search, now))
+                        .reversed()
+                        .thenComparing(TrackedSearchEntity::getId))
+                .toList();
+
+        if (due.isEmpty()) {
+            return 0;
+        }
+
+        QuotaSnapshot quota = requestScheduler.quota();
+        List<TrackedSearchEntity> selected = new ArrayList<>();
+
+        if (!quota.known()) {
+            // Nothing to budget with yet; the response of this refresh reports the quota
+            selected.add(due.getFirst());
+            return runAll(selected, false);
+        }
+
+        int budget = budget(quota);
+        boolean windowUnused = usedInWindow == 0;
+
+        for (TrackedSearchEntity search : due) {
+            int cost = cost(search);
+            if (cost <= budget) {
+                selected.add(search);
+                budget -= cost;
+                usedInWindow += cost;
+            }
+        }
+
+        if (selected.isEmpty() && budget > 0 && windowUnused) {
+            // The most urgent search costs more than the whole share; run it once per window
+            TrackedSearchEntity first = due.getFirst();
+            selected.add(first);
+            usedInWindow += cost(first);
+        }
+
+        return runAll(selected, true);
+    }
+
+    /**
+     * Ranks a tracked search: seconds since the last refresh, scaled by
+     * the logarithm of its request count. Never refreshed searches come first.
+     */
+    static double score(TrackedSearchEntity search, Instant now) {
+
+        if (search.getLastRefreshedAt() == null) {
+            return Double.MAX_VALUE;
+        }
+
+        double staleness = Math.max(1, Duration.between(search.getLastRefreshedAt(), now).toSeconds());
+        return staleness * (1 + Math.log1p(search.getRequestCount()));
+    }
+
+    /**
+     * Works out how many GitHub requests refreshes may still spend in the
+     * current rate limit window.
+     */
+    private int budget(QuotaSnapshot quota) {
+
+        if (!quota.known()) {
+            return 1;
+        }
+
+        if (quota.resetAtMs() != windowResetAtMs) {
+            windowResetAtMs = quota.resetAtMs();
+            usedInWindow = 0;
+        }
+
+        int share = (int) Math.floor(quota.limit() * quotaShare);
+        return Math.max(0, Math.min(share - usedInWindow, quota.remaining()));
+    }
+
+    private static int cost(TrackedSearchEntity search) {
+        return search.isFetchAllPages() ? FETCH_ALL_PAGES_COST : 1;
+    }
+
+    private void flushDemand() {
+        for (Map.Entry<SearchCacheKey, Long> entry : searchDemand.drain().entrySet()) {
+            databaseLimiter.call(() -> trackedSearchRepository.addRequests(entry.getKey().id(), entry.getValue()));
+        }
+    }
+
+    /**
+     * Refreshes the selected searches and settles their reserved cost.
+     *
+     * @param selected Searches to refresh
+     * @param charged  Whether their cost was reserved in {@link #usedInWindow}
+     * @return number of searches refreshed successfully
+     */
+    private int runAll(List<TrackedSearchEntity> selected, boolean charged) {
+
+        List<Callable<Integer>> tasks = selected.stream()
+                .<Callable<Integer>>map(search -> () -> refreshOne(search))
+                .toList();
+
+        List<Future<Integer>> results;
+        try {
+            results = executor.invokeAll(tasks);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return 0;
+        }
+
+        int refreshed = 0;
+
+        for (int i = 0; i < results.size(); i++) {
+
+            TrackedSearchEntity search = selected.get(i);
+            int spent = 0;
+
+            try {
+                spent = results.get(i).get();
+                if (spent > 0) {
+                    refreshed++;
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return refreshed;
+            } catch (ExecutionException ex) {
+                log.warn("Tracked search refresh of '{}' failed", search.getQuery(), ex.getCause());
+            }
+
+            if (charged) {
+                usedInWindow = Math.max(0, usedInWindow - cost(search) + spent);
+            }
+        }
+
+        return refreshed;
+    }
+
+    /**
+     * Refreshes one search and records the outcome.
+     *
+     * @return GitHub requests the refresh needed, or 0 if it failed
+     */
+    private int refreshOne(TrackedSearchEntity search) {
+
+        int spent;
+
+        Instant now = clock.instant();
+        Instant pushedAfter = incremental(search, now) ? search.getHighWaterMark() : null;
+
+        try {
+            RefreshResult refreshed = gitHubService.refreshRepositories(
+                    TrackedSearchServiceImpl.toRequest(search), pushedAfter);
+            search.setHighWaterMark(refreshed.highWaterMark());
+            if (pushedAfter == null) {
+                search.setLastFullRefreshAt(now);
+            }
+            search.setLastRefreshedAt(clock.instant());
+            search.setLastError(null);
+            spent = spent(search, refreshed);
+        } catch (RuntimeException ex) {
+            String message = String.valueOf(ex.getMessage());
+            search.setLastError(message.length() > MAX_ERROR_LENGTH
+                    ? message.substring(0, MAX_ERROR_LENGTH)
+                    : message);
+            spent = 0;
+        }
+
+        int updated = databaseLimiter.call(() -> trackedSearchRepository.recordRefresh(search.getId(),
+                search.getLastRefreshedAt(), search.getLastFullRefreshAt(), search.getHighWaterMark(),
+                search.getLastError()));
+        if (updated == 0) {
+            log.debug("Tracked search '{}' was removed during its refresh", search.getQuery());
+        }
+
+        return spent;
+    }
+
+    /**
+     * Requests a successful refresh needed: one, or one per page of
+     * 100 received repositories for a fetch-all-pages search.
+     */
+    private static int spent(TrackedSearchEntity search, RefreshResult refreshed) {
+
+        if (!search.isFetchAllPages()) {
+            return 1;
+        }
+
+        List<?> repositories = refreshed.result() != null ? refreshed.result().getRepositories() : null;
+        return GitHubApiClient.pageCount(repositories != null ? repositories.size() : 0);
+    }
+
+    /**
+     * @return true if the search has a mark and its last full refresh is recent enough
+     */
+    private boolean incremental(TrackedSearchEntity search, Instant now) {
+        return search.getHighWaterMark() != null
+                && search.getLastFullRefreshAt() != null
+                && search.getLastFullRefreshAt().plus(fullRefreshInterval).isAfter(now);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.githubsearcher.service.impl;
+
+import com.example.githubsearcher.cache.SearchCacheKey;
+import com.example.githubsearcher.dto.SearchRequestDto;
+import com.example.githubsearcher.dto.TrackedSearchDto;
+import com.example.githubsearcher.entity.TrackedSearchEntity;
+import com.example.githubsearcher.repository.DatabaseConcurrencyLimiter;
+import com.example.githubsearcher.repository.TrackedSearchRepository;
+import com.example.githubsearcher.service.TrackedSearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Implementation of {@link TrackedSearchService}.
+ *
+ * <p>
+ * Tracked searches are stored in {@code tracked_searches} with the
+ * normalized {@link SearchCacheKey} as unique key. The criteria are
+ * stored as given (trimmed), so refreshes send the same query to
+ * GitHub as the original request.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+public class TrackedSearchServiceImpl implements TrackedSearchService {
+
+    /**
+     * Repository of tracked searches.
+     */
+    private final TrackedSearchRepository trackedSearchRepository;
+
+    /**
+     * Bounds concurrent database use.
+     */
+    private final DatabaseConcurrencyLimiter databaseLimiter;
+
+    @Override
+    public TrackedSearchDto track(SearchRequestDto request) {
+
+        String searchKey = SearchCacheKey.of(request).id();
+
+        return databaseLimiter.call(() -> trackedSearchRepository.findBySearchKey(searchKey))
+                .map(TrackedSearchServiceImpl::toDto)
+                .orElseGet(() -> create(request, searchKey));
+    }
+
+    @Override
+    public List<TrackedSearchDto> list() {
+        return databaseLimiter.call(trackedSearchRepository::findAll).stream()
+                .map(TrackedSearchServiceImpl::toDto)
+                .toList();
+    }
+
+    @Override
+    public boolean untrack(Long id) {
+
+        return databaseLimiter.call(() -> {
+
+            if (!trackedSearchRepository.existsById(id)) {
+                return false;
+            }
+
+            trackedSearchRepository.deleteById(id);
+            return true;
+        });
+    }
+
+    private TrackedSearchDto create(SearchRequestDto request, String searchKey) {
+
+        TrackedSearchEntity entity = TrackedSearchEntity.builder()
+                .searchKey(searchKey)
+                .query(request.getQuery().trim())
+                .language(blankToNull(request.getLanguage()))
+                .sort(blankToNull(request.getSort()))
+                .fetchAllPages(Boolean.TRUE.equals(request.getFetchAllPages()))
+                .createdAt(Instant.now())
+                .build();
+
+        try {
+            return toDto(databaseLimiter.call(() -> trackedSearchRepository.save(entity)));
+        } catch (DataIntegrityViolationException ex) {
+            // Tracked concurrently by another request
+            return databaseLimiter.call(() -> trackedSearchRepository.findBySearchKey(searchKey))
+                    .map(TrackedSearchServiceImpl::toDto)
+                    .orElseThrow(() -> ex);
+        }
+    }
+
+    /**
+     * Rebuilds the search request of a tracked search.
+     *
+     * @param entity Tracked search
+     * @return request to run through the ingest path
+     */
+    static SearchRequestDto toRequest(TrackedSearchEntity entity) {
+        return SearchRequestDto.builder()
+                .query(entity.getQuery())
+                .language(entity.getLanguage())
+                .sort(entity.getSort())
+                .fetchAllPages(entity.isFetchAllPages())
+                .build();
+    }
+
+    private static TrackedSearchDto toDto(TrackedSearchEntity entity) {
+        return TrackedSearchDto.builder()
+                .id(entity.getId())
+                .query(entity.getQuery())
+                .language(entity.getLanguage())
+                .sort(entity.getSort())
+                .fetchAllPages(entity.isFetchAllPages())
+                .requestCount(entity.getRequestCount())
+                .lastRefreshedAt(entity.getLastRefreshedAt())
+                .highWaterMark(entity.getHighWaterMark())
+                .lastError(entity.getLastError())
+                .build();
+    }
+
+    private static String blankToNull(String value) {
+        return value != null && !value.isBlank() ? value.trim() : null;
+    }
+}
@@ -0,0 +1,14 @@
+-- Baseline: the repositories table as previously created by Hibernate (ddl-auto=update).
+-- Existing databases are baselined at version 1 and skip this script.
+
+CREATE TABLE IF NOT EXISTS repositories (
+    repo_id      bigint                      NOT NULL,
+    name         varchar(255)                NOT NULL,
+    description  varchar(2000),
+    owner        varchar(255)                NOT NULL,
+    language     varchar(255),
+    stars        integer                     NOT NULL,
+    forks        integer                     NOT NULL,
+    last_updated timestamp(6) with time zone NOT NULL,
+    CONSTRAINT repositories_pkey PRIMARY KEY (repo_id)
+);
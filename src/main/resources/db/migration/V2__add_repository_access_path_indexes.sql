@@ -0,0 +1,28 @@
+-- Indexes for the filter/sort combinations of GET /api/github/repositories.
+--
+-- Every query filters by an optional language and an optional minimum star count,
+-- orders by (sort column DESC, repo_id DESC) and reads limit + 1 rows after a
+-- keyset position. Each index below matches one of these shapes column for column,
+-- so PostgreSQL walks the index in order and stops after the page instead of
+-- scanning and sorting the table.
+
+-- Superseded by the indexes below (previously generated by Hibernate from the entity)
+DROP INDEX IF EXISTS idx_repositories_stars_id;
+DROP INDEX IF EXISTS idx_repositories_forks_id;
+DROP INDEX IF EXISTS idx_repositories_last_updated_id;
+
+-- No language filter
+CREATE INDEX IF NOT EXISTS idx_repositories_stars
+    ON repositories (stars DESC, repo_id DESC);
+CREATE INDEX IF NOT EXISTS idx_repositories_forks
+    ON repositories (forks DESC, repo_id DESC);
+CREATE INDEX IF NOT EXISTS idx_repositories_last_updated
+    ON repositories (last_updated DESC, repo_id DESC);
+
+-- Language filter (equality first, then the sort key)
+CREATE INDEX IF NOT EXISTS idx_repositories_language_stars
+    ON repositories (language, stars DESC, repo_id DESC);
+CREATE INDEX IF NOT EXISTS idx_repositories_language_forks
+    ON repositories (language, forks DESC, repo_id DESC);
+CREATE INDEX IF NOT EXISTS idx_repositories_language_last_updated
+    ON repositories (language, last_updated DESC, repo_id DESC);
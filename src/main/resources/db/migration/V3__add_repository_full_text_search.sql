@@ -0,0 +1,16 @@
+-- Full-text search over stored repositories (GET /api/github/repositories/search).
+--
+-- search_vector is maintained by PostgreSQL on every insert/update, so the write
+-- paths (JPA, bulk upsert, COPY merge) need no changes. Matches in the name rank
+-- above matches in the owner, which rank above matches in the description.
+
+ALTER TABLE repositories
+    ADD COLUMN IF NOT EXISTS search_vector tsvector
+        GENERATED ALWAYS AS (
+            setweight(to_tsvector('english', coalesce(name, '')), 'A')
+                || setweight(to_tsvector('english', coalesce(owner, '')), 'B')
+                || setweight(to_tsvector('english', coalesce(description, '')), 'C')
+        ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_repositories_search_vector
+    ON repositories USING GIN (search_vector);
@@ -0,0 +1,17 @@
+-- Searches refreshed in the background by TrackedSearchRefresher.
+-- search_key is the normalized search (SearchCacheKey.id()), so a search is tracked once.
+
+CREATE TABLE tracked_searches (
+    id                bigserial                   NOT NULL,
+    search_key        varchar(1024)               NOT NULL,
+    query             varchar(256)                NOT NULL,
+    language          varchar(255),
+    sort              varchar(16),
+    fetch_all_pages   boolean                     NOT NULL DEFAULT false,
+    request_count     bigint                      NOT NULL DEFAULT 0,
+    created_at        timestamp(6) with time zone NOT NULL,
+    last_refreshed_at timestamp(6) with time zone,
+    last_error        varchar(1000),
+    CONSTRAINT tracked_searches_pkey PRIMARY KEY (id),
+    CONSTRAINT tracked_searches_search_key_key UNIQUE (search_key)
+);
@@ -0,0 +1,7 @@
+-- Incremental refresh of tracked searches.
+-- high_water_mark: newest updated_at seen, next refresh only asks for repositories pushed after it.
+-- last_full_refresh_at: last refresh without a mark; full refreshes pick up changes a push filter misses.
+
+ALTER TABLE tracked_searches
+    ADD COLUMN high_water_mark      timestamp(6) with time zone,
+    ADD COLUMN last_full_refresh_at timestamp(6) with time zone;
@@ -0,0 +1,35 @@
+-- Partitioned crawls (CrawlServiceImpl).
+-- crawl_slices is both the work queue and the checkpoint: a slice is PENDING until it was
+-- split into child slices or its repositories were stored, so a restarted crawl only
+-- continues with the PENDING slices.
+
+CREATE TABLE crawls (
+    id                 bigserial                   NOT NULL,
+    query              varchar(256)                NOT NULL,
+    language           varchar(255),
+    status             varchar(16)                 NOT NULL,
+    started_at         timestamp(6) with time zone NOT NULL,
+    finished_at        timestamp(6) with time zone,
+    repositories_saved bigint                      NOT NULL DEFAULT 0,
+    last_error         varchar(1000),
+    CONSTRAINT crawls_pkey PRIMARY KEY (id)
+);
+
+CREATE TABLE crawl_slices (
+    id           bigserial                   NOT NULL,
+    crawl_id     bigint                      NOT NULL,
+    min_stars    bigint                      NOT NULL,
+    max_stars    bigint,
+    created_from timestamp(6) with time zone,
+    created_to   timestamp(6) with time zone,
+    status       varchar(16)                 NOT NULL,
+    total_count  integer,
+    fetched      integer,
+    attempts     integer                     NOT NULL DEFAULT 0,
+    last_error   varchar(1000),
+    CONSTRAINT crawl_slices_pkey PRIMARY KEY (id),
+    CONSTRAINT crawl_slices_crawl_id_fkey FOREIGN KEY (crawl_id) REFERENCES crawls (id) ON DELETE CASCADE
+);
+
+-- Next pending slices of a crawl, slice counts per status
+CREATE INDEX idx_crawl_slices_crawl_status ON crawl_slices (crawl_id, status, id);
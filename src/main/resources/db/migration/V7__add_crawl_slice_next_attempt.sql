@@ -0,0 +1,5 @@
+-- Retry backoff of crawl slices.
+-- next_attempt_at: a PENDING slice is not taken before this time; null means right away.
+
+ALTER TABLE crawl_slices
+    ADD COLUMN next_attempt_at timestamp(6) with time zone;
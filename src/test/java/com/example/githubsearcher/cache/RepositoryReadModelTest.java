@@ -0,0 +1,146 @@
+package com.example.githubsearcher.cache;
+
+import com.example.githubsearcher.dto.RepositoryResponseDto;
+import com.example.githubsearcher.entity.RepositoryEntity;
+import com.example.githubsearcher.repository.RepositoryEntityRepository;
+import com.example.githubsearcher.repository.specification.RepositoryCursor;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+class RepositoryReadModelTest {
+
+    @Test
+    void find_filtersAndSortsLikeTheDatabase() {
+
+        RepositoryReadModel model = loaded(4096,
+                entity(1L, "java", 50, 3, 100),
+                entity(2L, "go", 80, 1, 200),
+                entity(3L, "java", 80, 2, 300),
+                entity(4L, null, 10, 9, 400));
+
+        assertEquals(List.of(3L, 2L, 1L, 4L), ids(model.find(null, null, "stars", null, 10)));
+        assertEquals(List.of(3L, 1L), ids(model.find("java", null, "stars", null, 10)));
+        assertEquals(List.of(3L, 2L), ids(model.find(null, 60, "stars", null, 10)));
+        assertEquals(List.of(4L, 1L, 3L, 2L), ids(model.find(null, null, "forks", null, 10)));
+        assertEquals(List.of(4L, 3L), ids(model.find(null, null, "updated", null, 2)));
+        assertTrue(model.find("rust", null, "stars", null, 10).isEmpty());
+    }
+
+    @Test
+    void find_continuesAfterCursor() {
+
+        RepositoryReadModel model = loaded(4096,
+                entity(1L, "java", 50, 3, 100),
+                entity(2L, "go", 80, 1, 200),
+                entity(3L, "java", 80, 2, 300));
+
+        assertEquals(List.of(2L, 1L), ids(model.find(null, null, "stars", new RepositoryCursor("stars", "80", 3L), 10)));
+        assertEquals(List.of(1L), ids(model.find(null, null, "updated",
+                new RepositoryCursor("updated", Instant.ofEpochSecond(200).toString(), 2L), 10)));
+    }
+
+    @Test
+    void apply_replacesOnlyWithNewerRows() {
+
+        RepositoryReadModel model = loaded(4096,
+                entity(1L, "java", 50, 3, 100),
+                entity(2L, "go", 80, 1, 200));
+
+        model.apply(List.of(
+                entity(1L, "java", 500, 3, 150),   // newer: replaces
+                entity(2L, "go", 999, 1, 200),     // not newer: skipped
+                entity(3L, "rust", 60, 1, 300)));  // new
+
+        List<RepositoryResponseDto> rows = model.find(null, null, "stars", null, 10);
+
+        assertEquals(List.of(1L, 2L, 3L), ids(rows));
+        assertEquals(500, rows.get(0).getStars());
+        assertEquals(80, rows.get(1).getStars());
+        assertEquals(3, model.size());
+        assertEquals(List.of(3L), ids(model.find("rust", null, "stars", null, 10)));
+    }
+
+    @Test
+    void apply_skipsNewerRowsWithSameContent() {
+
+        RepositoryReadModel model = loaded(4096, entity(1L, "java", 50, 3, 100));
+
+        model.apply(List.of(entity(1L, "java", 50, 3, 150)));
+
+        assertEquals(Instant.ofEpochSecond(100),
+                model.find(null, null, "stars", null, 10).get(0).getLastUpdated());
+    }
+
+    @Test
+    void find_breaksTiesByIdDescending() {
+
+        RepositoryReadModel model = loaded(4096,
+                entity(7L, "java", 10, 1, 5_000_000_000L),
+                entity(3L, "java", 10, 1, 5_000_000_000L),
+                entity(9L, "java", 5, 1, 100),
+                entity(12L, "java", 10, 1, 100));
+
+        assertEquals(List.of(12L, 7L, 3L, 9L), ids(model.find(null, null, "stars", null, 10)));
+        assertEquals(List.of(7L, 3L, 12L, 9L), ids(model.find(null, null, "updated", null, 10)));
+    }
+
+    @Test
+    void apply_compactsLargeDeltaIntoBase() {
+
+        RepositoryReadModel model = loaded(1, entity(1L, "java", 50, 3, 100));
+
+        model.apply(List.of(entity(2L, "go", 80, 1, 200)));
+        model.apply(List.of(entity(1L, "java", 90, 3, 300), entity(3L, "go", 70, 1, 300)));
+
+        assertEquals(List.of(1L, 2L, 3L), ids(model.find(null, null, "stars", null, 10)));
+        assertEquals(3, model.size());
+    }
+
+    @Test
+    void disabledModelIsNeverReady() {
+
+        RepositoryEntityRepository repository = mock(RepositoryEntityRepository.class);
+        RepositoryReadModel model = new RepositoryReadModel(
+                repository, mock(PlatformTransactionManager.class), false, 100, 10);
+
+        model.onApplicationReady();
+        model.apply(List.of(entity(1L, "java", 1, 1, 1)));
+
+        assertFalse(model.isReady());
+        verifyNoInteractions(repository);
+    }
+
+    private RepositoryReadModel loaded(int compactThreshold, RepositoryEntity... rows) {
+
+        RepositoryEntityRepository repository = mock(RepositoryEntityRepository.class);
+        when(repository.count()).thenReturn((long) rows.length);
+        when(repository.streamAll(isNull(), anyInt())).thenReturn(Stream.of(rows));
+
+        RepositoryReadModel model = new RepositoryReadModel(
+                repository, mock(PlatformTransactionManager.class), true, 100, compactThreshold);
+        model.onApplicationReady();
+
+        assertTrue(model.isReady());
+        return model;
+    }
+
+    private static List<Long> ids(List<RepositoryResponseDto> rows) {
+        return rows.stream().map(RepositoryResponseDto::getId).toList();
+    }
+
+    private static RepositoryEntity entity(Long id, String language, int stars, int forks, long updatedSeconds) {
+        return RepositoryEntity.builder()
+                .id(id).name("repo" + id).owner("owner" + id).language(language)
+                .stars(stars).forks(forks).lastUpdated(Instant.ofEpochSecond(updatedSeconds))
+                .build();
+    }
+}
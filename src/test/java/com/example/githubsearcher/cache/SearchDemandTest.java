@@ -0,0 +1,54 @@
+package com.example.githubsearcher.cache;
+
+import com.example.githubsearcher.dto.SearchRequestDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchDemandTest {
+
+    @Test
+    void record_isNoOpWhenTrackingDisabled() {
+
+        SearchDemand demand = new SearchDemand(false, 100);
+
+        for (int i = 0; i < 1_000; i++) {
+            demand.record(key("query-" + i));
+        }
+
+        assertEquals(0, demand.size());
+        assertTrue(demand.drain().isEmpty());
+    }
+
+    @Test
+    void record_staysWithinMaxKeys() {
+
+        SearchDemand demand = new SearchDemand(true, 100);
+
+        for (int i = 0; i < 1_000; i++) {
+            demand.record(key("query-" + i));
+        }
+
+        assertTrue(demand.size() <= 100);
+    }
+
+    @Test
+    void drain_returnsAndResetsCounts() {
+
+        SearchDemand demand = new SearchDemand(true, 100);
+
+        demand.record(key("spring"));
+        demand.record(key("Spring"));
+        demand.record(key("reactor"));
+
+        assertEquals(Map.of(key("spring"), 2L, key("reactor"), 1L), demand.drain());
+        assertEquals(0, demand.size());
+        assertTrue(demand.drain().isEmpty());
+    }
+
+    private static SearchCacheKey key(String query) {
+        return SearchCacheKey.of(SearchRequestDto.builder().query(query).build());
+    }
+}
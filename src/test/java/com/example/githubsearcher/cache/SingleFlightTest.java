@@ -0,0 +1,152 @@
+package com.example.githubsearcher.cache;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    @Test
+    void execute_coalescesConcurrentCallers() throws Exception {
+
+        SingleFlight<String, String> flights = new SingleFlight<>();
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            Future<String> leader = executor.submit(() -> flights.execute("spring", () -> {
+                executions.incrementAndGet();
+                leaderStarted.countDown();
+                await(release);
+                return "result";
+            }));
+
+            assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+
+            List<Future<String>> followers = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                followers.add(executor.submit(() -> flights.execute("spring", () -> {
+                    executions.incrementAndGet();
+                    return "other";
+                })));
+            }
+
+            // Give the followers time to join the leader's flight
+            Thread.sleep(200);
+            release.countDown();
+
+            assertEquals("result", leader.get(5, TimeUnit.SECONDS));
+            for (Future<String> follower : followers) {
+                assertEquals("result", follower.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, executions.get());
+            assertEquals(0, flights.inFlightCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void executeReactive_sharesFlightWithoutBlocking() {
+
+        SingleFlight<String, String> flights = new SingleFlight<>();
+        AtomicInteger subscriptions = new AtomicInteger();
+        Sinks.One<String> upstream = Sinks.one();
+
+        Mono<String> leader = flights.executeReactive("spring",
+                () -> upstream.asMono().doOnSubscribe(s -> subscriptions.incrementAndGet()));
+        Mono<String> follower = flights.executeReactive("spring", () -> Mono.just("other"));
+
+        AtomicInteger completed = new AtomicInteger();
+        List<String> results = new ArrayList<>();
+        leader.subscribe(value -> { results.add(value); completed.incrementAndGet(); });
+        follower.subscribe(value -> { results.add(value); completed.incrementAndGet(); });
+
+        assertEquals(0, completed.get());
+        assertEquals(1, flights.inFlightCount());
+
+        upstream.tryEmitValue("result");
+
+        assertEquals(List.of("result", "result"), results);
+        assertEquals(1, subscriptions.get());
+        assertEquals(0, flights.inFlightCount());
+    }
+
+    @Test
+    void execute_propagatesFailureAndReleasesKey() {
+
+        SingleFlight<String, String> flights = new SingleFlight<>();
+
+        assertThrows(IllegalStateException.class, () -> flights.execute("spring", () -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        assertEquals("ok", flights.execute("spring", () -> "ok"));
+        assertEquals(0, flights.inFlightCount());
+    }
+
+    @Test
+    void claim_letsLaterCallersJoinUntilCompleted() throws Exception {
+
+        SingleFlight<String, String> flights = new SingleFlight<>();
+
+        assertNull(flights.claim("spring"));
+        CompletableFuture<String> joined = flights.claim("spring");
+        assertNotNull(joined);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            Future<String> follower = executor.submit(() -> flights.execute("spring", () -> "other"));
+
+            // Give the follower time to join the claimed flight
+            Thread.sleep(200);
+            flights.complete("spring", "result");
+
+            assertEquals("result", joined.get(5, TimeUnit.SECONDS));
+            assertEquals("result", follower.get(5, TimeUnit.SECONDS));
+            assertEquals(0, flights.inFlightCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void fail_passesFailureToJoinedCallers() {
+
+        SingleFlight<String, String> flights = new SingleFlight<>();
+
+        assertNull(flights.claim("spring"));
+        CompletableFuture<String> joined = flights.claim("spring");
+
+        flights.fail("spring", new IllegalStateException("boom"));
+
+        ExecutionException ex = assertThrows(ExecutionException.class, joined::get);
+        assertInstanceOf(IllegalStateException.class, ex.getCause());
+        assertEquals(0, flights.inFlightCount());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.githubsearcher.client;
 
+import com.example.githubsearcher.dto.github.GitHubRepositoryDto;
 import com.example.githubsearcher.dto.github.GitHubSearchResponseDto;
 import com.example.githubsearcher.exception.GitHubApiException;
 import org.junit.jupiter.api.BeforeEach;
@@ -7,17 +8,25 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.Collections;
+import java.util.List;
 import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 class GitHubApiClientTest {
@@ -34,12 +43,16 @@ class GitHubApiClientTest {
     @Mock
     private WebClient.ResponseSpec responseSpec;
 
+    @Spy
+    private GitHubResponseCache responseCache = new GitHubResponseCache(DataSize.ofMegabytes(1));
+
     @InjectMocks
     private GitHubApiClient gitHubApiClient;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(gitHubApiClient, "pageConcurrency", 2);
     }
 
     private void mockSuccessFlow(GitHubSearchResponseDto dto) {
@@ -49,8 +62,8 @@ class GitHubApiClientTest {
         when(headersSpec.retrieve()).thenReturn(responseSpec);
 
         when(responseSpec.onStatus(any(), any())).thenReturn(responseSpec);
-        when(responseSpec.bodyToMono(GitHubSearchResponseDto.class))
-                .thenReturn(Mono.just(dto));
+        when(responseSpec.toEntity(GitHubSearchResponseDto.class))
+                .thenReturn(Mono.just(ResponseEntity.ok(dto)));
     }
 
     @Test
@@ -131,4 +144,128 @@ class GitHubApiClientTest {
 
         assertNotNull(result);
     }
+
+    @Test
+    void buildQuery_appendsPushedQualifierForHighWaterMark() {
+
+        assertEquals("spring language:Java",
+                GitHubApiClient.buildQuery("spring", "Java", null));
+        assertEquals("spring pushed:>2026-02-11T10:15:30Z",
+                GitHubApiClient.buildQuery("spring", " ", Instant.parse("2026-02-11T10:15:30.123Z")));
+    }
+
+    @Test
+    void searchAllRepositories_mergesPagesAndRemovesDuplicates() {
+
+        GitHubSearchResponseDto page1 =
+                new GitHubSearchResponseDto(List.of(repo(1L), repo(2L)), 150);
+        GitHubSearchResponseDto page2 =
+                new GitHubSearchResponseDto(List.of(repo(2L), repo(3L)), 150);
+
+        when(webClient.get()).thenReturn(uriSpec);
+        when(uriSpec.uri(any(Function.class))).thenReturn(headersSpec);
+        when(headersSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.onStatus(any(), any())).thenReturn(responseSpec);
+        when(responseSpec.toEntity(GitHubSearchResponseDto.class))
+                .thenReturn(Mono.just(ResponseEntity.ok(page1)))
+                .thenReturn(Mono.just(ResponseEntity.ok(page2)));
+
+        GitHubSearchResponseDto result =
+                gitHubApiClient.searchAllRepositories("spring", "Java", "stars");
+
+        assertEquals(150, result.getTotalCount());
+        assertEquals(List.of(1L, 2L, 3L),
+                result.getItems().stream().map(GitHubRepositoryDto::getId).toList());
+        verify(responseSpec, times(2)).toEntity(GitHubSearchResponseDto.class);
+    }
+
+    @Test
+    void searchAllRepositories_singlePage() {
+
+        GitHubSearchResponseDto page1 =
+                new GitHubSearchResponseDto(List.of(repo(1L)), 1);
+
+        when(webClient.get()).thenReturn(uriSpec);
+        when(uriSpec.uri(any(Function.class))).thenReturn(headersSpec);
+        when(headersSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.onStatus(any(), any())).thenReturn(responseSpec);
+        when(responseSpec.toEntity(GitHubSearchResponseDto.class))
+                .thenReturn(Mono.just(ResponseEntity.ok(page1)));
+
+        GitHubSearchResponseDto result =
+                gitHubApiClient.searchAllRepositories("spring", null, null);
+
+        assertEquals(1, result.getItems().size());
+        verify(responseSpec, times(1)).toEntity(GitHubSearchResponseDto.class);
+    }
+
+    @Test
+    void resolveLastPage_prefersLinkHeader() {
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(HttpHeaders.LINK,
+                "<https://api.github.com/search/repositories?q=spring&per_page=100&page=2>; rel=\"next\", "
+                        + "<https://api.github.com/search/repositories?q=spring&per_page=100&page=7>; rel=\"last\"");
+
+        assertEquals(7, GitHubApiClient.resolveLastPage(headers, 5000));
+    }
+
+    @Test
+    void resolveLastPage_capsAtSearchLimit() {
+
+        assertEquals(10, GitHubApiClient.resolveLastPage(new HttpHeaders(), 250_000));
+        assertEquals(3, GitHubApiClient.resolveLastPage(new HttpHeaders(), 201));
+        assertEquals(1, GitHubApiClient.resolveLastPage(new HttpHeaders(), 0));
+    }
+
+    @Test
+    void searchRepositories_servesCachedBodyOnNotModified() {
+
+        GitHubSearchResponseDto dto =
+                new GitHubSearchResponseDto(List.of(repo(1L)), 1);
+
+        when(webClient.get()).thenReturn(uriSpec);
+        when(uriSpec.uri(any(Function.class))).thenReturn(headersSpec);
+        when(headersSpec.header(anyString(), anyString())).thenReturn(headersSpec);
+        when(headersSpec.retrieve()).thenReturn(responseSpec);
+        when(responseSpec.onStatus(any(), any())).thenReturn(responseSpec);
+        when(responseSpec.toEntity(GitHubSearchResponseDto.class))
+                .thenReturn(Mono.just(ResponseEntity.ok().eTag("\"abc\"").body(dto)))
+                .thenReturn(Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .<GitHubSearchResponseDto>build()));
+
+        GitHubSearchResponseDto first =
+                gitHubApiClient.searchRepositories("spring", "Java", "stars");
+        GitHubSearchResponseDto second =
+                gitHubApiClient.searchRepositories("spring", "Java", "stars");
+
+        assertSame(first, second);
+        assertEquals(1, responseCache.size());
+        verify(headersSpec, times(1)).header(HttpHeaders.IF_NONE_MATCH, "\"abc\"");
+    }
+
+    @Test
+    void responseCache_evictsLeastRecentlyUsed() {
+
+        GitHubSearchResponseDto body = new GitHubSearchResponseDto(List.of(repo(1L)), 1);
+        long entryBytes = GitHubResponseCache.estimateBytes(body);
+
+        GitHubResponseCache cache = new GitHubResponseCache(DataSize.ofBytes(entryBytes * 2));
+        cache.put("a", "etag-a", body);
+        cache.put("b", "etag-b", body);
+        cache.get("a");
+        cache.put("c", "etag-c", body);
+
+        assertNotNull(cache.get("a"));
+        assertNull(cache.get("b"));
+        assertNotNull(cache.get("c"));
+        assertEquals(entryBytes * 2, cache.sizeInBytes());
+    }
+
+    private GitHubRepositoryDto repo(Long id) {
+        GitHubRepositoryDto dto = new GitHubRepositoryDto();
+        dto.setId(id);
+        dto.setName("repo" + id);
+        return dto;
+    }
 }
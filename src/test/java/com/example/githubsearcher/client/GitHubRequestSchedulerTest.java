@@ -0,0 +1,201 @@
+package com.example.githubsearcher.client;
+
+import com.example.githubsearcher.exception.GitHubRateLimitException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GitHubRequestSchedulerTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+
+    private final Clock clock = Clock.fixed(Instant.ofEpochMilli(NOW), ZoneOffset.UTC);
+
+    @Test
+    void bucket_allowsBurstThenPaces() {
+
+        RateLimitBucket bucket = new RateLimitBucket(2, 60, NOW);
+
+        assertEquals(0, bucket.reserve(NOW, 10_000));
+        assertEquals(0, bucket.reserve(NOW, 10_000));
+
+        // 60 requests per minute -> one token per second
+        assertEquals(1_000, bucket.reserve(NOW, 10_000));
+        assertEquals(2_000, bucket.reserve(NOW, 10_000));
+    }
+
+    @Test
+    void bucket_rejectsWhenWaitExceedsLimit() {
+
+        RateLimitBucket bucket = new RateLimitBucket(1, 60, NOW);
+
+        assertEquals(0, bucket.reserve(NOW, 500));
+        assertEquals(-1, bucket.reserve(NOW, 500));
+    }
+
+    @Test
+    void bucket_waitsForResetWhenQuotaExhausted() {
+
+        RateLimitBucket bucket = new RateLimitBucket(10, 30, NOW);
+        bucket.record(30, 0, NOW + 20_000);
+
+        assertEquals(20_000, bucket.peekWait(NOW));
+        assertEquals(0, bucket.peekWait(NOW + 20_000));
+    }
+
+    @Test
+    void bucket_pacesRemainingQuotaUntilReset() {
+
+        RateLimitBucket bucket = new RateLimitBucket(1, 30, NOW);
+        bucket.record(30, 10, NOW + 10_000);
+
+        assertEquals(0, bucket.reserve(NOW, 60_000));
+        // 9 remaining over 10 seconds
+        assertEquals(1_112, bucket.reserve(NOW, 60_000));
+    }
+
+    @Test
+    void pool_sumsReportedQuotaOfAllTokens() {
+
+        GitHubTokenPool pool = new GitHubTokenPool(List.of("a", "b", "c"), 10, 30, NOW);
+
+        assertFalse(pool.quota(NOW).known());
+
+        pool.reserve(NOW, 0).credential().bucket().record(30, 12, NOW + 40_000);
+        pool.reserve(NOW, 0).credential().bucket().record(30, 20, NOW + 50_000);
+
+        // The third token has not seen a response and is left out
+        assertEquals(new QuotaSnapshot(60, 32, NOW + 50_000), pool.quota(NOW));
+
+        // After the first reset its window counts as refilled
+        assertEquals(new QuotaSnapshot(60, 50, NOW + 50_000), pool.quota(NOW + 45_000));
+    }
+
+    @Test
+    void filter_blocksOnRetryAfter() {
+
+        GitHubRequestScheduler scheduler =
+                new GitHubRequestScheduler(10, 30, Duration.ofSeconds(5), 0, clock);
+
+        ExchangeFunction limited = request -> Mono.just(ClientResponse.create(HttpStatus.FORBIDDEN)
+                .header(HttpHeaders.RETRY_AFTER, "30")
+                .header(GitHubRequestScheduler.REMAINING_HEADER, "12")
+                .build());
+
+        ClientResponse response = scheduler.filter(request(), limited).block();
+        assertEquals(HttpStatus.FORBIDDEN, response.statusCode());
+
+        ExchangeFunction next = request -> Mono.just(ClientResponse.create(HttpStatus.OK).build());
+
+        GitHubRateLimitException ex = assertThrows(GitHubRateLimitException.class,
+                () -> scheduler.filter(request(), next).block());
+
+        assertEquals(Duration.ofSeconds(30), ex.getRetryAfter());
+    }
+
+    @Test
+    void record_ignoresRegularResponses() {
+
+        GitHubRequestScheduler scheduler =
+                new GitHubRequestScheduler(10, 30, Duration.ofSeconds(5), 0, clock);
+
+        ClientResponse response = ClientResponse.create(HttpStatus.FORBIDDEN)
+                .header(GitHubRequestScheduler.REMAINING_HEADER, "12")
+                .build();
+
+        assertFalse(scheduler.record(response, new RateLimitBucket(10, 30, NOW)));
+    }
+
+    @Test
+    void filter_routesToTokenWithMostHeadroom() {
+
+        GitHubRequestScheduler scheduler =
+                new GitHubRequestScheduler(10, 30, Duration.ofSeconds(5), 0, clock);
+        scheduler.configureTokens(List.of("token-a", "token-b"));
+
+        List<String> used = new ArrayList<>();
+        long reset = (NOW / 1000) + 60;
+
+        // token-a is exhausted, token-b still has quota
+        ExchangeFunction next = request -> {
+            String auth = request.headers().getFirst(HttpHeaders.AUTHORIZATION);
+            used.add(auth);
+            return Mono.just(ClientResponse.create(HttpStatus.OK)
+                    .header(GitHubRequestScheduler.LIMIT_HEADER, "30")
+                    .header(GitHubRequestScheduler.REMAINING_HEADER,
+                            "Bearer token-a".equals(auth) ? "0" : "25")
+                    .header(GitHubRequestScheduler.RESET_HEADER, String.valueOf(reset))
+                    .build());
+        };
+
+        scheduler.filter(request(), next).block();
+        scheduler.filter(request(), next).block();
+        scheduler.filter(request(), next).block();
+        scheduler.filter(request(), next).block();
+
+        assertEquals(2, scheduler.credentialCount());
+        assertEquals(List.of("Bearer token-a", "Bearer token-b", "Bearer token-b", "Bearer token-b"), used);
+    }
+
+    @Test
+    void filter_sendsNoAuthorizationWithoutTokens() {
+
+        GitHubRequestScheduler scheduler =
+                new GitHubRequestScheduler(10, 30, Duration.ofSeconds(5), 0, clock);
+        scheduler.configureTokens(List.of(" ", ""));
+
+        ExchangeFunction next = request -> {
+            assertNull(request.headers().getFirst(HttpHeaders.AUTHORIZATION));
+            return Mono.just(ClientResponse.create(HttpStatus.OK).build());
+        };
+
+        scheduler.filter(request(), next).block();
+
+        assertEquals(1, scheduler.credentialCount());
+    }
+
+    @Test
+    void filter_retriesRateLimitedResponseWithinMaxWait() {
+
+        GitHubRequestScheduler scheduler =
+                new GitHubRequestScheduler(10, 30, Duration.ofSeconds(5), 1, clock);
+
+        AtomicInteger calls = new AtomicInteger();
+
+        ExchangeFunction next = request -> Mono.fromSupplier(() ->
+                calls.incrementAndGet() == 1
+                        ? ClientResponse.create(HttpStatus.TOO_MANY_REQUESTS)
+                                .header(HttpHeaders.RETRY_AFTER, "0")
+                                .build()
+                        : ClientResponse.create(HttpStatus.OK).build());
+
+        ClientResponse response = scheduler.filter(request(), next).block();
+
+        assertNotNull(response);
+        assertEquals(HttpStatus.OK, response.statusCode());
+        assertEquals(2, calls.get());
+    }
+
+    private ClientRequest request() {
+        return ClientRequest.create(
+                HttpMethod.GET,
+                URI.create("https://api.github.com/search/repositories?q=spring")
+        ).build();
+    }
+}
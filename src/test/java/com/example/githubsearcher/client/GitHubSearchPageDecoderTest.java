@@ -0,0 +1,132 @@
+package com.example.githubsearcher.client;
+
+import com.example.githubsearcher.dto.github.GitHubRepositoryDto;
+import com.example.githubsearcher.exception.GitHubApiException;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GitHubSearchPageDecoderTest {
+
+    private static final String PAGE = """
+            {
+              "total_count": 2,
+              "incomplete_results": false,
+              "items": [
+                {
+                  "id": 1,
+                  "node_id": "R_1",
+                  "name": "spring-boot",
+                  "owner": {"login": "spring-projects", "id": 317776, "type": "Organization"},
+                  "description": "Spring Boot {with} \\"braces\\" [and] brackets",
+                  "topics": ["java", "spring", {"nested": [1, 2, 3]}],
+                  "license": {"key": "apache-2.0", "name": "Apache License 2.0"},
+                  "stargazers_count": 75000,
+                  "forks_count": 40000,
+                  "language": "Java",
+                  "updated_at": "2026-02-11T00:00:00Z",
+                  "score": 1.0
+                },
+                {
+                  "id": 2,
+                  "name": "empty",
+                  "owner": null,
+                  "description": null,
+                  "language": null,
+                  "stargazers_count": 0,
+                  "forks_count": 0,
+                  "updated_at": "2026-01-01T12:00:00Z"
+                }
+              ]
+            }
+            """;
+
+    @Test
+    void decode_emitsItemsAcrossArbitraryChunkBoundaries() {
+
+        for (int chunkSize : new int[]{1, 7, 64, PAGE.length()}) {
+
+            GitHubSearchPageDecoder decoder = new GitHubSearchPageDecoder(JsonMapper.builder().build());
+
+            List<GitHubRepositoryDto> items = decoder.decode(chunks(PAGE, chunkSize)).collectList().block();
+
+            assertNotNull(items);
+            assertEquals(2, items.size(), "chunk size " + chunkSize);
+            assertEquals(2, decoder.totalCount());
+
+            GitHubRepositoryDto first = items.get(0);
+            assertEquals(1L, first.getId());
+            assertEquals("spring-boot", first.getName());
+            assertEquals("spring-projects", first.getOwner().getLogin());
+            assertEquals("Spring Boot {with} \"braces\" [and] brackets", first.getDescription());
+            assertEquals(75000, first.getStars());
+            assertEquals(40000, first.getForks());
+            assertEquals("Java", first.getLanguage());
+            assertEquals(Instant.parse("2026-02-11T00:00:00Z"), first.getUpdatedAt());
+
+            GitHubRepositoryDto second = items.get(1);
+            assertEquals(2L, second.getId());
+            assertNull(second.getOwner());
+            assertNull(second.getLanguage());
+        }
+    }
+
+    @Test
+    void feed_emitsEachItemOnceItsObjectIsComplete() {
+
+        GitHubSearchPageDecoder decoder = new GitHubSearchPageDecoder(JsonMapper.builder().build());
+        int secondItem = PAGE.indexOf("\"id\": 2");
+
+        List<GitHubRepositoryDto> beforeSecond = decoder.feed(buffer(PAGE.substring(0, secondItem)));
+        List<GitHubRepositoryDto> rest = new ArrayList<>(decoder.feed(buffer(PAGE.substring(secondItem))));
+        rest.addAll(decoder.finish());
+
+        assertEquals(List.of(1L), beforeSecond.stream().map(GitHubRepositoryDto::getId).toList());
+        assertEquals(List.of(2L), rest.stream().map(GitHubRepositoryDto::getId).toList());
+    }
+
+    @Test
+    void decode_emptyBodyHasNoItems() {
+
+        GitHubSearchPageDecoder decoder = new GitHubSearchPageDecoder(JsonMapper.builder().build());
+
+        assertEquals(List.of(), decoder.decode(Flux.empty()).collectList().block());
+        assertNull(decoder.totalCount());
+    }
+
+    @Test
+    void decode_failsOnTruncatedBody() {
+
+        GitHubSearchPageDecoder decoder = new GitHubSearchPageDecoder(JsonMapper.builder().build());
+        Flux<DataBuffer> truncated = chunks(PAGE.substring(0, PAGE.indexOf("\"id\": 2")), 16);
+
+        assertThrows(GitHubApiException.class, () -> decoder.decode(truncated).collectList().block());
+    }
+
+    private static Flux<DataBuffer> chunks(String json, int chunkSize) {
+
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        List<DataBuffer> buffers = new ArrayList<>();
+
+        for (int offset = 0; offset < bytes.length; offset += chunkSize) {
+            buffers.add(DefaultDataBufferFactory.sharedInstance.wrap(
+                    Arrays.copyOfRange(bytes, offset, Math.min(bytes.length, offset + chunkSize))));
+        }
+
+        return Flux.fromIterable(buffers);
+    }
+
+    private static DataBuffer buffer(String json) {
+        return DefaultDataBufferFactory.sharedInstance.wrap(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,14 +1,35 @@
 package com.example.githubsearcher.config;
 
+import com.example.githubsearcher.client.GitHubRequestScheduler;
+import io.netty.handler.timeout.ReadTimeoutException;
 import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 class WebClientConfigTest {
 
+    private static final GitHubTransportProperties TRANSPORT = bind(Map.of());
+
     @Test
     void gitHubWebClient_shouldCreateBeanWithoutToken() {
 
@@ -17,7 +38,7 @@ class WebClientConfigTest {
         ReflectionTestUtils.setField(config, "baseUrl", "https://api.github.com");
         ReflectionTestUtils.setField(config, "token", "");
 
-        WebClient webClient = config.gitHubWebClient();
+        WebClient webClient = config.gitHubWebClient(scheduler(), config.gitHubConnectionProvider(TRANSPORT), TRANSPORT);
 
         assertNotNull(webClient);
     }
@@ -30,7 +51,7 @@ class WebClientConfigTest {
         ReflectionTestUtils.setField(config, "baseUrl", "https://api.github.com");
         ReflectionTestUtils.setField(config, "token", "test-token");
 
-        WebClient webClient = config.gitHubWebClient();
+        WebClient webClient = config.gitHubWebClient(scheduler(), config.gitHubConnectionProvider(TRANSPORT), TRANSPORT);
 
         assertNotNull(webClient);
 
@@ -50,8 +71,101 @@ class WebClientConfigTest {
         ReflectionTestUtils.setField(config, "baseUrl", "https://api.github.com");
         ReflectionTestUtils.setField(config, "token", null);
 
-        WebClient webClient = config.gitHubWebClient();
+        WebClient webClient = config.gitHubWebClient(scheduler(), config.gitHubConnectionProvider(TRANSPORT), TRANSPORT);
 
         assertNotNull(webClient);
     }
+
+    private GitHubRequestScheduler scheduler() {
+        return new GitHubRequestScheduler(10, 30, Duration.ofSeconds(30), 1);
+    }
+
+    @Test
+    void transportProperties_shouldBindDefaultsAndOverrides() {
+
+        assertEquals(50, TRANSPORT.maxConnections());
+        assertTrue(TRANSPORT.compression());
+        assertFalse(TRANSPORT.http2());
+        assertEquals(DataSize.ofMegabytes(4), TRANSPORT.maxInMemorySize());
+
+        GitHubTransportProperties tuned = bind(Map.of(
+                "github.api.transport.max-connections", "8",
+                "github.api.transport.http2", "true",
+                "github.api.transport.response-timeout", "2s",
+                "github.api.transport.max-in-memory-size", "16MB"));
+
+        assertEquals(8, tuned.maxConnections());
+        assertTrue(tuned.http2());
+        assertEquals(Duration.ofSeconds(2), tuned.responseTimeout());
+        assertEquals(DataSize.ofMegabytes(16), tuned.maxInMemorySize());
+
+        HttpClient client = WebClientConfig.httpClient(ConnectionProvider.newConnection(), tuned);
+        assertArrayEquals(new HttpProtocol[]{HttpProtocol.H2, HttpProtocol.HTTP11},
+                client.configuration().protocols());
+        assertEquals(Duration.ofSeconds(2), client.configuration().responseTimeout());
+    }
+
+    @Test
+    void httpClient_shouldApplyReadTimeoutOnPooledConnection() throws InterruptedException {
+
+        AtomicInteger requests = new AtomicInteger();
+        Set<InetSocketAddress> clients = ConcurrentHashMap.newKeySet();
+        DisposableServer server = HttpServer.create()
+                .port(0)
+                .handle((request, response) -> {
+                    clients.add(request.remoteAddress());
+                    return response.sendString(requests.incrementAndGet() == 1
+                            ? Mono.just("first")
+                            : Mono.delay(Duration.ofSeconds(2)).thenReturn("second"));
+                })
+                .bindNow();
+        ConnectionProvider provider = ConnectionProvider.builder("test").maxConnections(1).build();
+
+        try {
+            GitHubTransportProperties transport = bind(Map.of(
+                    "github.api.transport.read-timeout", "200ms",
+                    "github.api.transport.response-timeout", "10s"));
+            HttpClient client = WebClientConfig.httpClient(provider, transport)
+                    .baseUrl("http://localhost:" + server.port());
+
+            assertEquals("first", client.get().uri("/").responseContent().aggregate().asString()
+                    .block(Duration.ofSeconds(5)));
+
+            // idle longer than the read timeout; the pooled connection must survive it
+            Thread.sleep(500);
+
+            Exception failure = assertThrows(Exception.class, () -> client.get().uri("/")
+                    .responseContent().aggregate().asString().block(Duration.ofSeconds(5)));
+
+            assertInstanceOf(ReadTimeoutException.class, rootCause(failure));
+            assertEquals(1, clients.size());
+        } finally {
+            provider.disposeLater().block(Duration.ofSeconds(5));
+            server.disposeNow();
+        }
+    }
+
+    private static Throwable rootCause(Throwable failure) {
+        Throwable cause = failure;
+        while (cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    private static GitHubTransportProperties bind(Map<String, String> properties) {
+        return new Binder(new MapConfigurationPropertySource(properties))
+                .bindOrCreate("github.api.transport", GitHubTransportProperties.class);
+    }
+
+    @Test
+    void resolveTokens_shouldCombineSingleTokenAndTokenList() {
+
+        WebClientConfig config = new WebClientConfig();
+
+        ReflectionTestUtils.setField(config, "token", "token-a");
+        ReflectionTestUtils.setField(config, "tokens", List.of("token-b", "token-c"));
+
+        assertEquals(List.of("token-a", "token-b", "token-c"), config.resolveTokens());
+    }
 }
@@ -0,0 +1,32 @@
+package com.example.githubsearcher.dto;
+
+import com.example.githubsearcher.exception.UnsupportedExportFormatException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExportFormatTest {
+
+    @Test
+    void from_resolvesKnownFormatsIgnoringCase() {
+
+        assertEquals(ExportFormat.CSV, ExportFormat.from("CSV"));
+        assertEquals(ExportFormat.NDJSON, ExportFormat.from("ndjson"));
+    }
+
+    @Test
+    void from_defaultsToNdjsonWithoutValue() {
+
+        assertEquals(ExportFormat.NDJSON, ExportFormat.from(null));
+        assertEquals(ExportFormat.NDJSON, ExportFormat.from(" "));
+    }
+
+    @Test
+    void from_rejectsUnknownFormat() {
+
+        UnsupportedExportFormatException ex = assertThrows(UnsupportedExportFormatException.class,
+                () -> ExportFormat.from("xml"));
+
+        assertTrue(ex.getMessage().contains("xml"));
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.githubsearcher.repository;
+
+import com.example.githubsearcher.exception.DatabaseBusyException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DatabaseConcurrencyLimiterTest {
+
+    @Test
+    void call_boundsConcurrencyOnVirtualThreads() throws Exception {
+
+        DatabaseConcurrencyLimiter limiter = new DatabaseConcurrencyLimiter(3, Duration.ofSeconds(10));
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                int value = i;
+                results.add(executor.submit(() -> limiter.call(() -> {
+                    maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                    sleep(2);
+                    active.decrementAndGet();
+                    return value;
+                })));
+            }
+
+            for (int i = 0; i < results.size(); i++) {
+                assertEquals(i, results.get(i).get(10, TimeUnit.SECONDS));
+            }
+        }
+
+        assertTrue(maxActive.get() <= 3);
+        assertEquals(3, limiter.availablePermits());
+    }
+
+    @Test
+    void call_failsWhenNoPermitInTime() throws Exception {
+
+        DatabaseConcurrencyLimiter limiter = new DatabaseConcurrencyLimiter(1, Duration.ofMillis(50));
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Thread holder = Thread.ofVirtual().start(() -> limiter.call(() -> {
+            holding.countDown();
+            await(release);
+            return null;
+        }));
+
+        assertTrue(holding.await(5, TimeUnit.SECONDS));
+        assertThrows(DatabaseBusyException.class, () -> limiter.call(() -> "late"));
+
+        release.countDown();
+        holder.join();
+        assertEquals("now", limiter.call(() -> "now"));
+    }
+
+    @Test
+    void call_nestedCallReusesPermitOfThread() throws Exception {
+
+        DatabaseConcurrencyLimiter limiter = new DatabaseConcurrencyLimiter(2, Duration.ofMillis(200));
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // The other permit is held for the whole test
+        Thread holder = Thread.ofVirtual().start(() -> limiter.call(() -> {
+            holding.countDown();
+            await(release);
+            return null;
+        }));
+        assertTrue(holding.await(5, TimeUnit.SECONDS));
+
+        String result = limiter.call(() -> {
+            assertEquals(0, limiter.availablePermits());
+            return limiter.call(() -> limiter.call(() -> "nested"));
+        });
+
+        assertEquals("nested", result);
+        assertEquals(1, limiter.availablePermits());
+
+        release.countDown();
+        holder.join();
+        assertEquals(2, limiter.availablePermits());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
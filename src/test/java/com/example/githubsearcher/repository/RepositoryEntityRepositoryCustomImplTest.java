@@ -0,0 +1,196 @@
+package com.example.githubsearcher.repository;
+
+import com.example.githubsearcher.entity.RepositoryEntity;
+import com.example.githubsearcher.repository.RepositoryEntityRepositoryCustom.CopyResult;
+import com.example.githubsearcher.repository.RepositoryEntityRepositoryCustom.UpsertResult;
+import jakarta.persistence.EntityManager;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class RepositoryEntityRepositoryCustomImplTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    private RepositoryEntityRepositoryCustomImpl customRepository;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        customRepository = new RepositoryEntityRepositoryCustomImpl(jdbcTemplate, mock(EntityManager.class), 2);
+    }
+
+    @Test
+    void upsertAll_writesMultiRowStatementsPerBatch() {
+
+        when(jdbcTemplate.queryForList(anyString(), eq(Boolean.class), any(Object[].class)))
+                .thenReturn(List.of(true, true), List.of(true));
+
+        UpsertResult written = customRepository.upsertAll(List.of(entity(1L), entity(2L), entity(3L)));
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object[]> values = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate, times(2)).queryForList(sql.capture(), eq(Boolean.class), values.capture());
+
+        assertEquals(new UpsertResult(3, 0, 0), written);
+        assertEquals(RepositoryEntityRepositoryCustomImpl.upsertSql(2), sql.getAllValues().get(0));
+        assertEquals(RepositoryEntityRepositoryCustomImpl.upsertSql(1), sql.getAllValues().get(1));
+        assertEquals(16, values.getAllValues().get(0).length);
+        assertEquals(8, values.getAllValues().get(1).length);
+        assertEquals(3L, values.getAllValues().get(1)[0]);
+    }
+
+    @Test
+    void upsertAll_collapsesDuplicateIds() {
+
+        RepositoryEntity older = entity(1L);
+        RepositoryEntity newer = entity(1L);
+        newer.setStars(500);
+
+        when(jdbcTemplate.queryForList(anyString(), eq(Boolean.class), any(Object[].class)))
+                .thenReturn(List.of(false));
+
+        UpsertResult written = customRepository.upsertAll(List.of(older, newer));
+
+        ArgumentCaptor<Object[]> values = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate, times(1)).queryForList(anyString(), eq(Boolean.class), values.capture());
+
+        assertEquals(new UpsertResult(0, 1, 0), written);
+        assertEquals(500, values.getValue()[5]);
+    }
+
+    @Test
+    void upsertAll_emptyInputDoesNothing() {
+
+        assertEquals(new UpsertResult(0, 0, 0), customRepository.upsertAll(List.of()));
+        verify(jdbcTemplate, never()).queryForList(anyString(), eq(Boolean.class), any(Object[].class));
+    }
+
+    @Test
+    void upsertAll_countsRowsNotReturnedAsSkipped() {
+
+        when(jdbcTemplate.queryForList(anyString(), eq(Boolean.class), any(Object[].class)))
+                .thenReturn(List.of(false), List.of());
+
+        UpsertResult written = customRepository.upsertAll(List.of(entity(1L), entity(2L), entity(3L)));
+
+        assertEquals(new UpsertResult(0, 1, 2), written);
+        assertEquals(1, written.written());
+    }
+
+    @Test
+    void upsertSql_buildsOnConflictStatement() {
+
+        String sql = RepositoryEntityRepositoryCustomImpl.upsertSql(2);
+
+        assertTrue(sql.startsWith("INSERT INTO repositories (repo_id, name,"));
+        assertTrue(sql.contains("VALUES (?, ?, ?, ?, ?, ?, ?, ?), (?, ?, ?, ?, ?, ?, ?, ?) ON CONFLICT (repo_id) DO UPDATE SET"));
+        assertTrue(sql.contains(" WHERE (repositories.last_updated IS NULL OR EXCLUDED.last_updated > repositories.last_updated)"));
+        assertTrue(sql.contains(" IS DISTINCT FROM (EXCLUDED.name, EXCLUDED.description, EXCLUDED.owner,"));
+        assertTrue(sql.endsWith(" RETURNING (xmax = 0) AS inserted"));
+    }
+
+    @Test
+    void appendCsvRow_quotesTextAndLeavesNullsEmpty() {
+
+        RepositoryEntity entity = entity(7L);
+        entity.setDescription("say \"hi\", twice");
+        entity.setLanguage(null);
+
+        StringBuilder line = new StringBuilder();
+        RepositoryEntityRepositoryCustomImpl.appendCsvRow(line, entity);
+
+        assertEquals("7,\"repo7\",\"say \"\"hi\"\", twice\",\"owner\",,100,10,2026-01-01T00:00:00Z\n",
+                line.toString());
+    }
+
+    /**
+     * Runs the statements against a real PostgreSQL. Skipped when Docker is not available.
+     */
+    @Nested
+    @Testcontainers(disabledWithoutDocker = true)
+    class AgainstPostgres {
+
+        @Container
+        static final PostgreSQLContainer POSTGRES = new PostgreSQLContainer("postgres:16-alpine");
+
+        private RepositoryEntityRepositoryCustomImpl postgresRepository;
+
+        private TransactionTemplate transaction;
+
+        @BeforeEach
+        void migrate() {
+
+            Flyway.configure()
+                    .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                    .cleanDisabled(false)
+                    .load()
+                    .clean();
+            Flyway.configure()
+                    .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                    .load()
+                    .migrate();
+
+            DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                    POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+            postgresRepository = new RepositoryEntityRepositoryCustomImpl(
+                    new JdbcTemplate(dataSource), mock(EntityManager.class), 100);
+            transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        }
+
+        @Test
+        void upsertAll_skipsNewerRowWithSameContent() {
+
+            RepositoryEntity stored = entity(1L);
+            RepositoryEntity touched = entity(1L);
+            touched.setLastUpdated(stored.getLastUpdated().plusSeconds(60));
+            RepositoryEntity changed = entity(1L);
+            changed.setLastUpdated(stored.getLastUpdated().plusSeconds(120));
+            changed.setStars(101);
+
+            assertEquals(new UpsertResult(1, 0, 0), postgresRepository.upsertAll(List.of(stored)));
+            assertEquals(new UpsertResult(0, 0, 1), postgresRepository.upsertAll(List.of(touched)));
+            assertEquals(new UpsertResult(0, 1, 0), postgresRepository.upsertAll(List.of(changed)));
+        }
+
+        @Test
+        void copyAndMerge_skipsNewerRowWithSameContent() {
+
+            RepositoryEntity stored = entity(1L);
+            RepositoryEntity touched = entity(1L);
+            touched.setLastUpdated(stored.getLastUpdated().plusSeconds(60));
+
+            postgresRepository.upsertAll(List.of(stored));
+            CopyResult result = transaction.execute(status ->
+                    postgresRepository.copyAndMerge(List.of(touched).iterator()));
+
+            assertEquals(1, result.copied());
+            assertEquals(0, result.merged());
+        }
+    }
+
+    private RepositoryEntity entity(Long id) {
+        return RepositoryEntity.builder()
+                .id(id).name("repo" + id).owner("owner").language("java")
+                .stars(100).forks(10).lastUpdated(Instant.parse("2026-01-01T00:00:00Z"))
+                .build();
+    }
+}
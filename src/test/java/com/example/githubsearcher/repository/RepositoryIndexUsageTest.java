@@ -0,0 +1,128 @@
+package com.example.githubsearcher.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the Flyway migrations against a real PostgreSQL and checks with
+ * EXPLAIN that every query shape of {@code GET /api/github/repositories}
+ * is answered from an index, without a sequential scan or a sort step,
+ * and that full-text search uses the GIN index.
+ *
+ * <p>
+ * Skipped when Docker is not available.
+ * </p>
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RepositoryIndexUsageTest {
+
+    @Container
+    static final PostgreSQLContainer POSTGRES = new PostgreSQLContainer("postgres:16-alpine");
+
+    private static final String SELECT =
+            "SELECT repo_id, name, description, owner, language, stars, forks, last_updated FROM repositories";
+
+    @BeforeAll
+    static void migrateAndLoad() throws SQLException {
+
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .load()
+                .migrate();
+
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO repositories"
+                    + " SELECT i, 'repo' || i, 'description ' || i, 'owner' || (i % 1000),"
+                    + " (ARRAY['java','go','rust','python','kotlin','c','ruby','php','scala','swift'])[1 + i % 10],"
+                    + " (random() * 100000)::int, (random() * 10000)::int,"
+                    + " now() - (random() * interval '3650 days')"
+                    + " FROM generate_series(1, 200000) AS i");
+            statement.execute("ANALYZE repositories");
+        }
+    }
+
+    static Stream<Arguments> queryShapes() {
+
+        List<Arguments> shapes = new ArrayList<>();
+
+        for (String column : List.of("stars", "forks", "last_updated")) {
+
+            String order = " ORDER BY " + column + " DESC, repo_id DESC LIMIT 101";
+            String seek = column.equals("last_updated")
+                    ? "last_updated <= TIMESTAMPTZ '2020-01-01' AND (last_updated < TIMESTAMPTZ '2020-01-01'"
+                    + " OR (last_updated = TIMESTAMPTZ '2020-01-01' AND repo_id < 5000))"
+                    : column + " <= 500 AND (" + column + " < 500 OR (" + column + " = 500 AND repo_id < 5000))";
+
+            shapes.add(Arguments.of(column + " unfiltered", SELECT + order));
+            shapes.add(Arguments.of(column + " by language", SELECT + " WHERE language = 'java'" + order));
+            shapes.add(Arguments.of(column + " by language and min stars",
+                    SELECT + " WHERE language = 'java' AND stars >= 10" + order));
+            shapes.add(Arguments.of(column + " next page",
+                    SELECT + " WHERE " + seek + order));
+            shapes.add(Arguments.of(column + " next page by language",
+                    SELECT + " WHERE language = 'java' AND " + seek + order));
+        }
+
+        return shapes.stream();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("queryShapes")
+    void queryShapeUsesIndexWithoutSort(String shape, String sql) throws SQLException {
+
+        String plan = explain(sql);
+
+        assertTrue(plan.contains("Index Scan") || plan.contains("Index Only Scan"), plan);
+        assertFalse(plan.contains("Seq Scan"), plan);
+        assertFalse(plan.contains("Sort"), plan);
+    }
+
+    @Test
+    void fullTextSearchUsesGinIndex() throws SQLException {
+
+        String plan = explain(SELECT + ", websearch_to_tsquery('english', 'repo4242') AS query"
+                + " WHERE search_vector @@ query AND language = 'java'"
+                + " ORDER BY ts_rank(search_vector, query) DESC, stars DESC, repo_id DESC LIMIT 101");
+
+        assertTrue(plan.contains("idx_repositories_search_vector"), plan);
+        assertFalse(plan.contains("Seq Scan"), plan);
+    }
+
+    private static String explain(String sql) throws SQLException {
+
+        StringBuilder plan = new StringBuilder();
+
+        try (Connection connection = connect();
+             Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("EXPLAIN " + sql)) {
+
+            while (rows.next()) {
+                plan.append(rows.getString(1)).append('\n');
+            }
+        }
+
+        return plan.toString();
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.githubsearcher.repository.specification;
+
+import com.example.githubsearcher.dto.RepositoryResponseDto;
+import com.example.githubsearcher.exception.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RepositoryCursorTest {
+
+    @Test
+    void encodeAndDecode_roundTrip() {
+
+        RepositoryResponseDto last = RepositoryResponseDto.builder()
+                .id(42L).stars(7).forks(3).lastUpdated(Instant.parse("2026-01-01T10:15:30Z"))
+                .build();
+
+        RepositoryCursor cursor = RepositoryCursor.after("updated", last);
+        String encoded = cursor.encode();
+
+        assertFalse(encoded.contains("="));
+        assertEquals(new RepositoryCursor("updated", "2026-01-01T10:15:30Z", 42L),
+                RepositoryCursor.decode(encoded, "updated"));
+    }
+
+    @Test
+    void decode_rejectsMalformedCursor() {
+
+        assertThrows(InvalidCursorException.class, () -> RepositoryCursor.decode("not a cursor!", "stars"));
+        assertThrows(InvalidCursorException.class,
+                () -> RepositoryCursor.decode(new RepositoryCursor("stars", "abc", 1L).encode(), "stars"));
+    }
+
+    @Test
+    void decode_rejectsCursorOfOtherSort() {
+
+        String encoded = new RepositoryCursor("forks", "3", 1L).encode();
+
+        assertThrows(InvalidCursorException.class, () -> RepositoryCursor.decode(encoded, "stars"));
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.githubsearcher.service.impl;
+
+import com.example.githubsearcher.cache.RepositoryReadModel;
+import com.example.githubsearcher.dto.BulkLoadResultDto;
+import com.example.githubsearcher.entity.RepositoryEntity;
+import com.example.githubsearcher.repository.DatabaseConcurrencyLimiter;
+import com.example.githubsearcher.repository.RepositoryEntityRepository;
+import com.example.githubsearcher.repository.RepositoryEntityRepositoryCustom.CopyResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class BulkLoadServiceImplTest {
+
+    private RepositoryEntityRepository repository;
+
+    private BulkLoadServiceImpl bulkLoadService;
+
+    private final List<RepositoryEntity> copied = new ArrayList<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        repository = mock(RepositoryEntityRepository.class);
+        bulkLoadService = new BulkLoadServiceImpl(repository, new DatabaseConcurrencyLimiter(1, Duration.ofSeconds(1)),
+                mock(RepositoryReadModel.class), JsonMapper.builder().findAndAddModules().build());
+
+        when(repository.copyAndMerge(any())).thenAnswer(invocation -> {
+            Iterator<RepositoryEntity> rows = invocation.getArgument(0);
+            rows.forEachRemaining(copied::add);
+            return new CopyResult(copied.size(), copied.size());
+        });
+    }
+
+    @Test
+    void load_skipsRowsMissingRequiredColumns() {
+
+        RepositoryEntity invalid = entity(2L);
+        invalid.setOwner(null);
+
+        BulkLoadResultDto result = bulkLoadService.load(List.of(entity(1L), invalid, entity(3L)).iterator());
+
+        assertEquals(2, result.getRowsCopied());
+        assertEquals(2, result.getRowsMerged());
+        assertEquals(1, result.getRowsSkipped());
+        assertEquals(List.of(1L, 3L), copied.stream().map(RepositoryEntity::getId).toList());
+    }
+
+    @Test
+    void loadNdjson_mapsEachLineToAnEntity() {
+
+        String ndjson = """
+                {"id":1,"name":"repo1","owner":{"login":"octo"},"stargazers_count":5,"forks_count":1,"updated_at":"2026-01-01T00:00:00Z"}
+                {"id":2,"name":"repo2","owner":{"login":"octo"},"stargazers_count":7,"forks_count":2,"updated_at":"2026-01-02T00:00:00Z"}
+                """;
+
+        BulkLoadResultDto result = bulkLoadService.loadNdjson(
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(2, result.getRowsCopied());
+        assertEquals(0, result.getRowsSkipped());
+        assertEquals("octo", copied.get(1).getOwner());
+        assertEquals(7, copied.get(1).getStars());
+    }
+
+    private RepositoryEntity entity(Long id) {
+        return RepositoryEntity.builder()
+                .id(id).name("repo" + id).owner("owner").language("java")
+                .stars(100).forks(10).lastUpdated(Instant.parse("2026-01-01T00:00:00Z"))
+                .build();
+    }
+}
@@ -0,0 +1,217 @@
+package com.example.githubsearcher.service.impl;
+
+import com.example.githubsearcher.cache.RepositoryReadModel;
+import com.example.githubsearcher.client.GitHubApiClient;
+import com.example.githubsearcher.client.GitHubRequestScheduler;
+import com.example.githubsearcher.client.QuotaSnapshot;
+import com.example.githubsearcher.dto.github.GitHubOwnerDto;
+import com.example.githubsearcher.dto.github.GitHubRepositoryDto;
+import com.example.githubsearcher.dto.github.GitHubSearchResponseDto;
+import com.example.githubsearcher.entity.CrawlEntity;
+import com.example.githubsearcher.entity.CrawlSliceEntity;
+import com.example.githubsearcher.exception.GitHubApiException;
+import com.example.githubsearcher.exception.GitHubRateLimitException;
+import com.example.githubsearcher.repository.CrawlRepository;
+import com.example.githubsearcher.repository.CrawlSliceRepository;
+import com.example.githubsearcher.repository.DatabaseConcurrencyLimiter;
+import com.example.githubsearcher.repository.RepositoryEntityRepository;
+import com.example.githubsearcher.repository.RepositoryEntityRepositoryCustom.UpsertResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class CrawlServiceImplTest {
+
+    private static final Instant NOW = Instant.parse("2026-02-11T12:00:00Z");
+
+    private GitHubApiClient gitHubApiClient;
+    private CrawlRepository crawlRepository;
+    private CrawlSliceRepository sliceRepository;
+    private RepositoryEntityRepository repository;
+    private GitHubRequestScheduler requestScheduler;
+    private PlatformTransactionManager transactionManager;
+    private CrawlServiceImpl crawlService;
+
+    private final CrawlEntity crawl = CrawlEntity.builder()
+            .id(7L).query("java").status(CrawlEntity.Status.RUNNING).startedAt(NOW).build();
+
+    @BeforeEach
+    void setUp() {
+        gitHubApiClient = mock(GitHubApiClient.class);
+        crawlRepository = mock(CrawlRepository.class);
+        sliceRepository = mock(CrawlSliceRepository.class);
+        repository = mock(RepositoryEntityRepository.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        requestScheduler = mock(GitHubRequestScheduler.class);
+        when(requestScheduler.quota()).thenReturn(new QuotaSnapshot(-1, -1, 0));
+
+        DatabaseConcurrencyLimiter databaseLimiter = new DatabaseConcurrencyLimiter(2, Duration.ofSeconds(1));
+        crawlService = new CrawlServiceImpl(gitHubApiClient, requestScheduler, crawlRepository,
+                sliceRepository, databaseLimiter,
+                new RepositoryWriter(repository, databaseLimiter, mock(RepositoryReadModel.class)),
+                new TransactionTemplate(transactionManager),
+                2, 2, 0, Duration.ofSeconds(30), Clock.fixed(NOW, ZoneOffset.UTC));
+
+        when(repository.upsertAll(any())).thenReturn(new UpsertResult(1, 0, 0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        crawlService.shutdown();
+    }
+
+    @Test
+    void splitsSliceAboveResultCap() {
+        CrawlSliceEntity slice = slice(0, null);
+        when(gitHubApiClient.countRepositories("java stars:>=0", null)).thenReturn(5_000);
+
+        crawlService.process(crawl, slice);
+
+        ArgumentCaptor<CrawlSliceEntity> saved = ArgumentCaptor.forClass(CrawlSliceEntity.class);
+        verify(sliceRepository, times(3)).save(saved.capture());
+
+        List<CrawlSliceEntity> slices = saved.getAllValues();
+        assertEquals(CrawlSliceEntity.Status.PENDING, slices.get(0).getStatus());
+        assertEquals(0L, slices.get(0).getMaxStars());
+        assertEquals(1L, slices.get(1).getMinStars());
+        assertNull(slices.get(1).getMaxStars());
+        assertEquals(CrawlSliceEntity.Status.SPLIT, slice.getStatus());
+        verify(gitHubApiClient, never()).searchAllRepositories(any(), any(), any());
+    }
+
+    @Test
+    void fetchesAndStoresSliceWithinCap() {
+        CrawlSliceEntity slice = slice(10, 20L);
+        when(gitHubApiClient.countRepositories("java stars:10..20", null)).thenReturn(1);
+        when(gitHubApiClient.searchAllRepositories("java stars:10..20", null, null))
+                .thenReturn(new GitHubSearchResponseDto(List.of(repository(1L)), 1));
+
+        crawlService.process(crawl, slice);
+
+        assertEquals(CrawlSliceEntity.Status.DONE, slice.getStatus());
+        assertEquals(1, slice.getFetched());
+        verify(repository).upsertAll(argThat(rows -> rows.size() == 1));
+        verify(crawlRepository).addSaved(7L, 1);
+    }
+
+    @Test
+    void waveSizeCountsEachSliceAtItsWorstCase() throws InterruptedException {
+        assertEquals(11, CrawlServiceImpl.SLICE_COST);
+
+        when(requestScheduler.quota()).thenReturn(new QuotaSnapshot(5_000, 11, NOW.toEpochMilli()));
+        assertEquals(1, crawlService.waveSize());
+
+        when(requestScheduler.quota()).thenReturn(new QuotaSnapshot(5_000, 30, NOW.toEpochMilli()));
+        assertEquals(2, crawlService.waveSize());
+
+        when(requestScheduler.quota()).thenReturn(new QuotaSnapshot(5_000, 10, NOW.toEpochMilli()));
+        assertEquals(0, crawlService.waveSize());
+    }
+
+    @Test
+    void retriesFailingSliceThenGivesUp() {
+        CrawlSliceEntity slice = slice(10, 20L);
+        when(gitHubApiClient.countRepositories(anyString(), any()))
+                .thenThrow(new GitHubApiException("GitHub API server error"));
+
+        crawlService.process(crawl, slice);
+        assertEquals(CrawlSliceEntity.Status.PENDING, slice.getStatus());
+        assertEquals(NOW.plusSeconds(30), slice.getNextAttemptAt());
+
+        crawlService.process(crawl, slice);
+        assertEquals(CrawlSliceEntity.Status.FAILED, slice.getStatus());
+        assertEquals("GitHub API server error", slice.getLastError());
+    }
+
+    @Test
+    void waitsForRateLimitResetWithoutCountingAnAttempt() {
+        CrawlSliceEntity slice = slice(10, 20L);
+        when(gitHubApiClient.countRepositories(anyString(), any()))
+                .thenThrow(new GitHubRateLimitException("GitHub rate limit exceeded", Duration.ofMinutes(2)));
+
+        crawlService.process(crawl, slice);
+        crawlService.process(crawl, slice);
+        crawlService.process(crawl, slice);
+
+        assertEquals(CrawlSliceEntity.Status.PENDING, slice.getStatus());
+        assertEquals(0, slice.getAttempts());
+        assertEquals(NOW.plus(Duration.ofMinutes(2)), slice.getNextAttemptAt());
+    }
+
+    @Test
+    void marksSliceDoneAndCountsItInOneTransaction() {
+        CrawlSliceEntity slice = slice(10, 20L);
+        when(gitHubApiClient.countRepositories("java stars:10..20", null)).thenReturn(1);
+        when(gitHubApiClient.searchAllRepositories("java stars:10..20", null, null))
+                .thenReturn(new GitHubSearchResponseDto(List.of(repository(1L)), 1));
+
+        crawlService.process(crawl, slice);
+
+        verify(transactionManager, times(1)).getTransaction(any());
+        verify(transactionManager, times(1)).commit(any());
+        verify(crawlRepository).addSaved(7L, 1);
+    }
+
+    @Test
+    void runFailsWhenSlicesWereGivenUp() {
+        when(crawlRepository.findById(7L)).thenReturn(Optional.of(crawl));
+        when(sliceRepository.findDue(eq(7L), any(), any(Limit.class))).thenReturn(List.of());
+        when(sliceRepository.countByCrawlIdAndStatus(7L, CrawlSliceEntity.Status.FAILED)).thenReturn(2L);
+
+        crawlService.run(7L);
+
+        assertEquals(CrawlEntity.Status.FAILED, crawl.getStatus());
+        assertEquals("2 slice(s) failed after 2 attempts", crawl.getLastError());
+    }
+
+    @Test
+    void runCompletesWhenNoSlicesArePending() {
+        when(crawlRepository.findById(7L)).thenReturn(Optional.of(crawl));
+        when(sliceRepository.findDue(eq(7L), eq(NOW), any(Limit.class)))
+                .thenReturn(List.of(slice(10, 20L)))
+                .thenReturn(List.of());
+        when(gitHubApiClient.countRepositories(anyString(), any())).thenReturn(0);
+
+        crawlService.run(7L);
+
+        assertEquals(CrawlEntity.Status.COMPLETED, crawl.getStatus());
+        assertEquals(NOW, crawl.getFinishedAt());
+        verify(gitHubApiClient, times(1)).countRepositories("java stars:10..20", null);
+    }
+
+    private static CrawlSliceEntity slice(long minStars, Long maxStars) {
+        return CrawlSliceEntity.builder()
+                .id(1L)
+                .crawlId(7L)
+                .minStars(minStars)
+                .maxStars(maxStars)
+                .status(CrawlSliceEntity.Status.PENDING)
+                .build();
+    }
+
+    private static GitHubRepositoryDto repository(Long id) {
+        GitHubRepositoryDto repository = new GitHubRepositoryDto();
+        repository.setId(id);
+        repository.setName("repo" + id);
+        repository.setStars(15);
+        repository.setForks(1);
+        repository.setOwner(new GitHubOwnerDto("owner"));
+        repository.setUpdatedAt(NOW);
+        return repository;
+    }
+}
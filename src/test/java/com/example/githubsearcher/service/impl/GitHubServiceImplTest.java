@@ -1,6 +1,11 @@
 package com.example.githubsearcher.service.impl;
 
+import com.example.githubsearcher.cache.RepositoryReadModel;
+import com.example.githubsearcher.cache.SearchDemand;
+import com.example.githubsearcher.cache.SearchResultCache;
 import com.example.githubsearcher.client.GitHubApiClient;
+import com.example.githubsearcher.dto.BatchSearchResponseDto;
+import com.example.githubsearcher.dto.RepositoryPageDto;
 import com.example.githubsearcher.dto.RepositoryResponseDto;
 import com.example.githubsearcher.dto.SearchRequestDto;
 import com.example.githubsearcher.dto.SearchResponseDto;
@@ -8,15 +13,33 @@ import com.example.githubsearcher.dto.github.GitHubOwnerDto;
 import com.example.githubsearcher.dto.github.GitHubRepositoryDto;
 import com.example.githubsearcher.dto.github.GitHubSearchResponseDto;
 import com.example.githubsearcher.entity.RepositoryEntity;
+import com.example.githubsearcher.exception.GitHubApiException;
+import com.example.githubsearcher.exception.GitHubRateLimitException;
+import com.example.githubsearcher.exception.InvalidCursorException;
 import com.example.githubsearcher.mapper.RepositoryMapper;
+import com.example.githubsearcher.repository.DatabaseConcurrencyLimiter;
 import com.example.githubsearcher.repository.RepositoryEntityRepository;
+import com.example.githubsearcher.repository.RepositoryEntityRepositoryCustom.UpsertResult;
+import com.example.githubsearcher.repository.specification.RepositoryCursor;
+import com.example.githubsearcher.service.GitHubService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
 import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -28,13 +51,25 @@ class GitHubServiceImplTest {
 
     private GitHubApiClient gitHubApiClient;
     private RepositoryEntityRepository repository;
+    private RepositoryReadModel readModel;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
         gitHubApiClient = mock(GitHubApiClient.class);
         repository = mock(RepositoryEntityRepository.class);
-        gitHubService = new GitHubServiceImpl(gitHubApiClient, repository);
+        readModel = mock(RepositoryReadModel.class);
+        DatabaseConcurrencyLimiter databaseLimiter = new DatabaseConcurrencyLimiter(2, Duration.ofSeconds(1));
+        gitHubService = new GitHubServiceImpl(
+                gitHubApiClient, repository, databaseLimiter,
+                new SearchResultCache(Duration.ofMinutes(1), 1000), readModel,
+                Schedulers.immediate(), new SearchDemand(false, 10_000),
+                new RepositoryWriter(repository, databaseLimiter, readModel));
+
+        when(repository.upsertAll(any())).thenReturn(new UpsertResult(1, 0, 0));
+
+        ReflectionTestUtils.setField(gitHubService, "defaultPageSize", 100);
+        ReflectionTestUtils.setField(gitHubService, "maxPageSize", 1000);
     }
 
     @Test
@@ -83,12 +118,83 @@ class GitHubServiceImplTest {
             assertEquals("Repositories fetched and saved successfully", result.getMessage());
             assertEquals(1, result.getRepositories().size());
             assertEquals("repo1", result.getRepositories().get(0).getName());
+            assertEquals(1, result.getInserted());
+            assertEquals(0, result.getUpdated());
+            assertEquals(0, result.getSkipped());
 
             verify(gitHubApiClient, times(1)).searchRepositories("springboot", "java", "stars");
-            verify(repository, times(1)).saveAll(List.of(entity));
+            verify(repository, times(1)).upsertAll(List.of(entity));
+            verify(readModel, times(1)).apply(List.of(entity));
         }
     }
 
+    @Test
+    void testSearchAndSaveRepositoriesReactive_SavesAndCaches() {
+        // Arrange
+        SearchRequestDto request = new SearchRequestDto();
+        request.setQuery("springboot");
+
+        GitHubRepositoryDto gitHubRepo = new GitHubRepositoryDto();
+        gitHubRepo.setId(1L);
+        gitHubRepo.setName("repo1");
+        gitHubRepo.setStars(100);
+        gitHubRepo.setForks(10);
+        gitHubRepo.setOwner(new GitHubOwnerDto("owner1"));
+        gitHubRepo.setUpdatedAt(Instant.now());
+
+        GitHubRepositoryDto secondRepo = new GitHubRepositoryDto();
+        secondRepo.setId(2L);
+        secondRepo.setName("repo2");
+        secondRepo.setStars(50);
+        secondRepo.setForks(5);
+        secondRepo.setOwner(new GitHubOwnerDto("owner2"));
+        secondRepo.setUpdatedAt(Instant.now());
+
+        ReflectionTestUtils.setField(gitHubService, "streamBatchSize", 1);
+        when(gitHubApiClient.streamRepositories("springboot", null, null))
+                .thenReturn(Flux.just(gitHubRepo, secondRepo));
+
+        // Act
+        SearchResponseDto first = gitHubService.searchAndSaveRepositoriesReactive(request).block();
+        SearchResponseDto second = gitHubService.searchAndSaveRepositoriesReactive(request).block();
+
+        // Assert
+        assertNotNull(first);
+        assertEquals(List.of("repo1", "repo2"),
+                first.getRepositories().stream().map(RepositoryResponseDto::getName).toList());
+        assertEquals(2, first.getInserted());
+        assertSame(first, second);
+        verify(gitHubApiClient, times(1)).streamRepositories("springboot", null, null);
+        verify(gitHubApiClient, never()).searchRepositories(any(), any(), any());
+        verify(repository, times(2)).upsertAll(any());
+    }
+
+    @Test
+    void testSearchAndSaveRepositoriesReactive_LooksUpCachePerSubscription() {
+        // Arrange
+        SearchRequestDto request = SearchRequestDto.builder().query("springboot").build();
+
+        GitHubRepositoryDto gitHubRepo = gitHubRepo(1L, Instant.parse("2026-01-01T00:00:00Z"));
+
+        when(gitHubApiClient.searchRepositories("springboot", null, null))
+                .thenReturn(new GitHubSearchResponseDto(List.of(gitHubRepo)));
+
+        // Act: assemble first, fill the cache, then subscribe twice
+        Mono<SearchResponseDto> late = gitHubService.searchAndSaveRepositoriesReactive(request);
+        assertEquals(0, gitHubService.getSearchCacheStats().getMissCount());
+
+        SearchResponseDto stored = gitHubService.searchAndSaveRepositories(request);
+        SearchResponseDto first = late.block();
+        SearchResponseDto second = late.block();
+
+        // Assert: both subscriptions are answered from the cache
+        assertSame(stored, first);
+        assertSame(stored, second);
+        assertEquals(2, gitHubService.getSearchCacheStats().getHitCount());
+        assertEquals(1, gitHubService.getSearchCacheStats().getMissCount());
+        verify(gitHubApiClient, never()).streamRepositories(any(), any(), any());
+    }
+
     @Test
     void testSearchAndSaveRepositories_EmptyResponse() {
         // Arrange
@@ -105,6 +211,338 @@ class GitHubServiceImplTest {
         assertNotNull(result);
         assertEquals("No repositories found", result.getMessage());
         assertTrue(result.getRepositories().isEmpty());
-        verify(repository, never()).saveAll(any());
+        verify(repository, never()).upsertAll(any());
+    }
+
+    @Test
+    void testSearchAndSaveRepositories_FetchAllPages() {
+        // Arrange
+        SearchRequestDto request = new SearchRequestDto();
+        request.setQuery("springboot");
+        request.setFetchAllPages(true);
+
+        when(gitHubApiClient.searchAllRepositories(anyString(), any(), any()))
+                .thenReturn(new GitHubSearchResponseDto(List.of()));
+
+        // Act
+        SearchResponseDto result = gitHubService.searchAndSaveRepositories(request);
+
+        // Assert
+        assertEquals("No repositories found", result.getMessage());
+        verify(gitHubApiClient, times(1)).searchAllRepositories("springboot", null, null);
+        verify(gitHubApiClient, never()).searchRepositories(any(), any(), any());
+    }
+
+    @Test
+    void testSearchAndSaveRepositories_CacheHitSkipsApiAndSave() {
+        // Arrange
+        GitHubRepositoryDto gitHubRepo = new GitHubRepositoryDto();
+        gitHubRepo.setId(1L);
+        gitHubRepo.setName("repo1");
+        gitHubRepo.setStars(100);
+        gitHubRepo.setForks(10);
+        gitHubRepo.setOwner(new GitHubOwnerDto("owner1"));
+        gitHubRepo.setUpdatedAt(Instant.now());
+
+        when(gitHubApiClient.searchRepositories(anyString(), any(), any()))
+                .thenReturn(new GitHubSearchResponseDto(List.of(gitHubRepo)));
+
+        SearchRequestDto first = SearchRequestDto.builder()
+                .query("Spring  Boot").language("Java").sort("stars").build();
+        SearchRequestDto second = SearchRequestDto.builder()
+                .query(" spring boot ").language("java").sort("stars").build();
+
+        // Act
+        SearchResponseDto firstResult = gitHubService.searchAndSaveRepositories(first);
+        SearchResponseDto secondResult = gitHubService.searchAndSaveRepositories(second);
+
+        // Assert
+        assertSame(firstResult, secondResult);
+        verify(gitHubApiClient, times(1)).searchRepositories(anyString(), any(), any());
+        verify(repository, times(1)).upsertAll(any());
+        assertEquals(1, gitHubService.getSearchCacheStats().getHitCount());
+        assertEquals(1, gitHubService.getSearchCacheStats().getMissCount());
+    }
+
+    @Test
+    void testSearchAndSaveBatch_DeduplicatesSearchesAndRepositories() {
+        // Arrange
+        SearchRequestDto spring = batchRequest("spring");
+        SearchRequestDto springAgain = batchRequest(" Spring ");
+        SearchRequestDto reactor = batchRequest("reactor");
+        SearchRequestDto broken = batchRequest("broken");
+        SearchRequestDto limited = batchRequest("limited");
+
+        Instant older = Instant.parse("2026-01-01T00:00:00Z");
+        Instant newer = Instant.parse("2026-02-01T00:00:00Z");
+
+        GitHubSearchResponseDto springResponse = new GitHubSearchResponseDto();
+        springResponse.setItems(List.of(gitHubRepo(1L, older), gitHubRepo(2L, older)));
+        GitHubSearchResponseDto reactorResponse = new GitHubSearchResponseDto();
+        reactorResponse.setItems(List.of(gitHubRepo(2L, newer), gitHubRepo(3L, older)));
+
+        when(gitHubApiClient.searchRepositoriesReactive(eq("spring"), isNull(), isNull()))
+                .thenReturn(Mono.just(springResponse));
+        when(gitHubApiClient.searchRepositoriesReactive(eq("reactor"), isNull(), isNull()))
+                .thenReturn(Mono.just(reactorResponse));
+        when(gitHubApiClient.searchRepositoriesReactive(eq("broken"), isNull(), isNull()))
+                .thenReturn(Mono.error(new GitHubApiException("GitHub API client error: 422")));
+        when(gitHubApiClient.searchRepositoriesReactive(eq("limited"), isNull(), isNull()))
+                .thenReturn(Mono.error(new GitHubRateLimitException("GitHub API rate limit exceeded", null)));
+        when(repository.upsertAll(any())).thenReturn(new UpsertResult(3, 0, 0));
+
+        // Act
+        BatchSearchResponseDto result = gitHubService.searchAndSaveBatch(
+                List.of(spring, springAgain, reactor, broken, limited));
+
+        // Assert: the duplicate search ran once, every repository is written once
+        verify(gitHubApiClient, times(1)).searchRepositoriesReactive(eq("spring"), isNull(), isNull());
+        verify(repository, times(1)).upsertAll(argThat(entities -> entities.size() == 3
+                && entities.stream().anyMatch(e -> e.getId() == 2L && newer.equals(e.getLastUpdated()))));
+
+        assertEquals(3, result.getRepositories().size());
+        assertEquals(3, result.getInserted());
+        assertEquals(5, result.getResults().size());
+        assertEquals(List.of(1L, 2L), result.getResults().get(0).getRepositoryIds());
+        assertEquals(List.of(1L, 2L), result.getResults().get(1).getRepositoryIds());
+        assertEquals(List.of(2L, 3L), result.getResults().get(2).getRepositoryIds());
+        assertEquals("GitHub API client error: 422", result.getResults().get(3).getError());
+        assertEquals(502, result.getResults().get(3).getStatus());
+        assertTrue(result.getResults().get(3).getRepositoryIds().isEmpty());
+        assertEquals(429, result.getResults().get(4).getStatus());
+        assertNull(result.getResults().get(0).getStatus());
+    }
+
+    @Test
+    void testSearchAndSaveBatch_CachesEachSearchForSingleSearches() {
+        // Arrange
+        GitHubSearchResponseDto response = new GitHubSearchResponseDto();
+        response.setItems(List.of(gitHubRepo(1L, Instant.parse("2026-01-01T00:00:00Z"))));
+
+        when(gitHubApiClient.searchRepositoriesReactive(eq("spring"), isNull(), isNull()))
+                .thenReturn(Mono.just(response));
+
+        // Act
+        gitHubService.searchAndSaveBatch(List.of(batchRequest("spring")));
+        SearchResponseDto single = gitHubService.searchAndSaveRepositories(batchRequest("spring"));
+
+        // Assert: the single search is answered from the batch's result
+        assertEquals(List.of(1L), single.getRepositories().stream().map(RepositoryResponseDto::getId).toList());
+        verify(gitHubApiClient, never()).searchRepositories(anyString(), any(), any());
+        verify(repository, times(1)).upsertAll(any());
+    }
+
+    @Test
+    void testSearchAndSaveBatch_JoinsSingleSearchInFlight() throws Exception {
+        // Arrange
+        CountDownLatch singleStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        when(gitHubApiClient.searchRepositories(eq("spring"), isNull(), isNull())).thenAnswer(invocation -> {
+            singleStarted.countDown();
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+            return new GitHubSearchResponseDto(List.of(gitHubRepo(1L, Instant.parse("2026-01-01T00:00:00Z"))));
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            Future<SearchResponseDto> single = executor.submit(
+                    () -> gitHubService.searchAndSaveRepositories(batchRequest("spring")));
+            assertTrue(singleStarted.await(5, TimeUnit.SECONDS));
+
+            Future<BatchSearchResponseDto> batch = executor.submit(
+                    () -> gitHubService.searchAndSaveBatch(List.of(batchRequest("spring"))));
+
+            // Give the batch time to join the single search
+            Thread.sleep(200);
+            release.countDown();
+
+            // Act
+            BatchSearchResponseDto result = batch.get(5, TimeUnit.SECONDS);
+
+            // Assert: GitHub was called once, by the single search
+            assertEquals(1, single.get(5, TimeUnit.SECONDS).getRepositories().size());
+            assertEquals(List.of(1L), result.getResults().getFirst().getRepositoryIds());
+            assertEquals(1, result.getRepositories().size());
+            verify(gitHubApiClient, never()).searchRepositoriesReactive(anyString(), any(), any());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testSearchAndSaveRepositories_JoinsBatchSearchInFlight() throws Exception {
+        // Arrange
+        Sinks.One<GitHubSearchResponseDto> upstream = Sinks.one();
+        CountDownLatch batchFetching = new CountDownLatch(1);
+
+        when(gitHubApiClient.searchRepositoriesReactive(eq("spring"), isNull(), isNull()))
+                .thenReturn(upstream.asMono().doOnSubscribe(subscription -> batchFetching.countDown()));
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            Future<BatchSearchResponseDto> batch = executor.submit(
+                    () -> gitHubService.searchAndSaveBatch(List.of(batchRequest("spring"))));
+            assertTrue(batchFetching.await(5, TimeUnit.SECONDS));
+
+            Future<SearchResponseDto> single = executor.submit(
+                    () -> gitHubService.searchAndSaveRepositories(batchRequest("spring")));
+
+            // Give the single search time to join the batch
+            Thread.sleep(200);
+            upstream.tryEmitValue(new GitHubSearchResponseDto(
+                    List.of(gitHubRepo(1L, Instant.parse("2026-01-01T00:00:00Z")))));
+
+            // Act
+            SearchResponseDto result = single.get(5, TimeUnit.SECONDS);
+
+            // Assert: the single search received the batch's result
+            assertEquals(List.of(1L), result.getRepositories().stream().map(RepositoryResponseDto::getId).toList());
+            assertEquals(1, batch.get(5, TimeUnit.SECONDS).getRepositories().size());
+            verify(gitHubApiClient, never()).searchRepositories(anyString(), any(), any());
+            verify(repository, times(1)).upsertAll(any());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testRefreshRepositories_IncrementalAdvancesHighWaterMarkOnlyWhenComplete() {
+        // Arrange
+        Instant mark = Instant.parse("2026-02-10T00:00:00Z");
+        Instant newest = Instant.parse("2026-02-11T00:00:00Z");
+
+        GitHubRepositoryDto gitHubRepo = new GitHubRepositoryDto();
+        gitHubRepo.setId(1L);
+        gitHubRepo.setName("repo1");
+        gitHubRepo.setStars(100);
+        gitHubRepo.setForks(10);
+        gitHubRepo.setOwner(new GitHubOwnerDto("owner1"));
+        gitHubRepo.setUpdatedAt(newest);
+
+        SearchRequestDto request = SearchRequestDto.builder().query("spring").build();
+
+        when(gitHubApiClient.searchRepositories(anyString(), any(), any()))
+                .thenReturn(new GitHubSearchResponseDto(List.of(gitHubRepo)));
+        when(gitHubApiClient.searchRepositories("spring", null, null, mark))
+                .thenReturn(new GitHubSearchResponseDto(List.of(gitHubRepo), 1))
+                .thenReturn(new GitHubSearchResponseDto(List.of(gitHubRepo), 2));
+
+        // Act
+        gitHubService.searchAndSaveRepositories(request);
+        GitHubService.RefreshResult complete = gitHubService.refreshRepositories(request, mark);
+        GitHubService.RefreshResult truncated = gitHubService.refreshRepositories(request, mark);
+        gitHubService.searchAndSaveRepositories(request);
+
+        // Assert
+        assertEquals(newest, complete.highWaterMark());
+        assertNull(truncated.highWaterMark());
+        assertEquals(1, complete.result().getRepositories().size());
+        // The incremental refresh dropped the cached full result
+        verify(gitHubApiClient, times(2)).searchRepositories("spring", null, null);
+        verify(repository, times(4)).upsertAll(any());
+    }
+
+    @Test
+    void testGetStoredRepositories_ReturnsCursorWhenMoreRowsExist() {
+        // Arrange: the service reads limit + 1 rows to detect a next page
+        List<RepositoryResponseDto> rows = List.of(stored(3L, 300), stored(2L, 200), stored(1L, 200));
+        when(repository.findProjected(any(), any(), eq(3))).thenReturn(rows);
+
+        // Act
+        RepositoryPageDto page = gitHubService.getStoredRepositories("java", null, "stars", null, 2);
+
+        // Assert
+        assertEquals(2, page.getRepositories().size());
+        assertEquals(new RepositoryCursor("stars", "200", 2L),
+                RepositoryCursor.decode(page.getNextCursor(), "stars"));
+    }
+
+    @Test
+    void testGetStoredRepositories_ServedFromReadModelWhenReady() {
+        // Arrange
+        RepositoryCursor cursor = new RepositoryCursor("forks", "10", 5L);
+        when(readModel.isReady()).thenReturn(true);
+        when(readModel.find("java", 5, "forks", cursor, 3)).thenReturn(List.of(stored(4L, 9)));
+
+        // Act
+        RepositoryPageDto page = gitHubService.getStoredRepositories("java", 5, "forks", cursor.encode(), 2);
+
+        // Assert
+        assertEquals(1, page.getRepositories().size());
+        verify(repository, never()).findProjected(any(), any(), anyInt());
+    }
+
+    @Test
+    void testGetStoredRepositories_LastPageHasNoCursor() {
+        // Arrange
+        String cursor = new RepositoryCursor("forks", "10", 5L).encode();
+        when(repository.findProjected(any(), any(), anyInt())).thenReturn(List.of(stored(4L, 10)));
+
+        // Act
+        RepositoryPageDto page = gitHubService.getStoredRepositories(null, null, "forks", cursor, 2);
+
+        // Assert
+        assertEquals(1, page.getRepositories().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void testGetStoredRepositories_RejectsCursorOfOtherSort() {
+        String cursor = new RepositoryCursor("stars", "10", 5L).encode();
+
+        assertThrows(InvalidCursorException.class,
+                () -> gitHubService.getStoredRepositories(null, null, "updated", cursor, null));
+        verify(repository, never()).findProjected(any(), any(), anyInt());
+    }
+
+    @Test
+    void testSearchStoredRepositories_PagesByOffsetCursor() {
+        // Arrange
+        String cursor = RepositoryCursor.atOffset(2).encode();
+        when(repository.searchText("spring boot", "java", 10, 3, 2))
+                .thenReturn(List.of(stored(5L, 50), stored(4L, 40), stored(3L, 30)));
+
+        // Act
+        RepositoryPageDto page = gitHubService.searchStoredRepositories(" spring boot ", "java", 10, cursor, 2);
+
+        // Assert
+        assertEquals(2, page.getRepositories().size());
+        assertEquals(4, RepositoryCursor.decode(page.getNextCursor(), RepositoryCursor.RELEVANCE).offset());
+    }
+
+    @Test
+    void testSearchStoredRepositories_BlankTextMatchesNothing() {
+        RepositoryPageDto page = gitHubService.searchStoredRepositories("  ", null, null, null, null);
+
+        assertTrue(page.getRepositories().isEmpty());
+        assertNull(page.getNextCursor());
+        verify(repository, never()).searchText(any(), any(), any(), anyInt(), anyLong());
+    }
+
+    private SearchRequestDto batchRequest(String query) {
+        SearchRequestDto request = new SearchRequestDto();
+        request.setQuery(query);
+        return request;
+    }
+
+    private GitHubRepositoryDto gitHubRepo(Long id, Instant updatedAt) {
+        GitHubRepositoryDto repo = new GitHubRepositoryDto();
+        repo.setId(id);
+        repo.setName("repo" + id);
+        repo.setStars(10);
+        repo.setForks(1);
+        repo.setOwner(new GitHubOwnerDto("owner"));
+        repo.setUpdatedAt(updatedAt);
+        return repo;
+    }
+
+    private RepositoryResponseDto stored(Long id, int count) {
+        return RepositoryResponseDto.builder()
+                .id(id).name("repo" + id).owner("owner").language("java")
+                .stars(count).forks(count).lastUpdated(Instant.parse("2026-01-01T00:00:00Z"))
+                .build();
     }
 }
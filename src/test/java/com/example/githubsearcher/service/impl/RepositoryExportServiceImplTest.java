@@ -0,0 +1,103 @@
+package com.example.githubsearcher.service.impl;
+
+import com.example.githubsearcher.dto.ExportFormat;
+import com.example.githubsearcher.entity.RepositoryEntity;
+import com.example.githubsearcher.exception.DatabaseBusyException;
+import com.example.githubsearcher.repository.RepositoryEntityRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class RepositoryExportServiceImplTest {
+
+    private RepositoryEntityRepository repository;
+
+    private RepositoryExportServiceImpl exportService;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(RepositoryEntityRepository.class);
+        exportService = new RepositoryExportServiceImpl(repository, JsonMapper.builder().build(),
+                mock(PlatformTransactionManager.class), 1, Duration.ofMillis(50));
+
+        ReflectionTestUtils.setField(exportService, "fetchSize", 500);
+        ReflectionTestUtils.setField(exportService, "flushRows", 1);
+    }
+
+    @Test
+    void export_writesOneJsonObjectPerLine() throws Exception {
+
+        when(repository.streamAll(any(Specification.class), eq(500)))
+                .thenReturn(Stream.of(entity(1L, "first"), entity(2L, "second")));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long count = exportService.export("java", 10, ExportFormat.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+
+        assertEquals(2, count);
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":1,"));
+        assertTrue(lines[1].contains("\"description\":\"second\""));
+    }
+
+    @Test
+    void export_rejectsFurtherExportsWhileAllExportPermitsAreHeld() throws Exception {
+
+        AtomicReference<Throwable> concurrent = new AtomicReference<>();
+
+        when(repository.streamAll(any(Specification.class), anyInt())).thenAnswer(invocation -> {
+            Thread other = Thread.ofVirtual().start(() -> {
+                try {
+                    exportService.export(null, null, ExportFormat.NDJSON, new ByteArrayOutputStream());
+                } catch (Throwable ex) {
+                    concurrent.set(ex);
+                }
+            });
+            other.join();
+            return Stream.of(entity(1L, "first"));
+        });
+
+        long count = exportService.export(null, null, ExportFormat.NDJSON, new ByteArrayOutputStream());
+
+        assertEquals(1, count);
+        assertInstanceOf(DatabaseBusyException.class, concurrent.get());
+        verify(repository, times(1)).streamAll(any(Specification.class), anyInt());
+    }
+
+    @Test
+    void export_writesCsvWithHeaderAndQuoting() throws Exception {
+
+        when(repository.streamAll(any(Specification.class), anyInt()))
+                .thenReturn(Stream.of(entity(1L, "a \"quoted\", text")));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.export(null, null, ExportFormat.CSV, out);
+
+        assertEquals(RepositoryExportServiceImpl.CSV_HEADER
+                        + "1,repo1,\"a \"\"quoted\"\", text\",owner,java,100,10,2026-01-01T00:00:00Z\n",
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    private RepositoryEntity entity(Long id, String description) {
+        return RepositoryEntity.builder()
+                .id(id).name("repo" + id).description(description).owner("owner").language("java")
+                .stars(100).forks(10).lastUpdated(Instant.parse("2026-01-01T00:00:00Z"))
+                .build();
+    }
+}
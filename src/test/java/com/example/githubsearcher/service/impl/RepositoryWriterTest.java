@@ -0,0 +1,77 @@
+package com.example.githubsearcher.service.impl;
+
+import com.example.githubsearcher.cache.RepositoryReadModel;
+import com.example.githubsearcher.dto.github.GitHubOwnerDto;
+import com.example.githubsearcher.dto.github.GitHubRepositoryDto;
+import com.example.githubsearcher.entity.RepositoryEntity;
+import com.example.githubsearcher.mapper.RepositoryMapper;
+import com.example.githubsearcher.repository.DatabaseConcurrencyLimiter;
+import com.example.githubsearcher.repository.RepositoryEntityRepository;
+import com.example.githubsearcher.repository.RepositoryEntityRepositoryCustom.UpsertResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class RepositoryWriterTest {
+
+    private RepositoryEntityRepository repository;
+    private RepositoryReadModel readModel;
+    private RepositoryWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(RepositoryEntityRepository.class);
+        readModel = mock(RepositoryReadModel.class);
+        writer = new RepositoryWriter(repository, new DatabaseConcurrencyLimiter(1, Duration.ofSeconds(1)), readModel);
+    }
+
+    @Test
+    void save_upsertsAppliesToReadModelAndMaps() {
+        when(repository.upsertAll(any())).thenReturn(new UpsertResult(1, 1, 0));
+
+        RepositoryWriter.Stored stored = writer.save(List.of(repository(1L), repository(2L)));
+
+        assertEquals(List.of(1L, 2L), stored.repositories().stream().map(row -> row.getId()).toList());
+        assertEquals(new UpsertResult(1, 1, 0), stored.written());
+        verify(repository).upsertAll(argThat(rows -> rows.size() == 2));
+        verify(readModel).apply(argThat(rows -> rows.size() == 2));
+        verify(repository, never()).findAllById(any());
+    }
+
+    @Test
+    void save_reportsStoredValuesOfSkippedRows() {
+        when(repository.upsertAll(any())).thenReturn(new UpsertResult(1, 0, 1));
+        RepositoryEntity newer = RepositoryMapper.toEntity(repository(2L));
+        newer.setStars(99);
+        when(repository.findAllById(List.of(1L, 2L))).thenReturn(List.of(newer, RepositoryMapper.toEntity(repository(1L))));
+
+        RepositoryWriter.Stored stored = writer.save(List.of(repository(1L), repository(2L)));
+
+        assertEquals(List.of(1L, 2L), stored.repositories().stream().map(row -> row.getId()).toList());
+        assertEquals(99, stored.repositories().get(1).getStars());
+    }
+
+    @Test
+    void save_skipsDatabaseForEmptyInput() {
+        assertTrue(writer.save(null).repositories().isEmpty());
+        assertEquals(0, writer.save(List.of()).written().written());
+
+        verifyNoInteractions(repository, readModel);
+    }
+
+    private static GitHubRepositoryDto repository(Long id) {
+        GitHubRepositoryDto repository = new GitHubRepositoryDto();
+        repository.setId(id);
+        repository.setName("repo" + id);
+        repository.setOwner(new GitHubOwnerDto("owner"));
+        repository.setUpdatedAt(Instant.parse("2026-02-11T12:00:00Z"));
+        return repository;
+    }
+}
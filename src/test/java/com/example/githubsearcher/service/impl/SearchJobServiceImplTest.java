@@ -0,0 +1,222 @@
+package com.example.githubsearcher.service.impl;
+
+import com.example.githubsearcher.cache.RepositoryReadModel;
+import com.example.githubsearcher.cache.SearchCacheKey;
+import com.example.githubsearcher.cache.SearchResultCache;
+import com.example.githubsearcher.client.GitHubApiClient;
+import com.example.githubsearcher.dto.RepositoryPageDto;
+import com.example.githubsearcher.dto.RepositoryResponseDto;
+import com.example.githubsearcher.dto.SearchJobDto;
+import com.example.githubsearcher.dto.SearchRequestDto;
+import com.example.githubsearcher.dto.github.GitHubOwnerDto;
+import com.example.githubsearcher.dto.github.GitHubRepositoryDto;
+import com.example.githubsearcher.dto.github.GitHubSearchResponseDto;
+import com.example.githubsearcher.exception.InvalidCursorException;
+import com.example.githubsearcher.exception.SearchJobRejectedException;
+import com.example.githubsearcher.repository.DatabaseConcurrencyLimiter;
+import com.example.githubsearcher.repository.RepositoryEntityRepository;
+import com.example.githubsearcher.repository.RepositoryEntityRepositoryCustom.UpsertResult;
+import com.example.githubsearcher.repository.specification.RepositoryCursor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class SearchJobServiceImplTest {
+
+    private static final Instant NOW = Instant.parse("2026-02-11T12:00:00Z");
+
+    private GitHubApiClient gitHubApiClient;
+    private SearchResultCache searchResultCache;
+    private MutableClock clock;
+    private SearchJobServiceImpl jobService;
+
+    @BeforeEach
+    void setUp() {
+        gitHubApiClient = mock(GitHubApiClient.class);
+        RepositoryEntityRepository repository = mock(RepositoryEntityRepository.class);
+        when(repository.upsertAll(any()))
+                .thenAnswer(invocation -> new UpsertResult(invocation.<List<?>>getArgument(0).size(), 0, 0));
+        searchResultCache = new SearchResultCache(Duration.ofMinutes(1), 10_000);
+        clock = new MutableClock(NOW);
+
+        RepositoryWriter repositoryWriter = new RepositoryWriter(repository,
+                new DatabaseConcurrencyLimiter(2, Duration.ofSeconds(1)), mock(RepositoryReadModel.class));
+
+        jobService = new SearchJobServiceImpl(gitHubApiClient, repositoryWriter,
+                searchResultCache, 1, 1, Duration.ofMinutes(15), 100, 1000, clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobService.shutdown();
+    }
+
+    @Test
+    void storesEveryPageAndPagesThroughResults() {
+        SearchRequestDto request = SearchRequestDto.builder().query("spring").fetchAllPages(true).build();
+
+        when(gitHubApiClient.searchRepositoriesPage("spring", null, null, 1))
+                .thenReturn(new GitHubSearchResponseDto(repositories(1, 100), 150));
+        when(gitHubApiClient.searchRepositoriesPage("spring", null, null, 2))
+                .thenReturn(new GitHubSearchResponseDto(repositories(101, 150), 150));
+
+        SearchJob job = new SearchJob("job-1", request, NOW);
+        jobService.run(job);
+
+        SearchJobDto status = job.toDto(NOW);
+        assertEquals("COMPLETED", status.getStatus());
+        assertEquals(2, status.getPagesFetched());
+        assertEquals(2, status.getTotalPages());
+        assertEquals(150, status.getRowsUpserted());
+        assertEquals(150, status.getResultCount());
+        assertEquals(150, searchResultCache.peek(SearchCacheKey.of(request)).getRepositories().size());
+    }
+
+    @Test
+    void keepsRepositoriesReturnedByTwoPagesOnce() {
+        SearchRequestDto request = SearchRequestDto.builder().query("spring").fetchAllPages(true).build();
+
+        when(gitHubApiClient.searchRepositoriesPage("spring", null, null, 1))
+                .thenReturn(new GitHubSearchResponseDto(repositories(1, 100), 150));
+        when(gitHubApiClient.searchRepositoriesPage("spring", null, null, 2))
+                .thenReturn(new GitHubSearchResponseDto(repositories(91, 150), 150));
+
+        SearchJob job = new SearchJob("job-1", request, NOW);
+        jobService.run(job);
+
+        assertEquals(150, job.results().size());
+        assertEquals(LongStream.rangeClosed(1, 150).boxed().toList(),
+                job.results().stream().map(RepositoryResponseDto::getId).toList());
+    }
+
+    @Test
+    void publishedResultsStayValidWhileLaterPagesAreAppended() {
+        SearchJob job = new SearchJob("job-1", SearchRequestDto.builder().query("spring").build(), NOW);
+        job.start(NOW);
+        job.pageStored(1, List.of(RepositoryResponseDto.builder().id(1L).build()));
+
+        List<RepositoryResponseDto> firstPage = job.results();
+        job.pageStored(1, List.of(RepositoryResponseDto.builder().id(2L).build()));
+
+        assertEquals(1, firstPage.size());
+        assertEquals(2, job.results().size());
+        assertThrows(UnsupportedOperationException.class, () -> firstPage.add(null));
+    }
+
+    @Test
+    void reportsEstimateWhileRunning() {
+        SearchJob job = new SearchJob("job-1", SearchRequestDto.builder().query("spring").build(), NOW);
+        job.start(NOW);
+        job.totalPages(10);
+        job.pageStored(100, List.of());
+        job.pageStored(100, List.of());
+
+        SearchJobDto status = job.toDto(NOW.plusSeconds(4));
+
+        assertEquals("RUNNING", status.getStatus());
+        assertEquals(16_000L, status.getEtaMillis());
+    }
+
+    @Test
+    void rejectsJobsBeyondQueueAndExpiresFinishedOnes() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        when(gitHubApiClient.searchRepositories(anyString(), any(), any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new GitHubSearchResponseDto(repositories(1, 3), 3);
+        });
+
+        SearchRequestDto request = SearchRequestDto.builder().query("spring").build();
+
+        SearchJobDto running = jobService.submit(request);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        SearchJobDto queued = jobService.submit(request);
+        assertThrows(SearchJobRejectedException.class, () -> jobService.submit(request));
+
+        release.countDown();
+        waitUntilFinished(queued.getId());
+
+        RepositoryPageDto firstPage = jobService.getResults(running.getId(), null, 2).orElseThrow();
+        assertEquals(2, firstPage.getRepositories().size());
+        RepositoryPageDto lastPage = jobService.getResults(running.getId(), firstPage.getNextCursor(), 2).orElseThrow();
+        assertEquals(1, lastPage.getRepositories().size());
+        assertNull(lastPage.getNextCursor());
+
+        String fullTextCursor = RepositoryCursor.atOffset(2).encode();
+        assertThrows(InvalidCursorException.class,
+                () -> jobService.getResults(running.getId(), fullTextCursor, 2));
+
+        clock.advance(Duration.ofMinutes(16));
+        jobService.expireFinishedJobs();
+
+        assertTrue(jobService.get(running.getId()).isEmpty());
+        assertTrue(jobService.getResults(queued.getId(), null, null).isEmpty());
+    }
+
+    private void waitUntilFinished(String id) throws InterruptedException {
+        for (int i = 0; i < 500 && jobService.get(id).orElseThrow().getFinishedAt() == null; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals("COMPLETED", jobService.get(id).orElseThrow().getStatus());
+    }
+
+    private static List<GitHubRepositoryDto> repositories(long fromId, long toId) {
+        return LongStream.rangeClosed(fromId, toId).mapToObj(id -> {
+            GitHubRepositoryDto repository = new GitHubRepositoryDto();
+            repository.setId(id);
+            repository.setName("repo" + id);
+            repository.setStars(10);
+            repository.setForks(1);
+            repository.setOwner(new GitHubOwnerDto("owner"));
+            repository.setUpdatedAt(NOW);
+            return repository;
+        }).toList();
+    }
+
+    /**
+     * Clock that tests can move forward.
+     */
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.githubsearcher.service.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchPartitionTest {
+
+    private static final Instant CRAWL_START = Instant.parse("2026-02-11T12:00:00.500Z");
+
+    @Test
+    void splitsOpenStarRangeGeometrically() {
+        List<SearchPartition> halves = new SearchPartition(5, null, null, null).split(CRAWL_START);
+
+        assertEquals("stars:5..10", halves.get(0).qualifiers());
+        assertEquals("stars:>=11", halves.get(1).qualifiers());
+        assertEquals("stars:0", SearchPartition.all().split(CRAWL_START).get(0).qualifiers());
+    }
+
+    @Test
+    void splitsClosedStarRangeAtMidpoint() {
+        List<SearchPartition> halves = new SearchPartition(10, 20L, null, null).split(CRAWL_START);
+
+        assertEquals("stars:10..15", halves.get(0).qualifiers());
+        assertEquals("stars:16..20", halves.get(1).qualifiers());
+    }
+
+    @Test
+    void splitsSingleStarCountByCreationTimeWithoutOverlap() {
+        List<SearchPartition> halves = new SearchPartition(0, 0L, null, null).split(CRAWL_START);
+
+        SearchPartition first = halves.get(0);
+        SearchPartition second = halves.get(1);
+
+        assertEquals(SearchPartition.GITHUB_LAUNCH, first.createdFrom());
+        assertEquals(first.createdTo().plusSeconds(1), second.createdFrom());
+        assertEquals(Instant.parse("2026-02-11T12:00:00Z"), second.createdTo());
+        assertTrue(first.qualifiers().startsWith("stars:0 created:2007-10-01T00:00:00Z.."));
+    }
+
+    @Test
+    void singleSecondCannotBeSplit() {
+        Instant second = Instant.parse("2020-01-01T00:00:00Z");
+
+        assertTrue(new SearchPartition(0, 0L, second, second).split(CRAWL_START).isEmpty());
+        assertEquals(2, new SearchPartition(0, 0L, second, second.plusSeconds(1)).split(CRAWL_START).size());
+    }
+}
@@ -0,0 +1,268 @@
+package com.example.githubsearcher.service.impl;
+
+import com.example.githubsearcher.cache.SearchCacheKey;
+import com.example.githubsearcher.cache.SearchDemand;
+import com.example.githubsearcher.client.GitHubRequestScheduler;
+import com.example.githubsearcher.client.QuotaSnapshot;
+import com.example.githubsearcher.dto.SearchRequestDto;
+import com.example.githubsearcher.dto.SearchResponseDto;
+import com.example.githubsearcher.entity.TrackedSearchEntity;
+import com.example.githubsearcher.exception.GitHubApiException;
+import com.example.githubsearcher.repository.DatabaseConcurrencyLimiter;
+import com.example.githubsearcher.repository.TrackedSearchRepository;
+import com.example.githubsearcher.service.GitHubService;
+import com.example.githubsearcher.service.GitHubService.RefreshResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+class TrackedSearchRefresherTest {
+
+    private static final Instant NOW = Instant.parse("2026-02-11T12:00:00Z");
+
+    private static final Instant MARK = Instant.parse("2026-02-11T11:00:00Z");
+
+    private TrackedSearchRepository repository;
+    private GitHubService gitHubService;
+    private GitHubRequestScheduler requestScheduler;
+    private SearchDemand searchDemand;
+    private TrackedSearchRefresher refresher;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(TrackedSearchRepository.class);
+        gitHubService = mock(GitHubService.class);
+        requestScheduler = mock(GitHubRequestScheduler.class);
+        searchDemand = new SearchDemand(true, 10_000);
+        refresher = new TrackedSearchRefresher(repository,
+                new DatabaseConcurrencyLimiter(1, Duration.ofSeconds(1)), gitHubService, requestScheduler, searchDemand,
+                0.5, 1, Duration.ofMinutes(15), Duration.ofHours(24), Clock.fixed(NOW, ZoneOffset.UTC));
+
+        when(gitHubService.refreshRepositories(any(), any()))
+                .thenReturn(new RefreshResult(SearchResponseDto.builder().build(), MARK));
+    }
+
+    @AfterEach
+    void tearDown() {
+        refresher.shutdown();
+    }
+
+    @Test
+    void refreshesNeverRefreshedThenStalestAndMostRequestedFirst() {
+        TrackedSearchEntity fresh = tracked(1L, "fresh", NOW.minus(Duration.ofMinutes(5)), 1000);
+        TrackedSearchEntity stale = tracked(2L, "stale", NOW.minus(Duration.ofHours(2)), 0);
+        TrackedSearchEntity popular = tracked(3L, "popular", NOW.minus(Duration.ofHours(1)), 100);
+        TrackedSearchEntity never = tracked(4L, "never", null, 0);
+
+        when(repository.findAll()).thenReturn(List.of(fresh, stale, popular, never));
+        when(requestScheduler.quota()).thenReturn(new QuotaSnapshot(30, 30, 0));
+
+        assertEquals(3, refresher.refreshDue());
+
+        ArgumentCaptor<SearchRequestDto> requests = ArgumentCaptor.forClass(SearchRequestDto.class);
+        verify(gitHubService, times(3)).refreshRepositories(requests.capture(), any());
+        assertEquals(List.of("never", "popular", "stale"),
+                requests.getAllValues().stream().map(SearchRequestDto::getQuery).toList());
+
+        assertEquals(NOW, stale.getLastRefreshedAt());
+        assertNull(fresh.getLastError());
+        verify(repository, never()).recordRefresh(eq(1L), any(), any(), any(), any());
+    }
+
+    @Test
+    void staysWithinShareOfQuota() {
+        TrackedSearchEntity allPages = tracked(1L, "all", null, 0);
+        allPages.setFetchAllPages(true);
+        TrackedSearchEntity first = tracked(2L, "first", NOW.minus(Duration.ofHours(3)), 0);
+        TrackedSearchEntity second = tracked(3L, "second", NOW.minus(Duration.ofHours(2)), 0);
+
+        when(repository.findAll()).thenReturn(List.of(allPages, first, second));
+        // Share is 0.5 of 10, so the fetch-all-pages search (cost 10) does not fit
+        when(requestScheduler.quota()).thenReturn(new QuotaSnapshot(10, 10, 1_000));
+
+        assertEquals(2, refresher.refreshDue());
+
+        // Same window: the share is partially used up already
+        assertEquals(2, refreshAgain(first, second));
+        assertEquals(1, refreshAgain(first, second));
+        assertEquals(0, refreshAgain(first, second));
+
+        // New window
+        when(requestScheduler.quota()).thenReturn(new QuotaSnapshot(10, 10, 2_000));
+        assertEquals(2, refreshAgain(first, second));
+
+        verify(gitHubService, never()).refreshRepositories(
+                argThat(request -> Boolean.TRUE.equals(request.getFetchAllPages())), any());
+    }
+
+    @Test
+    void recordsFailuresAndAddsDemand() {
+        TrackedSearchEntity failing = tracked(1L, "failing", null, 0);
+        when(repository.findAll()).thenReturn(List.of(failing));
+        when(requestScheduler.quota()).thenReturn(new QuotaSnapshot(-1, -1, 0));
+        failing.setHighWaterMark(MARK.minus(Duration.ofHours(1)));
+        when(gitHubService.refreshRepositories(any(), any())).thenThrow(new GitHubApiException("GitHub API error: 503"));
+
+        searchDemand.record(SearchCacheKey.of(SearchRequestDto.builder().query("failing").build()));
+        searchDemand.record(SearchCacheKey.of(SearchRequestDto.builder().query("Failing").build()));
+
+        assertEquals(0, refresher.refreshDue());
+
+        assertEquals("GitHub API error: 503", failing.getLastError());
+        assertNull(failing.getLastRefreshedAt());
+        assertEquals(MARK.minus(Duration.ofHours(1)), failing.getHighWaterMark());
+        verify(repository).recordRefresh(1L, null, null, MARK.minus(Duration.ofHours(1)), "GitHub API error: 503");
+        verify(repository).addRequests(
+                SearchCacheKey.of(SearchRequestDto.builder().query("failing").build()).id(), 2L);
+    }
+
+    @Test
+    void refreshesMostUrgentSearchWhileQuotaIsUnknownWhateverItCosts() {
+        TrackedSearchEntity allPages = tracked(1L, "all", null, 0);
+        allPages.setFetchAllPages(true);
+        TrackedSearchEntity other = tracked(2L, "other", null, 0);
+        other.setFetchAllPages(true);
+
+        when(repository.findAll()).thenReturn(List.of(allPages, other));
+        when(requestScheduler.quota()).thenReturn(new QuotaSnapshot(-1, -1, 0));
+
+        assertEquals(1, refresher.refreshDue());
+
+        verify(gitHubService).refreshRepositories(argThat(request -> "all".equals(request.getQuery())), isNull());
+        verify(gitHubService, never()).refreshRepositories(argThat(request -> "other".equals(request.getQuery())), any());
+    }
+
+    @Test
+    void refreshesSearchCostingMoreThanTheShareOncePerWindow() {
+        TrackedSearchEntity allPages = tracked(1L, "all", null, 0);
+        allPages.setFetchAllPages(true);
+
+        when(repository.findAll()).thenReturn(List.of(allPages));
+        // Share is 0.5 of 10, less than the ten requests reserved for the search
+        when(requestScheduler.quota()).thenReturn(new QuotaSnapshot(10, 10, 1_000));
+        when(gitHubService.refreshRepositories(any(), any())).thenReturn(new RefreshResult(
+                SearchResponseDto.builder().repositories(List.of()).build(), MARK));
+
+        assertEquals(1, refresher.refreshDue());
+        allPages.setLastRefreshedAt(null);
+        assertEquals(0, refresher.refreshDue());
+
+        when(requestScheduler.quota()).thenReturn(new QuotaSnapshot(10, 10, 2_000));
+        assertEquals(1, refresher.refreshDue());
+    }
+
+    @Test
+    void refundsFailedRefreshes() {
+        TrackedSearchEntity first = tracked(1L, "first", NOW.minus(Duration.ofHours(2)), 0);
+        TrackedSearchEntity second = tracked(2L, "second", NOW.minus(Duration.ofHours(1)), 0);
+
+        when(repository.findAll()).thenReturn(List.of(first, second));
+        // Share is 0.5 of 4: both searches fit once
+        when(requestScheduler.quota()).thenReturn(new QuotaSnapshot(4, 4, 1_000));
+        when(gitHubService.refreshRepositories(any(), any())).thenThrow(new GitHubApiException("GitHub API error: 503"));
+
+        assertEquals(0, refresher.refreshDue());
+
+        reset(gitHubService);
+        when(gitHubService.refreshRepositories(any(), any()))
+                .thenReturn(new RefreshResult(SearchResponseDto.builder().build(), MARK));
+
+        assertEquals(2, refresher.refreshDue());
+    }
+
+    @Test
+    void recordsEveryOutcomeWhenOneCannotBeStoredOrWasUntracked() {
+        TrackedSearchEntity broken = tracked(1L, "broken", NOW.minus(Duration.ofHours(3)), 0);
+        TrackedSearchEntity untracked = tracked(2L, "untracked", NOW.minus(Duration.ofHours(2)), 0);
+        TrackedSearchEntity ok = tracked(3L, "ok", NOW.minus(Duration.ofHours(1)), 0);
+
+        when(repository.findAll()).thenReturn(List.of(broken, untracked, ok));
+        when(requestScheduler.quota()).thenReturn(new QuotaSnapshot(30, 30, 0));
+        when(repository.recordRefresh(eq(1L), any(), any(), any(), any()))
+                .thenThrow(new IllegalStateException("connection lost"));
+        when(repository.recordRefresh(eq(2L), any(), any(), any(), any())).thenReturn(0);
+        when(repository.recordRefresh(eq(3L), any(), any(), any(), any())).thenReturn(1);
+
+        assertEquals(2, refresher.refreshDue());
+
+        verify(repository).recordRefresh(eq(3L), eq(NOW), eq(NOW), eq(MARK), isNull());
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    void refreshesIncrementallyUntilFullRefreshIsDue() {
+        TrackedSearchEntity incremental = tracked(1L, "incremental", NOW.minus(Duration.ofHours(1)), 0);
+        incremental.setHighWaterMark(MARK.minus(Duration.ofHours(1)));
+        incremental.setLastFullRefreshAt(NOW.minus(Duration.ofHours(23)));
+        TrackedSearchEntity full = tracked(2L, "full", NOW.minus(Duration.ofHours(1)), 0);
+        full.setHighWaterMark(MARK.minus(Duration.ofHours(1)));
+        full.setLastFullRefreshAt(NOW.minus(Duration.ofHours(25)));
+
+        when(repository.findAll()).thenReturn(List.of(incremental, full));
+        when(requestScheduler.quota()).thenReturn(new QuotaSnapshot(10, 10, 0));
+
+        assertEquals(2, refresher.refreshDue());
+
+        verify(gitHubService).refreshRepositories(
+                argThat(request -> "incremental".equals(request.getQuery())), eq(MARK.minus(Duration.ofHours(1))));
+        verify(gitHubService).refreshRepositories(
+                argThat(request -> "full".equals(request.getQuery())), isNull());
+
+        assertEquals(MARK, incremental.getHighWaterMark());
+        assertEquals(NOW.minus(Duration.ofHours(23)), incremental.getLastFullRefreshAt());
+        assertEquals(MARK, full.getHighWaterMark());
+        assertEquals(NOW, full.getLastFullRefreshAt());
+    }
+
+    @Test
+    void refreshesFullyAfterCutOffIncrementalRefresh() {
+        TrackedSearchEntity search = tracked(1L, "cut", NOW.minus(Duration.ofHours(1)), 0);
+        search.setHighWaterMark(MARK.minus(Duration.ofHours(1)));
+        search.setLastFullRefreshAt(NOW.minus(Duration.ofHours(1)));
+
+        when(repository.findAll()).thenReturn(List.of(search));
+        when(requestScheduler.quota()).thenReturn(new QuotaSnapshot(10, 10, 0));
+        when(gitHubService.refreshRepositories(any(), any()))
+                .thenReturn(new RefreshResult(SearchResponseDto.builder().build(), null))
+                .thenReturn(new RefreshResult(SearchResponseDto.builder().build(), MARK));
+
+        assertEquals(1, refresher.refreshDue());
+        assertEquals(1, refreshAgain(search));
+
+        verify(gitHubService).refreshRepositories(any(), eq(MARK.minus(Duration.ofHours(1))));
+        verify(gitHubService).refreshRepositories(any(), isNull());
+        assertEquals(MARK, search.getHighWaterMark());
+        assertEquals(NOW, search.getLastFullRefreshAt());
+    }
+
+    private int refreshAgain(TrackedSearchEntity... searches) {
+        for (TrackedSearchEntity search : searches) {
+            search.setLastRefreshedAt(NOW.minus(Duration.ofHours(1)));
+        }
+        return refresher.refreshDue();
+    }
+
+    private static TrackedSearchEntity tracked(Long id, String query, Instant lastRefreshedAt, long requestCount) {
+        return TrackedSearchEntity.builder()
+                .id(id)
+                .searchKey(query)
+                .query(query)
+                .requestCount(requestCount)
+                .createdAt(NOW.minus(Duration.ofDays(1)))
+                .lastRefreshedAt(lastRefreshedAt)
+                .build();
+    }
+}